@@ -0,0 +1,131 @@
+package dataStructures.graphs;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BidirectionalSearchBenchmark compares the forward point-to-point searches of
+ * {@link Graph} and {@link Network} with their bidirectional versions, between two
+ * vertices half a grid apart, with random positive weights. Besides the time, each
+ * benchmark reports how many vertices the queries settled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BidirectionalSearchBenchmark {
+
+    @Param({"10", "30", "60"})
+    private int side;
+
+    private Graph<Integer> graph;
+
+    private Network<Integer> network;
+
+    private int start;
+
+    private int target;
+
+    /**
+     * Counts the vertices settled by the queries of one iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SettledCounter {
+
+        public long settled;
+
+        public long queries;
+
+        /**
+         * Resets the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            settled = 0;
+            queries = 0;
+        }
+
+        /**
+         * Records the vertices settled by the last query of a graph.
+         *
+         * @param graph the graph that answered the query
+         */
+        void record(Graph<?> graph) {
+            settled += graph.getLastSettledCount();
+            queries++;
+        }
+    }
+
+    /**
+     * Builds the grid graph and network for the current side.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int size = side * side;
+        graph = new Graph<>(size);
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 2 * size);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+            builder.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    graph.addEdge(index, index + 1);
+                    builder.addEdge(index, index + 1, 1.0 + random.nextInt(10));
+                }
+                if (row + 1 < side) {
+                    graph.addEdge(index, index + side);
+                    builder.addEdge(index, index + side, 1.0 + random.nextInt(10));
+                }
+            }
+        }
+        network = builder.build();
+        start = (side / 4) * side + side / 4;
+        target = (3 * side / 4) * side + 3 * side / 4;
+    }
+
+    @Benchmark
+    public void breadthFirstPath(SettledCounter counter, Blackhole blackhole) throws Exception {
+        GraphBenchmark.consume(graph.iteratorShortestPath(start, target), blackhole);
+        counter.record(graph);
+    }
+
+    @Benchmark
+    public void bidirectionalBreadthFirstPath(SettledCounter counter, Blackhole blackhole) throws Exception {
+        GraphBenchmark.consume(graph.iteratorBidirectionalShortestPath(start, target), blackhole);
+        counter.record(graph);
+    }
+
+    @Benchmark
+    public void dijkstraPath(SettledCounter counter, Blackhole blackhole) {
+        GraphBenchmark.consume(network.iteratorShortestPath(start, target), blackhole);
+        counter.record(network);
+    }
+
+    @Benchmark
+    public void bidirectionalDijkstraPath(SettledCounter counter, Blackhole blackhole) {
+        GraphBenchmark.consume(network.iteratorBidirectionalShortestPath(start, target), blackhole);
+        counter.record(network);
+    }
+}
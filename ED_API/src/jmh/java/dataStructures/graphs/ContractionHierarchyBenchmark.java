@@ -0,0 +1,93 @@
+package dataStructures.graphs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ContractionHierarchyBenchmark compares point-to-point queries answered by the
+ * early-exit binary heap Dijkstra with the same queries answered by a
+ * {@link ContractionHierarchy}, and measures the customisation the hierarchy runs again
+ * after the weights change. The network is a square grid with random positive weights
+ * generated from a fixed seed, and the queries cycle through a fixed list of random pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContractionHierarchyBenchmark {
+    private static final int QUERIES = 64;
+
+    @Param({"30", "100"})
+    private int side;
+
+    private Network<Integer> network;
+    private ContractionHierarchy<Integer> hierarchy;
+    private int[] starts;
+    private int[] targets;
+    private int query;
+
+    /**
+     * Builds the grid, contracts it and draws the list of queries.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int size = side * side;
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 2 * size);
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                if (col + 1 < side) {
+                    builder.addEdge(vertex, vertex + 1, 1.0 + random.nextInt(10));
+                }
+                if (row + 1 < side) {
+                    builder.addEdge(vertex, vertex + side, 1.0 + random.nextInt(10));
+                }
+            }
+        }
+        network = builder.build();
+        hierarchy = network.contractionHierarchy();
+
+        starts = new int[QUERIES];
+        targets = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            starts[q] = random.nextInt(size);
+            targets[q] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public double dijkstraQuery() {
+        int q = query++ & (QUERIES - 1);
+        return network.shortestPathWeight(starts[q], targets[q]);
+    }
+
+    @Benchmark
+    public double hierarchyQuery() {
+        int q = query++ & (QUERIES - 1);
+        return hierarchy.distance(starts[q], targets[q]);
+    }
+
+    @Benchmark
+    public ContractionHierarchy<Integer> customize() {
+        hierarchy.customize();
+        return hierarchy;
+    }
+}
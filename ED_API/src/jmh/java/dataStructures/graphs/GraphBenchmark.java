@@ -0,0 +1,86 @@
+package dataStructures.graphs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GraphBenchmark measures the unweighted traversals of {@link Graph}: breadth-first
+ * and depth-first iteration over the whole graph, the fewest edges path between two
+ * far apart vertices and the connectivity check. The graph is a ring with random
+ * chords, about four edges per vertex, generated from a fixed seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private Graph<Integer> graph;
+
+    /**
+     * Builds the graph for the current size.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        graph = new Graph<>(size);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            graph.addEdge(i, (i + 1) % size);
+            graph.addEdge(i, random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public void breadthFirstTraversal(Blackhole blackhole) throws Exception {
+        consume(graph.iteratorBFS(0), blackhole);
+    }
+
+    @Benchmark
+    public void depthFirstTraversal(Blackhole blackhole) throws Exception {
+        consume(graph.iteratorDFS(0), blackhole);
+    }
+
+    @Benchmark
+    public void fewestEdgesPath(Blackhole blackhole) throws Exception {
+        consume(graph.iteratorFewestEdgesPath(0, size / 2), blackhole);
+    }
+
+    @Benchmark
+    public boolean isConnected() throws Exception {
+        return graph.isConnected();
+    }
+
+    /**
+     * Reads a whole iterator, so that lazy iterators do all their work.
+     *
+     * @param iterator  the iterator to read
+     * @param blackhole the sink for the vertices
+     */
+    static void consume(Iterator<Integer> iterator, Blackhole blackhole) {
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
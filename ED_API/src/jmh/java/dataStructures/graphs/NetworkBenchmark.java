@@ -0,0 +1,74 @@
+package dataStructures.graphs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NetworkBenchmark measures the weighted searches of {@link Network} with every
+ * shortest path algorithm: a single point-to-point query, which early-exit searches
+ * can answer without settling the whole network, and a full shortest path tree.
+ * The network is a ring with random chords and random positive weights, generated
+ * from a fixed seed. The weight matrix takes V^2 doubles, which bounds the sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkBenchmark {
+
+    @Param({"100", "1000", "4000"})
+    private int size;
+
+    @Param({"LINEAR_SCAN_DIJKSTRA", "BINARY_HEAP_DIJKSTRA", "BIDIRECTIONAL_DIJKSTRA", "BELLMAN_FORD", "JOHNSON"})
+    private ShortestPathAlgorithm algorithm;
+
+    private Network<Integer> network;
+
+    /**
+     * Builds the network for the current size and selects the algorithm.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 2 * size);
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            builder.addEdge(i, (i + 1) % size, 1.0 + random.nextInt(10));
+            builder.addEdge(i, random.nextInt(size), 1.0 + random.nextInt(10));
+        }
+        network = builder.build();
+        network.setShortestPathAlgorithm(algorithm);
+    }
+
+    @Benchmark
+    public double shortestPathWeight() {
+        return network.shortestPathWeight(0, size / 2);
+    }
+
+    @Benchmark
+    public void iteratorShortestPath(Blackhole blackhole) {
+        GraphBenchmark.consume(network.iteratorShortestPath(0, size / 2), blackhole);
+    }
+
+    @Benchmark
+    public ShortestPathTree<Integer> shortestPathTree() {
+        return network.shortestPathTree(0);
+    }
+}
@@ -0,0 +1,79 @@
+package dataStructures.graphs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParallelBreadthFirstSearchBenchmark measures how {@link ParallelBreadthFirstSearch}
+ * scales with the number of threads of its pool, next to the sequential breadth-first
+ * iterator over the same graph. The graph has random edges, eight per vertex on
+ * average, generated from a fixed seed. Its adjacency bitset takes V^2 bits, which
+ * bounds the sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelBreadthFirstSearchBenchmark {
+
+    @Param({"10000", "50000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private Graph<Integer> graph;
+    private ForkJoinPool pool;
+
+    /**
+     * Builds the graph for the current size and a pool with the current number of threads.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 4 * size);
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+        }
+        for (int e = 0; e < 4 * size; e++) {
+            builder.addEdge(random.nextInt(size), random.nextInt(size));
+        }
+        graph = builder.buildInto(new Graph<>(size));
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Shuts the pool down.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] parallelSearch() {
+        return graph.parallelBreadthFirstSearch(0, pool).getLevels();
+    }
+
+    @Benchmark
+    public void sequentialIterator(Blackhole blackhole) throws Exception {
+        GraphBenchmark.consume(graph.iteratorBFS(0), blackhole);
+    }
+}
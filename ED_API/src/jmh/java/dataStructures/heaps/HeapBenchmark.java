@@ -0,0 +1,98 @@
+package dataStructures.heaps;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HeapBenchmark measures the heaps of this package by adding a batch of random
+ * keys and removing them all again, which is how a heap is used as a priority queue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private Integer[] keys;
+
+    /**
+     * Generates the keys for the current size from a fixed seed.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(size * 10);
+        }
+    }
+
+    @Benchmark
+    public long arrayHeapAddRemove() throws Exception {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (Integer key : keys) {
+            heap.addElement(key);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.removeMin();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedHeapAddRemove() throws Exception {
+        LinkedHeap<Integer> heap = new LinkedHeap<>();
+        for (Integer key : keys) {
+            heap.addElement(key);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.removeMin();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueueAddRemove() throws Exception {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer key : keys) {
+            queue.addElement(key, key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.removeNext();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexedMinHeapAddRemove() {
+        IndexedMinHeap heap = new IndexedMinHeap(size);
+        for (int i = 0; i < size; i++) {
+            heap.addElement(i, keys[i]);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.removeMin();
+        }
+        return sum;
+    }
+}
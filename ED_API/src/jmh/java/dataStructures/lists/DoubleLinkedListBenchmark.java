@@ -0,0 +1,70 @@
+package dataStructures.lists;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DoubleLinkedListBenchmark measures the linear operations of {@link DoubleLinkedList}
+ * on a list of consecutive integers: finding the last element, getting the middle one
+ * by index and removing an element from the middle, which is added back at the rear
+ * so that the list keeps its size between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleLinkedListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private DoubleUnorderedLinkedList<Integer> list;
+    private Integer middle;
+
+    /**
+     * Fills the list for the current size.
+     */
+    @Setup
+    public void setUp() {
+        list = new DoubleUnorderedLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.addToRear(i);
+        }
+        middle = size / 2;
+    }
+
+    @Benchmark
+    public boolean containsLast() {
+        return list.contains(size - 1);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer removeMiddle() throws Exception {
+        Integer removed = list.remove(middle);
+        list.addToRear(removed);
+        return removed;
+    }
+}
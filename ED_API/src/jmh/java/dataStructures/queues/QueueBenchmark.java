@@ -0,0 +1,71 @@
+package dataStructures.queues;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueueBenchmark compares the queues of this package by filling each one with a
+ * batch of integers and emptying it again. {@link IntArrayQueue} holds primitive
+ * values and shows the cost of boxing and of allocating a node per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Benchmark
+    public long circularArrayQueue() {
+        CircularArrayQueue<Integer> queue = new CircularArrayQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long linkedQueue() throws Exception {
+        LinkedQueue<Integer> queue = new LinkedQueue<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intArrayQueue() {
+        IntArrayQueue queue = new IntArrayQueue();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.dequeue();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,57 @@
+package dataStructures.stacks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StackBenchmark compares {@link LinkedStack} with {@link IntArrayStack} by pushing a
+ * batch of integers and popping them all again. Run it with {@code -prof gc} to see
+ * the allocation saved by not boxing the values or creating a node for each one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Benchmark
+    public long linkedStack() throws Exception {
+        LinkedStack<Integer> stack = new LinkedStack<>();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intArrayStack() {
+        IntArrayStack stack = new IntArrayStack();
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        long sum = 0;
+        while (!stack.isEmpty()) {
+            sum += stack.pop();
+        }
+        return sum;
+    }
+}
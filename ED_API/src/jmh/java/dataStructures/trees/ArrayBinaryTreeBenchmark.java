@@ -0,0 +1,58 @@
+package dataStructures.trees;
+
+import dataStructures.heaps.ArrayHeap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArrayBinaryTreeBenchmark measures {@link ArrayBinaryTree#find(Object)}, a linear
+ * scan of the array. The tree has no insertion method of its own, so it is filled
+ * through {@link ArrayHeap}, which stores consecutive integers in the same array
+ * order they are added in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBinaryTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ArrayBinaryTree<Integer> tree;
+
+    /**
+     * Fills the tree for the current size.
+     */
+    @Setup
+    public void setUp() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (int i = 0; i < size; i++) {
+            heap.addElement(i);
+        }
+        tree = heap;
+    }
+
+    @Benchmark
+    public Integer findLast() {
+        return tree.find(size - 1);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return tree.contains(-1);
+    }
+}
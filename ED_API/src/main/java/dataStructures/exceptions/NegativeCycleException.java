@@ -0,0 +1,18 @@
+package dataStructures.exceptions;
+
+/**
+ * Exception thrown when a shortest path is requested in a network that contains
+ * a cycle of negative total weight, for which no shortest path exists.
+ */
+public class NegativeCycleException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new NegativeCycleException with the specified detail message.
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public NegativeCycleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,220 @@
+package dataStructures.graphs;
+
+import dataStructures.heaps.IndexedMinHeap;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * AllPairsShortestPaths holds the distance and the next hop between every pair of
+ * vertices of a network, computed by one Dijkstra search per vertex over the common
+ * fork/join pool. It refuses to answer once the network has been changed.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class AllPairsShortestPaths<T> {
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    private final Network<T> network;
+    private final int modCount;
+    private final int size;
+    private final double[] distances;
+    private final int[] nextHops;
+
+    /**
+     * Computes the shortest paths between every pair of vertices of the network.
+     *
+     * @param network    the network to search, which must not change meanwhile
+     * @param potentials the vertex potentials used to reweight the edges, or null for none
+     */
+    AllPairsShortestPaths(Network<T> network, double[] potentials) {
+        this.network = network;
+        this.modCount = network.getModCount();
+        this.size = network.size();
+        this.distances = new double[size * size];
+        this.nextHops = new int[size * size];
+
+        if (size > 0) {
+            ForkJoinPool.commonPool().invoke(new RowTask(potentials, 0, size));
+        }
+    }
+
+    /**
+     * Checks whether the network is still as it was when these paths were computed.
+     *
+     * @return true if the network has not changed since, false otherwise
+     */
+    public boolean isCurrent() {
+        return network.getModCount() == modCount;
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return the weight of the shortest path, or Double.POSITIVE_INFINITY if there is none
+     * @throws NoSuchElementException if either vertex is not found
+     * @throws ConcurrentModificationException if the network changed after the paths were computed
+     */
+    public double distance(T startVertex, T targetVertex) {
+        int startIndex = indexOf(startVertex);
+        int targetIndex = indexOf(targetVertex);
+        return distances[targetIndex * size + startIndex];
+    }
+
+    /**
+     * Returns the vertex that follows the start vertex on the shortest path to the target.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return the next vertex, or null if both are the same vertex or there is no path
+     * @throws NoSuchElementException if either vertex is not found
+     * @throws ConcurrentModificationException if the network changed after the paths were computed
+     */
+    public T nextHop(T startVertex, T targetVertex) {
+        int startIndex = indexOf(startVertex);
+        int targetIndex = indexOf(targetVertex);
+        int next = nextHops[targetIndex * size + startIndex];
+        return next == -1 ? null : network.getVertex(next);
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest path between two vertices.
+     * The iterator is lazy and follows one next hop on each call to {@code next()}.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices in the shortest path, empty if there is none
+     * @throws NoSuchElementException if either vertex is not found
+     * @throws ConcurrentModificationException if the network changed after the paths were computed
+     */
+    public Iterator<T> iteratorPath(T startVertex, T targetVertex) {
+        int startIndex = indexOf(startVertex);
+        int targetIndex = indexOf(targetVertex);
+        int row = targetIndex * size;
+
+        int first = distances[row + startIndex] != Double.POSITIVE_INFINITY ? startIndex : -1;
+        return new PathIterator(row, first);
+    }
+
+    /**
+     * Returns the index of a vertex in the network, making sure the network has not changed.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws ConcurrentModificationException if the network changed after the paths were computed
+     */
+    private int indexOf(T vertex) {
+        if (!isCurrent()) {
+            throw new ConcurrentModificationException("The network changed after the paths were computed");
+        }
+        return network.getIndex(vertex);
+    }
+
+    /**
+     * PathIterator follows the next hops of one row from the start of a path.
+     */
+    private class PathIterator implements Iterator<T> {
+        private final int row;
+        private int nextIndex;
+
+        /**
+         * Creates an iterator over the path to the vertex of a row.
+         *
+         * @param row   the offset of the row of the target vertex
+         * @param first the index of the first vertex, or -1 for an empty path
+         */
+        PathIterator(int row, int first) {
+            this.row = row;
+            this.nextIndex = first;
+        }
+
+        /**
+         * Checks whether the path has more vertices.
+         *
+         * @return true if the path has more vertices, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex != -1;
+        }
+
+        /**
+         * Returns the next vertex of the path.
+         *
+         * @return the next vertex
+         * @throws NoSuchElementException if the path is over
+         * @throws ConcurrentModificationException if the network changed after the paths were computed
+         */
+        @Override
+        public T next() {
+            if (!isCurrent()) {
+                throw new ConcurrentModificationException("The network changed after the paths were computed");
+            }
+            if (nextIndex == -1) {
+                throw new NoSuchElementException("The path is over");
+            }
+            int current = nextIndex;
+            nextIndex = nextHops[row + current];
+            return network.getVertex(current);
+        }
+    }
+
+    /**
+     * RowTask computes a range of rows, splitting it in halves run in parallel until
+     * it is small enough to be searched sequentially with one set of buffers.
+     */
+    private class RowTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final double[] potentials;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the rows in {@code [from, to)}.
+         *
+         * @param potentials the vertex potentials, or null for none
+         * @param from       the first row
+         * @param to         the row after the last one
+         */
+        RowTask(double[] potentials, int from, int to) {
+            this.potentials = potentials;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Computes the rows of this task.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                computeRows();
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(potentials, from, middle), new RowTask(potentials, middle, to));
+            }
+        }
+
+        /**
+         * Searches every row of this task, copying each tree into the matrices.
+         */
+        private void computeRows() {
+            int[] sourceBuffer = new int[1];
+            double[] rowDistances = new double[size];
+            int[] rowPrevious = new int[size];
+            boolean[] tight = new boolean[size];
+            IndexedMinHeap frontier = new IndexedMinHeap(size);
+
+            for (int row = from; row < to; row++) {
+                network.shortestPathRow(row, potentials, sourceBuffer, rowDistances, rowPrevious, tight, frontier);
+                System.arraycopy(rowDistances, 0, distances, row * size, size);
+                System.arraycopy(rowPrevious, 0, nextHops, row * size, size);
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package dataStructures.graphs;
+
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/**
+ * Biconnectivity holds the bridges and the articulation points of an undirected graph,
+ * found with Tarjan's depth-first search in O(V + E) time. Its queries throw
+ * {@link ConcurrentModificationException} once a vertex or an edge is added or removed.
+ *
+ * @param <T> the type of elements stored in the vertices of the graph
+ */
+public class Biconnectivity<T> {
+    private final Graph<T> graph;
+    private final int structureModCount;
+    private final int[] parents;
+    private final boolean[] bridgeToParent;
+    private final boolean[] articulation;
+    private final int[] bridgeChildren;
+    private int bridgeCount;
+    private int articulationCount;
+
+    /**
+     * Searches a graph for its bridges and articulation points.
+     *
+     * @param graph the graph to search
+     * @throws UnsupportedOperationException if the edges of the graph are directed
+     */
+    Biconnectivity(Graph<T> graph) {
+        if (!graph.hasSymmetricAdjacency()) {
+            throw new UnsupportedOperationException("Biconnectivity requires an undirected graph");
+        }
+        int size = graph.numVertices;
+        this.graph = graph;
+        this.structureModCount = graph.getStructureModCount();
+        this.parents = new int[size];
+        this.bridgeToParent = new boolean[size];
+        this.articulation = new boolean[size];
+        this.bridgeChildren = new int[Math.max(0, size - 1)];
+
+        int[] discovery = new int[size];
+        int[] low = new int[size];
+        int[] nextEdge = new int[size];
+        int[] stack = new int[size];
+        int time = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (discovery[root] != 0) {
+                continue;
+            }
+
+            int rootChildren = 0;
+            int top = 0;
+            parents[root] = -1;
+            discovery[root] = ++time;
+            low[root] = time;
+            stack[top++] = root;
+
+            while (top > 0) {
+                int u = stack[top - 1];
+
+                if (nextEdge[u] < graph.degrees[u]) {
+                    int v = graph.adjList[u][nextEdge[u]++];
+                    if (discovery[v] == 0) {
+                        parents[v] = u;
+                        discovery[v] = ++time;
+                        low[v] = time;
+                        stack[top++] = v;
+                        if (u == root) {
+                            rootChildren++;
+                        }
+                    } else if (v != parents[u]) {
+                        low[u] = Math.min(low[u], discovery[v]);
+                    }
+                } else {
+                    top--;
+                    int p = parents[u];
+                    if (p == -1) {
+                        continue;
+                    }
+
+                    low[p] = Math.min(low[p], low[u]);
+                    if (low[u] > discovery[p]) {
+                        bridgeToParent[u] = true;
+                        bridgeChildren[bridgeCount++] = u;
+                    }
+                    if (p != root && low[u] >= discovery[p] && !articulation[p]) {
+                        articulation[p] = true;
+                        articulationCount++;
+                    }
+                }
+            }
+
+            if (rootChildren > 1) {
+                articulation[root] = true;
+                articulationCount++;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the vertices and edges of the graph are still the ones searched.
+     *
+     * @return true if the graph has not changed, false otherwise
+     */
+    public boolean isCurrent() {
+        return graph.getStructureModCount() == structureModCount;
+    }
+
+    /**
+     * Checks whether the edge between two vertices is a bridge, so that removing it
+     * would disconnect them.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if there is an edge between the vertices and it is a bridge, false otherwise
+     * @throws NoSuchElementException          if either vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public boolean isBridge(T vertex1, T vertex2) {
+        checkCurrent();
+        int index1 = indexOf(vertex1);
+        int index2 = indexOf(vertex2);
+
+        return (parents[index2] == index1 && bridgeToParent[index2])
+                || (parents[index1] == index2 && bridgeToParent[index1]);
+    }
+
+    /**
+     * Checks whether a vertex is an articulation point, so that removing it would split
+     * its component.
+     *
+     * @param vertex the vertex
+     * @return true if the vertex is an articulation point, false otherwise
+     * @throws NoSuchElementException          if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public boolean isArticulationPoint(T vertex) {
+        checkCurrent();
+        return articulation[indexOf(vertex)];
+    }
+
+    /**
+     * Returns the number of bridges of the graph.
+     *
+     * @return the number of bridges
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public int getBridgeCount() {
+        checkCurrent();
+        return bridgeCount;
+    }
+
+    /**
+     * Returns the end of a bridge that was discovered first by the search, the one
+     * closer to the root of its tree.
+     *
+     * @param position the position of the bridge, in the order the search found them
+     * @return one end of the bridge
+     * @throws IndexOutOfBoundsException       if there is no bridge at that position
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public T getBridgeStart(int position) {
+        return graph.vertices[parents[bridgeChild(position)]];
+    }
+
+    /**
+     * Returns the end of a bridge that was discovered last by the search, whose subtree
+     * the bridge cuts off.
+     *
+     * @param position the position of the bridge, in the order the search found them
+     * @return the other end of the bridge
+     * @throws IndexOutOfBoundsException       if there is no bridge at that position
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public T getBridgeEnd(int position) {
+        return graph.vertices[bridgeChild(position)];
+    }
+
+    /**
+     * Returns the number of articulation points of the graph.
+     *
+     * @return the number of articulation points
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public int getArticulationPointCount() {
+        checkCurrent();
+        return articulationCount;
+    }
+
+    /**
+     * Returns a double unordered linked list with the articulation points of the graph,
+     * in the order of their indices.
+     *
+     * @return the articulation points
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    public DoubleUnorderedLinkedList<T> getArticulationPoints() {
+        checkCurrent();
+        DoubleUnorderedLinkedList<T> points = new DoubleUnorderedLinkedList<>();
+        for (int i = 0; i < articulation.length; i++) {
+            if (articulation[i]) {
+                points.addToRear(graph.vertices[i]);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Returns the lower end of a bridge, which identifies it.
+     *
+     * @param position the position of the bridge
+     * @return the index of the vertex below the bridge
+     * @throws IndexOutOfBoundsException       if there is no bridge at that position
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    private int bridgeChild(int position) {
+        checkCurrent();
+        if (position < 0 || position >= bridgeCount) {
+            throw new IndexOutOfBoundsException("Invalid bridge: " + position);
+        }
+        return bridgeChildren[position];
+    }
+
+    /**
+     * Returns the index of a vertex of the graph.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws NoSuchElementException if the vertex is not found
+     */
+    private int indexOf(T vertex) {
+        int index = graph.getIndex(vertex);
+        if (index < 0 || index >= parents.length) {
+            throw new NoSuchElementException("Vertex not found: " + vertex);
+        }
+        return index;
+    }
+
+    /**
+     * Makes sure the topology has not changed since the search.
+     *
+     * @throws ConcurrentModificationException if the graph changed after the search
+     */
+    private void checkCurrent() {
+        if (!isCurrent()) {
+            throw new ConcurrentModificationException("The graph changed after the search");
+        }
+    }
+}
@@ -0,0 +1,542 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * CompactNetwork represents an immutable compressed sparse row (CSR) implementation
+ * of a weighted undirected graph, whose memory grows with the number of edges. Instances are created with {@link NetworkBuilder#freeze()} or taken from a
+ * mutable network with {@link Network#snapshot()}.
+ *
+ * <p>Any number of threads can query a compact network at the same time, each changing
+ * weights in its own {@link WeightOverlay}.</p>
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class CompactNetwork<T> implements NetworkADT<T> {
+    private static final String IMMUTABLE_ERROR = "CompactNetwork is immutable, use a NetworkBuilder";
+
+    private final T[] vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final int numVertices;
+    private final VertexIndexMap<T> vertexIndex;
+
+    /**
+     * Creates a compact network from its CSR arrays.
+     *
+     * @param vertices the vertices, indexed by vertex index
+     * @param offsets  the row offsets, with one more entry than there are vertices
+     * @param targets  the neighbour indices grouped by row
+     * @param weights  the edge weights matching {@code targets}
+     */
+    CompactNetwork(T[] vertices, int[] offsets, int[] targets, double[] weights) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.numVertices = vertices.length;
+        this.vertexIndex = new VertexIndexMap<>(vertices.length);
+
+        for (int i = 0; i < numVertices; i++) {
+            vertexIndex.put(vertices[i], i);
+        }
+    }
+
+    /**
+     * Creates a compact network with the vertices and the edges of another one and its
+     * own weights. The arrays and the vertex index are shared, not copied.
+     *
+     * @param topology the network whose vertices and edges are shared
+     * @param weights  the edge weights matching the targets of the other network
+     */
+    CompactNetwork(CompactNetwork<T> topology, double[] weights) {
+        this.vertices = topology.vertices;
+        this.offsets = topology.offsets;
+        this.targets = topology.targets;
+        this.weights = weights;
+        this.numVertices = topology.numVertices;
+        this.vertexIndex = topology.vertexIndex;
+    }
+
+    /**
+     * Not supported, a compact network cannot be modified.
+     *
+     * @param vertex the vertex to add
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addVertex(T vertex) {
+        throw new UnsupportedOperationException(IMMUTABLE_ERROR);
+    }
+
+    /**
+     * Not supported, a compact network cannot be modified.
+     *
+     * @param vertex the vertex to remove
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeVertex(T vertex) {
+        throw new UnsupportedOperationException(IMMUTABLE_ERROR);
+    }
+
+    /**
+     * Not supported, a compact network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException(IMMUTABLE_ERROR);
+    }
+
+    /**
+     * Not supported, a compact network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @param weight  the weight of the edge
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        throw new UnsupportedOperationException(IMMUTABLE_ERROR);
+    }
+
+    /**
+     * Not supported, a compact network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        throw new UnsupportedOperationException(IMMUTABLE_ERROR);
+    }
+
+    /**
+     * Checks if there is an edge between two vertices, in O(degree) time.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if there is an edge, false otherwise
+     * @throws NoSuchElementException if either vertex is not found
+     */
+    public boolean isAdjacent(T vertex1, T vertex2) {
+        return edgeSlot(getIndex(vertex1), getIndex(vertex2)) != -1;
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the edge, or Double.POSITIVE_INFINITY if no edge exists
+     * @throws NoSuchElementException if either vertex is not found
+     */
+    public double getEdgeWeight(T vertex1, T vertex2) {
+        int slot = edgeSlot(getIndex(vertex1), getIndex(vertex2));
+        return slot == -1 ? Double.POSITIVE_INFINITY : weightAt(slot);
+    }
+
+    /**
+     * Returns a weight overlay of this network, a view that starts with the weights of
+     * this network and keeps its own weight changes.
+     *
+     * @return a new weight overlay of this network
+     */
+    public WeightOverlay<T> overlay() {
+        return new WeightOverlay<>(this, weights);
+    }
+
+    /**
+     * Returns an iterator for a breadth-first traversal starting from the specified vertex.
+     *
+     * @param startVertex the starting vertex for the traversal
+     * @return an iterator for breadth-first traversal
+     * @throws IllegalArgumentException if the start vertex is not found in the network
+     */
+    @Override
+    public Iterator<T> iteratorBFS(T startVertex) {
+        int startIndex = requireIndex(startVertex);
+        DoubleUnorderedLinkedList<T> resultList = new DoubleUnorderedLinkedList<>();
+        int[] queue = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail) {
+            int x = queue[head++];
+            resultList.addToRear(vertices[x]);
+
+            for (int k = offsets[x]; k < offsets[x + 1]; k++) {
+                int y = targets[k];
+                if (!visited[y]) {
+                    visited[y] = true;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns an iterator for a depth-first traversal starting from the specified vertex.
+     *
+     * @param startVertex the starting vertex for the traversal
+     * @return an iterator for depth-first traversal
+     * @throws IllegalArgumentException if the start vertex is not found in the network
+     */
+    @Override
+    public Iterator<T> iteratorDFS(T startVertex) {
+        int startIndex = requireIndex(startVertex);
+        DoubleUnorderedLinkedList<T> resultList = new DoubleUnorderedLinkedList<>();
+        int[] stack = new int[numVertices];
+        int[] nextEdge = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int top = 0;
+
+        stack[top++] = startIndex;
+        nextEdge[startIndex] = offsets[startIndex];
+        visited[startIndex] = true;
+        resultList.addToRear(vertices[startIndex]);
+
+        while (top > 0) {
+            int x = stack[top - 1];
+
+            if (nextEdge[x] == offsets[x + 1]) {
+                top--;
+            } else {
+                int y = targets[nextEdge[x]];
+                nextEdge[x]++;
+                if (!visited[y]) {
+                    visited[y] = true;
+                    nextEdge[y] = offsets[y];
+                    stack[top++] = y;
+                    resultList.addToRear(vertices[y]);
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest weighted path from
+     * startVertex to targetVertex. The iterator is empty if the target is unreachable.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices in the shortest path
+     * @throws IllegalArgumentException if either vertex is not found in the network
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        int startIndex = requireIndex(startVertex);
+        int targetIndex = requireIndex(targetVertex);
+
+        int[] previousVertices = new int[numVertices];
+        double[] distances = dijkstra(startIndex, previousVertices);
+
+        DoubleUnorderedLinkedList<T> path = new DoubleUnorderedLinkedList<>();
+        if (distances[targetIndex] != Double.POSITIVE_INFINITY) {
+            for (int at = targetIndex; at != -1; at = previousVertices[at]) {
+                path.addToFront(vertices[at]);
+            }
+        }
+
+        return path.iterator();
+    }
+
+    /**
+     * Returns the weight of the shortest path in this network.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the shortest path, or Double.POSITIVE_INFINITY if unreachable
+     * @throws IllegalArgumentException if either vertex is not found in the network
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    @Override
+    public double shortestPathWeight(T vertex1, T vertex2) {
+        int startIndex = requireIndex(vertex1);
+        int targetIndex = requireIndex(vertex2);
+
+        return dijkstra(startIndex, new int[numVertices])[targetIndex];
+    }
+
+    /**
+     * Calculates the dijkstra algorithm over the CSR arrays with an indexed binary heap.
+     *
+     * @param startIndex       the start index
+     * @param previousVertices the array of values of previous vertices
+     * @return an array of double with the distances
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    protected double[] dijkstra(int startIndex, int[] previousVertices) {
+        double[] distances = new double[numVertices];
+        boolean[] tight = new boolean[numVertices];
+        IndexedMinHeap frontier = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            previousVertices[i] = -1;
+        }
+        distances[startIndex] = 0;
+        frontier.addElement(startIndex, 0);
+
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            tight[u] = true;
+
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                int z = targets[k];
+                if (!tight[z]) {
+                    double weight = weightAt(k);
+                    if (weight < 0) {
+                        throw new NegativeCycleException(Network.NEGATIVE_WEIGHT_ERROR);
+                    }
+                    double newDistance = distances[u] + weight;
+                    if (newDistance < distances[z]) {
+                        distances[z] = newDistance;
+                        previousVertices[z] = u;
+                        frontier.addOrDecreaseKey(z, newDistance);
+                    }
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Checks if the network is empty.
+     *
+     * @return true if the network is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks if the network is connected, in O(V + E) time.
+     *
+     * @return true if the network is connected, false otherwise
+     */
+    @Override
+    public boolean isConnected() {
+        if (numVertices <= 1) {
+            return true;
+        }
+
+        int[] queue = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int x = queue[head++];
+            for (int k = offsets[x]; k < offsets[x + 1]; k++) {
+                int y = targets[k];
+                if (!visited[y]) {
+                    visited[y] = true;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        return tail == numVertices;
+    }
+
+    /**
+     * Returns the number of vertices in the network.
+     *
+     * @return the number of vertices in the network
+     */
+    @Override
+    public int size() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of directed edge entries stored, which is twice the number
+     * of undirected edges that are not self loops.
+     *
+     * @return the number of stored edge entries
+     */
+    public int edgeEntryCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the number of neighbours of the vertex at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the degree of the vertex
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int degree(int index) {
+        checkIndex(index);
+        return offsets[index + 1] - offsets[index];
+    }
+
+    /**
+     * Returns the index of a given vertex.
+     *
+     * @param vertex the vertex to find the index of
+     * @return the index of the vertex
+     * @throws NoSuchElementException if the vertex is not found
+     */
+    public int getIndex(T vertex) {
+        int index = vertexIndex.get(vertex);
+        if (index == -1) {
+            throw new NoSuchElementException("Vertex not found: " + vertex);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the vertex based on the index.
+     *
+     * @param index the index of the vertex to find
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public T getVertex(int index) {
+        checkIndex(index);
+        return vertices[index];
+    }
+
+    /**
+     * Returns a double unordered linked list with all the vertices.
+     *
+     * @return a double unordered linked list with all the vertices
+     */
+    public DoubleUnorderedLinkedList<T> getVertices() {
+        DoubleUnorderedLinkedList<T> verticesList = new DoubleUnorderedLinkedList<>();
+        for (int i = 0; i < numVertices; i++) {
+            verticesList.addToRear(vertices[i]);
+        }
+        return verticesList;
+    }
+
+    /**
+     * Returns a double unordered linked list with the adjacent vertices, in O(degree) time.
+     *
+     * @param vertex the vertex whose neighbours are returned
+     * @return a double unordered linked list with all the adjacent vertices
+     * @throws IllegalArgumentException if the vertex is not found in the network
+     */
+    public DoubleUnorderedLinkedList<T> getAdjacentVertices(T vertex) {
+        int index = requireIndex(vertex);
+
+        DoubleUnorderedLinkedList<T> adjacentVertices = new DoubleUnorderedLinkedList<>();
+        for (int k = offsets[index]; k < offsets[index + 1]; k++) {
+            adjacentVertices.addToRear(vertices[targets[k]]);
+        }
+        return adjacentVertices;
+    }
+
+    /**
+     * Checks whether the network contains the specified vertex.
+     *
+     * @param vertex the vertex to check for existence in the network
+     * @return true if the network contains the vertex, false otherwise
+     */
+    public boolean contains(T vertex) {
+        return vertexIndex.get(vertex) != -1;
+    }
+
+    /**
+     * Returns the weight stored at a position of the CSR arrays.
+     *
+     * @param slot the position of the edge
+     * @return the weight of the edge
+     */
+    double weightAt(int slot) {
+        return weights[slot];
+    }
+
+    /**
+     * Returns the first position in the CSR arrays of the neighbours of a vertex, or the
+     * number of stored edge entries for the index one past the last vertex.
+     *
+     * @param index the index of the vertex, up to the number of vertices
+     * @return the row offset of the vertex
+     */
+    int offsetAt(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Returns the neighbour stored at a position of the CSR arrays.
+     *
+     * @param slot the position of the edge
+     * @return the index of the neighbour
+     */
+    int targetAt(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * Returns the position in the CSR arrays of the edge between two vertex indices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the position of the edge, or -1 if there is no such edge
+     */
+    int edgeSlot(int index1, int index2) {
+        for (int k = offsets[index1]; k < offsets[index1 + 1]; k++) {
+            if (targets[k] == index2) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of a vertex, translating a missing vertex into an
+     * IllegalArgumentException as the traversal methods of {@link Graph} do.
+     *
+     * @param vertex the vertex to find
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not found
+     */
+    private int requireIndex(T vertex) {
+        int index = vertexIndex.get(vertex);
+        if (index != -1) {
+            return index;
+        }
+        throw new IllegalArgumentException("Vertex not found in the network: " + vertex);
+    }
+
+    /**
+     * Checks that the given index is valid.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= numVertices) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.stacks.IntArrayStack;
+
+import java.util.ConcurrentModificationException;
+
+/**
+ * ContractionHierarchy answers shortest path queries by searching upwards from both
+ * ends over the shortcut arcs left by contracting the vertices in minimum degree order.
+ * It is customisable: the contraction depends on the topology alone, and the weights
+ * are applied again on the first query after they change. It refuses to answer once the
+ * vertices or edges change. Weights must be non-negative.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class ContractionHierarchy<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final Network<T> network;
+    private final int structureModCount;
+    private int modCount;
+    private boolean customized;
+    private final int size;
+    private final int[] order;
+    private final int[] rank;
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] middles;
+
+    private final double[] forwardDistances;
+    private final double[] backwardDistances;
+    private final int[] forwardPrevious;
+    private final int[] backwardPrevious;
+    private final IndexedMinHeap forwardFrontier;
+    private final IndexedMinHeap backwardFrontier;
+    private final int[] touched;
+    private int touchedCount;
+    private final IntArrayStack unpackStack;
+    private int[] pathBuffer;
+    private int pathLength;
+
+    /**
+     * Contracts the topology of a network. The weights are applied by the first query.
+     *
+     * @param network the network to contract
+     */
+    ContractionHierarchy(Network<T> network) {
+        this.network = network;
+        this.structureModCount = network.getStructureModCount();
+        this.size = network.size();
+        this.order = new int[size];
+        this.rank = new int[size];
+        this.upOffsets = new int[size + 1];
+
+        int[][] upward = contract();
+        for (int v = 0; v < size; v++) {
+            upOffsets[v + 1] = upOffsets[v] + upward[v].length;
+        }
+        this.upTargets = new int[upOffsets[size]];
+        for (int v = 0; v < size; v++) {
+            System.arraycopy(upward[v], 0, upTargets, upOffsets[v], upward[v].length);
+        }
+        this.upWeights = new double[upTargets.length];
+        this.middles = new int[upTargets.length];
+
+        this.forwardDistances = new double[size];
+        this.backwardDistances = new double[size];
+        this.forwardPrevious = new int[size];
+        this.backwardPrevious = new int[size];
+        for (int v = 0; v < size; v++) {
+            forwardDistances[v] = Double.POSITIVE_INFINITY;
+            backwardDistances[v] = Double.POSITIVE_INFINITY;
+        }
+        this.forwardFrontier = new IndexedMinHeap(size);
+        this.backwardFrontier = new IndexedMinHeap(size);
+        this.touched = new int[size];
+        this.unpackStack = new IntArrayStack();
+        this.pathBuffer = new int[DEFAULT_CAPACITY];
+        this.customized = false;
+    }
+
+    /**
+     * Checks whether the vertices and edges of the network are still the ones the
+     * hierarchy was built for.
+     *
+     * @return true if the topology has not changed, false otherwise
+     */
+    public boolean isCurrent() {
+        return network.getStructureModCount() == structureModCount;
+    }
+
+    /**
+     * Returns the number of arcs of the hierarchy, original edges and shortcuts together.
+     *
+     * @return the number of upward arcs
+     */
+    public int getArcCount() {
+        return upTargets.length;
+    }
+
+    /**
+     * Applies the current weights of the network to the hierarchy without contracting
+     * it again. Shortcuts between vertices that are not adjacent start at infinity.
+     *
+     * @throws NegativeCycleException if an edge has a negative weight
+     * @throws ConcurrentModificationException if the topology changed after the hierarchy was built
+     */
+    public void customize() {
+        checkCurrent();
+
+        for (int v = 0; v < size; v++) {
+            for (int k = upOffsets[v]; k < upOffsets[v + 1]; k++) {
+                double weight = network.hasEdge(v, upTargets[k])
+                        ? network.getWeightMatrixValue(v, upTargets[k]) : Double.POSITIVE_INFINITY;
+                if (weight < 0) {
+                    throw new NegativeCycleException(Network.NEGATIVE_WEIGHT_ERROR);
+                }
+                upWeights[k] = weight;
+                middles[k] = -1;
+            }
+        }
+
+        for (int r = 0; r < size; r++) {
+            int v = order[r];
+            for (int i = upOffsets[v]; i < upOffsets[v + 1]; i++) {
+                if (upWeights[i] == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = i + 1; j < upOffsets[v + 1]; j++) {
+                    double through = upWeights[i] + upWeights[j];
+                    int a = upTargets[i];
+                    int b = upTargets[j];
+                    int arc = rank[a] < rank[b] ? arcIndex(a, b) : arcIndex(b, a);
+                    if (through < upWeights[arc]) {
+                        upWeights[arc] = through;
+                        middles[arc] = v;
+                    }
+                }
+            }
+        }
+
+        modCount = network.getModCount();
+        customized = true;
+    }
+
+    /**
+     * Returns the weight of the shortest path between two vertices.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return the weight of the shortest path, or Double.POSITIVE_INFINITY if there is none
+     * @throws java.util.NoSuchElementException if either vertex is not found
+     * @throws NegativeCycleException if the hierarchy is customised again and an edge has a negative weight
+     * @throws ConcurrentModificationException if the topology changed after the hierarchy was built
+     */
+    public double distance(T startVertex, T targetVertex) {
+        int startIndex = network.getIndex(startVertex);
+        int targetIndex = network.getIndex(targetVertex);
+
+        prepareQuery();
+        int meeting = search(startIndex, targetIndex);
+        double distance = meeting == -1 ? Double.POSITIVE_INFINITY
+                : forwardDistances[meeting] + backwardDistances[meeting];
+        resetSearch();
+
+        return distance;
+    }
+
+    /**
+     * Returns the shortest path between two vertices, with every shortcut unpacked into
+     * the edges of the network it stands for.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return the shortest path, without vertices and with an infinite weight if there is none
+     * @throws java.util.NoSuchElementException if either vertex is not found
+     * @throws NegativeCycleException if the hierarchy is customised again and an edge has a negative weight
+     * @throws ConcurrentModificationException if the topology changed after the hierarchy was built
+     */
+    public WeightedPath<T> shortestPath(T startVertex, T targetVertex) {
+        int startIndex = network.getIndex(startVertex);
+        int targetIndex = network.getIndex(targetVertex);
+
+        prepareQuery();
+        int meeting = search(startIndex, targetIndex);
+        if (meeting == -1) {
+            resetSearch();
+            return new WeightedPath<>(network, new int[0], Double.POSITIVE_INFINITY, 0);
+        }
+
+        double weight = forwardDistances[meeting] + backwardDistances[meeting];
+        int forwardHops = 0;
+        for (int at = meeting; at != -1; at = forwardPrevious[at]) {
+            forwardHops++;
+        }
+        int backwardHops = 0;
+        for (int at = backwardPrevious[meeting]; at != -1; at = backwardPrevious[at]) {
+            backwardHops++;
+        }
+
+        int[] hops = new int[forwardHops + backwardHops];
+        int position = forwardHops - 1;
+        for (int at = meeting; at != -1; at = forwardPrevious[at]) {
+            hops[position--] = at;
+        }
+        position = forwardHops;
+        for (int at = backwardPrevious[meeting]; at != -1; at = backwardPrevious[at]) {
+            hops[position++] = at;
+        }
+        resetSearch();
+
+        pathLength = 0;
+        appendVertex(hops[0]);
+        for (int k = 1; k < hops.length; k++) {
+            appendUnpacked(hops[k - 1], hops[k]);
+        }
+
+        int[] indices = new int[pathLength];
+        System.arraycopy(pathBuffer, 0, indices, 0, pathLength);
+        return new WeightedPath<>(network, indices, weight, 0);
+    }
+
+    /**
+     * Makes sure the topology is unchanged and customises the hierarchy if it has not
+     * been customised since the weights last changed.
+     *
+     * @throws NegativeCycleException if an edge has a negative weight
+     * @throws ConcurrentModificationException if the topology changed after the hierarchy was built
+     */
+    private void prepareQuery() {
+        checkCurrent();
+        if (!customized || network.getModCount() != modCount) {
+            customize();
+        }
+    }
+
+    /**
+     * Runs the upward searches from both ends, alternating between the side whose
+     * frontier holds the smaller distance, until neither can find a better meeting point.
+     *
+     * @param startIndex  the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     * @return the vertex where the best path meets, or -1 if there is no path
+     */
+    private int search(int startIndex, int targetIndex) {
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+
+        reach(startIndex, -1, 0, forwardDistances, forwardPrevious, forwardFrontier);
+        reach(targetIndex, -1, 0, backwardDistances, backwardPrevious, backwardFrontier);
+
+        while (true) {
+            double forwardMin = forwardFrontier.isEmpty() ? Double.POSITIVE_INFINITY
+                    : forwardFrontier.getKey(forwardFrontier.findMin());
+            double backwardMin = backwardFrontier.isEmpty() ? Double.POSITIVE_INFINITY
+                    : backwardFrontier.getKey(backwardFrontier.findMin());
+            if (Math.min(forwardMin, backwardMin) >= best) {
+                break;
+            }
+
+            boolean forward = forwardMin <= backwardMin;
+            double[] distances = forward ? forwardDistances : backwardDistances;
+            double[] otherDistances = forward ? backwardDistances : forwardDistances;
+            int[] previous = forward ? forwardPrevious : backwardPrevious;
+            IndexedMinHeap frontier = forward ? forwardFrontier : backwardFrontier;
+
+            int u = frontier.removeMin();
+            if (distances[u] + otherDistances[u] < best) {
+                best = distances[u] + otherDistances[u];
+                meeting = u;
+            }
+            for (int k = upOffsets[u]; k < upOffsets[u + 1]; k++) {
+                double newDistance = distances[u] + upWeights[k];
+                int z = upTargets[k];
+                if (newDistance < distances[z]) {
+                    reach(z, u, newDistance, distances, previous, frontier);
+                }
+            }
+        }
+
+        return meeting;
+    }
+
+    /**
+     * Records a shorter distance to a vertex on one side of the search.
+     *
+     * @param vertex    the index of the vertex
+     * @param from      the vertex it is reached from, or -1 for the start of the side
+     * @param distance  the new distance
+     * @param distances the distances of the side
+     * @param previous  the previous vertices of the side
+     * @param frontier  the frontier of the side
+     */
+    private void reach(int vertex, int from, double distance, double[] distances, int[] previous,
+                       IndexedMinHeap frontier) {
+        if (forwardDistances[vertex] == Double.POSITIVE_INFINITY
+                && backwardDistances[vertex] == Double.POSITIVE_INFINITY) {
+            touched[touchedCount++] = vertex;
+        }
+        distances[vertex] = distance;
+        previous[vertex] = from;
+        frontier.addOrDecreaseKey(vertex, distance);
+    }
+
+    /**
+     * Clears the distances of the vertices the last query reached and empties the frontiers,
+     * so the next query does not have to clear every vertex.
+     */
+    private void resetSearch() {
+        for (int i = 0; i < touchedCount; i++) {
+            forwardDistances[touched[i]] = Double.POSITIVE_INFINITY;
+            backwardDistances[touched[i]] = Double.POSITIVE_INFINITY;
+        }
+        touchedCount = 0;
+        forwardFrontier.clear();
+        backwardFrontier.clear();
+    }
+
+    /**
+     * Appends the vertices of an arc, unpacked into edges of the network, after its first
+     * vertex, which is expected to be on the path already.
+     *
+     * @param from the vertex the arc leaves
+     * @param to   the vertex the arc reaches
+     */
+    private void appendUnpacked(int from, int to) {
+        unpackStack.clear();
+        unpackStack.push(to);
+        int at = from;
+
+        while (!unpackStack.isEmpty()) {
+            int next = unpackStack.peek();
+            int arc = rank[at] < rank[next] ? arcIndex(at, next) : arcIndex(next, at);
+            int middle = middles[arc];
+            if (middle == -1) {
+                unpackStack.pop();
+                appendVertex(next);
+                at = next;
+            } else {
+                unpackStack.push(middle);
+            }
+        }
+    }
+
+    /**
+     * Appends a vertex to the path being built, expanding the buffer when needed.
+     *
+     * @param vertex the index of the vertex
+     */
+    private void appendVertex(int vertex) {
+        if (pathLength == pathBuffer.length) {
+            int[] larger = new int[pathBuffer.length * DEFAULT_MULTIPLIER];
+            System.arraycopy(pathBuffer, 0, larger, 0, pathLength);
+            pathBuffer = larger;
+        }
+        pathBuffer[pathLength++] = vertex;
+    }
+
+    /**
+     * Returns the position of the upward arc from a vertex to a higher ranked one, found
+     * by binary search since upward arcs are sorted by target.
+     *
+     * @param lower  the index of the lower ranked vertex
+     * @param higher the index of the higher ranked vertex
+     * @return the position of the arc
+     */
+    private int arcIndex(int lower, int higher) {
+        int low = upOffsets[lower];
+        int high = upOffsets[lower + 1] - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (upTargets[mid] < higher) {
+                low = mid + 1;
+            } else if (upTargets[mid] > higher) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new IllegalStateException("Missing arc " + lower + " -> " + higher);
+    }
+
+    /**
+     * Contracts the vertices in minimum degree order, filling {@link #order} and
+     * {@link #rank}, and returns the upward neighbours of every vertex sorted by index.
+     *
+     * @return the upward neighbours of every vertex
+     */
+    private int[][] contract() {
+        int[][] neighbours = new int[size][];
+        int[] degrees = new int[size];
+        boolean[] contracted = new boolean[size];
+        int[] marks = new int[size];
+        int[][] upward = new int[size][];
+        IndexedMinHeap queue = new IndexedMinHeap(size);
+
+        for (int v = 0; v < size; v++) {
+            int[] original = network.adjList[v];
+            neighbours[v] = new int[Math.max(network.degrees[v], 1)];
+            for (int k = 0; k < network.degrees[v]; k++) {
+                if (original[k] != v) {
+                    neighbours[v][degrees[v]++] = original[k];
+                }
+            }
+            marks[v] = -1;
+            queue.addElement(v, degrees[v]);
+        }
+
+        for (int r = 0; r < size; r++) {
+            int v = queue.removeMin();
+            order[r] = v;
+            rank[v] = r;
+            contracted[v] = true;
+
+            int[] clique = new int[degrees[v]];
+            int cliqueSize = 0;
+            for (int k = 0; k < degrees[v]; k++) {
+                if (!contracted[neighbours[v][k]]) {
+                    clique[cliqueSize++] = neighbours[v][k];
+                }
+            }
+            upward[v] = sortedCopy(clique, cliqueSize);
+            neighbours[v] = null;
+
+            for (int i = 0; i < cliqueSize; i++) {
+                int a = clique[i];
+                int live = 0;
+                for (int k = 0; k < degrees[a]; k++) {
+                    int z = neighbours[a][k];
+                    if (!contracted[z]) {
+                        neighbours[a][live++] = z;
+                        marks[z] = a;
+                    }
+                }
+                degrees[a] = live;
+                for (int j = 0; j < cliqueSize; j++) {
+                    int b = clique[j];
+                    if (b != a && marks[b] != a) {
+                        if (degrees[a] == neighbours[a].length) {
+                            int[] larger = new int[neighbours[a].length * DEFAULT_MULTIPLIER];
+                            System.arraycopy(neighbours[a], 0, larger, 0, degrees[a]);
+                            neighbours[a] = larger;
+                        }
+                        neighbours[a][degrees[a]++] = b;
+                        marks[b] = a;
+                    }
+                }
+                queue.updateKey(a, degrees[a]);
+            }
+        }
+
+        return upward;
+    }
+
+    /**
+     * Returns a sorted copy of the first entries of an array.
+     *
+     * @param values the array
+     * @param count  the number of entries to copy
+     * @return the sorted copy
+     */
+    private static int[] sortedCopy(int[] values, int count) {
+        int[] copy = new int[count];
+        for (int i = 0; i < count; i++) {
+            int value = values[i];
+            int j = i;
+            while (j > 0 && copy[j - 1] > value) {
+                copy[j] = copy[j - 1];
+                j--;
+            }
+            copy[j] = value;
+        }
+        return copy;
+    }
+
+    /**
+     * Makes sure the topology has not changed since the hierarchy was built.
+     *
+     * @throws ConcurrentModificationException if the topology changed after the hierarchy was built
+     */
+    private void checkCurrent() {
+        if (!isCurrent()) {
+            throw new ConcurrentModificationException("The network changed after the hierarchy was built");
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.util.Iterator;
+
+/**
+ * DirectedNetwork represents an adjacency matrix implementation of a weighted directed
+ * graph, where every edge goes from its first vertex to its second one only. The
+ * incoming edges are kept in compressed sparse row (CSR) arrays, rebuilt after a vertex
+ * or an edge is added or removed, for the searches that follow the edges backwards.
+ * The component queries inherited from {@link Graph}, such as {@code isConnected} and
+ * {@code componentCount}, ignore the direction of the edges: they report weak
+ * connectivity, so a connected directed network may still have unreachable vertices.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class DirectedNetwork<T> extends Graph<T> implements NetworkADT<T> {
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    protected double[][] weightMatrix;
+    private int[] inOffsets;
+    private int[] inSources;
+    private int inStructureModCount;
+
+    /**
+     * Creates an empty directed network.
+     */
+    public DirectedNetwork() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty directed network with a specified initial capacity.
+     *
+     * @param num the initial capacity of the network
+     */
+    public DirectedNetwork(int num) {
+        super(num);
+        this.weightMatrix = new double[num][num];
+        for (int i = 0; i < num; i++) {
+            for (int j = 0; j < num; j++) {
+                weightMatrix[i][j] = Double.POSITIVE_INFINITY;
+            }
+        }
+    }
+
+    /**
+     * Expands the capacity of the network, growing the weight matrix together with
+     * the adjacency structures of the graph.
+     */
+    @Override
+    protected void expandCapacity() {
+        super.expandCapacity();
+
+        int newCapacity = vertices.length;
+        double[][] newWeightMatrix = new double[newCapacity][newCapacity];
+        for (int i = 0; i < newCapacity; i++) {
+            for (int j = 0; j < newCapacity; j++) {
+                if (i < weightMatrix.length && j < weightMatrix.length) {
+                    newWeightMatrix[i][j] = weightMatrix[i][j];
+                } else {
+                    newWeightMatrix[i][j] = Double.POSITIVE_INFINITY;
+                }
+            }
+        }
+        weightMatrix = newWeightMatrix;
+    }
+
+    /**
+     * Moves the weights of a vertex to its new index after a removal, both its row
+     * and its column of the weight matrix.
+     *
+     * @param from the index the vertex is moved from
+     * @param to   the index the vertex is moved to
+     */
+    @Override
+    protected void moveVertexData(int from, int to) {
+        System.arraycopy(weightMatrix[from], 0, weightMatrix[to], 0, numVertices);
+        for (int i = 0; i < numVertices; i++) {
+            weightMatrix[i][to] = weightMatrix[i][from];
+        }
+    }
+
+    /**
+     * Resets the row and the column of a freed index of the weight matrix.
+     *
+     * @param index the index that is no longer used
+     */
+    @Override
+    protected void clearVertexData(int index) {
+        for (int i = 0; i < numVertices; i++) {
+            weightMatrix[index][i] = Double.POSITIVE_INFINITY;
+            weightMatrix[i][index] = Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Inserts an edge with the default weight of 1 from the first vertex to the second.
+     *
+     * @param vertex1 the vertex the edge leaves
+     * @param vertex2 the vertex the edge enters
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2) {
+        addEdge(vertex1, vertex2, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Inserts an edge with a weight from the first vertex to the second. An edge that
+     * already exists in that direction gets the new weight.
+     *
+     * @param vertex1 the vertex the edge leaves
+     * @param vertex2 the vertex the edge enters
+     * @param weight  the weight of the edge
+     */
+    @Override
+    public void addEdge(T vertex1, T vertex2, double weight) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+
+        if (indexIsValid(index1) && indexIsValid(index2)) {
+            connect(index1, index2);
+            weightMatrix[index1][index2] = weight;
+            modCount++;
+        }
+    }
+
+    /**
+     * Removes the edge from the first vertex to the second, leaving the edge in the
+     * other direction, if there is one, in place.
+     *
+     * @param vertex1 the vertex the edge leaves
+     * @param vertex2 the vertex the edge enters
+     * @throws IllegalArgumentException if either vertex is invalid
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+
+        if (!indexIsValid(index1) || !indexIsValid(index2)) {
+            throw new IllegalArgumentException("Invalid vertex for edge removal");
+        }
+
+        disconnect(index1, index2);
+        weightMatrix[index1][index2] = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Updates the weight of the edge from the first vertex to the second. Nothing changes
+     * if there is no such edge.
+     *
+     * @param vertex1   the vertex the edge leaves
+     * @param vertex2   the vertex the edge enters
+     * @param newWeight the new weight for the edge
+     */
+    public void updateEdgeWeight(T vertex1, T vertex2, double newWeight) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+
+        if (indexIsValid(index1) && indexIsValid(index2) && hasEdge(index1, index2)
+                && weightMatrix[index1][index2] != newWeight) {
+            weightMatrix[index1][index2] = newWeight;
+            modCount++;
+        }
+    }
+
+    /**
+     * Connects every source index to its target index and stores the weight of the
+     * edge. A repeated edge keeps the weight added last.
+     *
+     * @param sources the first index of every edge
+     * @param targets the second index of every edge
+     * @param weights the weight of every edge
+     * @param count   the number of edges
+     */
+    @Override
+    void loadEdges(int[] sources, int[] targets, double[] weights, int count) {
+        super.loadEdges(sources, targets, weights, count);
+        for (int e = 0; e < count; e++) {
+            weightMatrix[sources[e]][targets[e]] = weights[e];
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the weight of the edge from the first vertex to the second.
+     *
+     * @param vertex1 the vertex the edge leaves
+     * @param vertex2 the vertex the edge enters
+     * @return the weight of the edge, or Double.POSITIVE_INFINITY if no edge exists
+     */
+    public double getEdgeWeight(T vertex1, T vertex2) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+
+        if (indexIsValid(index1) && indexIsValid(index2)) {
+            return weightMatrix[index1][index2];
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices, given their indices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the weight of the edge, or Double.POSITIVE_INFINITY if no edge exists
+     */
+    public double getWeightMatrixValue(int index1, int index2) {
+        if (indexIsValid(index1) && indexIsValid(index2)) {
+            return weightMatrix[index1][index2];
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns a double unordered linked list with the vertices that have an edge into
+     * the given one, in O(in-degree) time once the incoming arrays are built.
+     *
+     * @param vertex the vertex whose predecessors are returned
+     * @return a double unordered linked list with the vertices with an edge into this one
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     */
+    public DoubleUnorderedLinkedList<T> getIncomingVertices(T vertex) {
+        int index = getIndex(vertex);
+        ensureIncomingEdges();
+
+        DoubleUnorderedLinkedList<T> incomingVertices = new DoubleUnorderedLinkedList<>();
+        for (int k = inOffsets[index]; k < inOffsets[index + 1]; k++) {
+            incomingVertices.addToRear(vertices[inSources[k]]);
+        }
+        return incomingVertices;
+    }
+
+    /**
+     * Returns the weight of the shortest path from the first vertex to the second,
+     * following the edges in their direction.
+     *
+     * @param vertex1 the start vertex
+     * @param vertex2 the target vertex
+     * @return the weight of the shortest path, or Double.POSITIVE_INFINITY if unreachable
+     * @throws java.util.NoSuchElementException if either vertex is not found
+     * @throws NegativeCycleException if a negative cycle can be reached from the start vertex
+     */
+    @Override
+    public double shortestPathWeight(T vertex1, T vertex2) {
+        int targetIndex = getIndex(vertex2);
+        ShortestPathTree<T> tree = new ShortestPathTree<>();
+        search(tree, getIndex(vertex1), targetIndex, false);
+        return tree.distances[targetIndex];
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest path from startVertex to
+     * targetVertex, following the edges in their direction.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices in the shortest path, empty if it is unreachable
+     * @throws java.util.NoSuchElementException if either vertex is not found
+     * @throws NegativeCycleException if a negative cycle can be reached from the start vertex
+     */
+    @Override
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        ShortestPathTree<T> tree = new ShortestPathTree<>();
+        search(tree, getIndex(startVertex), getIndex(targetVertex), false);
+        return tree.iteratorPathTo(targetVertex);
+    }
+
+    /**
+     * Returns the shortest paths from a source to every vertex, following the edges in
+     * their direction.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree of the source
+     * @throws java.util.NoSuchElementException if the source is not found
+     * @throws NegativeCycleException if a negative cycle can be reached from the source
+     */
+    public ShortestPathTree<T> shortestPathTree(T source) {
+        ShortestPathTree<T> tree = new ShortestPathTree<>();
+        search(tree, getIndex(source), -1, false);
+        return tree;
+    }
+
+    /**
+     * Returns the shortest paths from every vertex to a target, found with one search
+     * that follows the incoming edges backwards. The previous vertex of a vertex in the
+     * tree is the next one to move to.
+     *
+     * @param target the target vertex
+     * @return the tree of the routes to the target
+     * @throws java.util.NoSuchElementException if the target is not found
+     * @throws NegativeCycleException if a negative cycle can reach the target
+     */
+    public ShortestPathTree<T> reverseShortestPathTree(T target) {
+        int targetIndex = getIndex(target);
+        ensureIncomingEdges();
+        ShortestPathTree<T> tree = new ShortestPathTree<>();
+        search(tree, targetIndex, -1, true);
+        return tree;
+    }
+
+    /**
+     * Checks whether the adjacency of this network is symmetric. A directed network
+     * can hold an edge without its reverse.
+     *
+     * @return false
+     */
+    @Override
+    boolean hasSymmetricAdjacency() {
+        return false;
+    }
+
+    /**
+     * Searches from a source into a tree, with Dijkstra's algorithm when every weight
+     * is non-negative and with a queue-based Bellman-Ford search otherwise.
+     *
+     * @param tree        the tree to fill
+     * @param sourceIndex the index of the source
+     * @param targetIndex the index where a Dijkstra search may stop, or -1 for none
+     * @param reverse     true to follow the edges backwards, false to follow them forwards
+     * @throws NegativeCycleException if the search reaches a negative cycle
+     */
+    private void search(ShortestPathTree<T> tree, int sourceIndex, int targetIndex, boolean reverse) {
+        if (reverse) {
+            ensureIncomingEdges();
+        }
+        tree.clearSources();
+        tree.addSource(sourceIndex);
+        tree.prepare(this);
+
+        double[] distances = tree.distances;
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            tree.previousVertices[i] = -1;
+            tree.sourceOf[i] = -1;
+            tree.settled[i] = false;
+        }
+        distances[sourceIndex] = 0;
+        tree.sourceOf[sourceIndex] = sourceIndex;
+
+        if (hasNegativeWeight()) {
+            queueSearch(tree, sourceIndex, reverse);
+        } else {
+            heapSearch(tree, sourceIndex, targetIndex, reverse);
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from a source whose distance is already set.
+     *
+     * @param tree        the tree being filled
+     * @param sourceIndex the index of the source
+     * @param targetIndex the index where the search may stop, or -1 for none
+     * @param reverse     true to follow the edges backwards, false to follow them forwards
+     */
+    private void heapSearch(ShortestPathTree<T> tree, int sourceIndex, int targetIndex, boolean reverse) {
+        double[] distances = tree.distances;
+        boolean[] settled = tree.settled;
+        IndexedMinHeap frontier = tree.frontier;
+        frontier.addElement(sourceIndex, 0);
+
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            settled[u] = true;
+            if (u == targetIndex) {
+                break;
+            }
+
+            int end = reverse ? inOffsets[u + 1] : degrees[u];
+            for (int k = reverse ? inOffsets[u] : 0; k < end; k++) {
+                int z = reverse ? inSources[k] : adjList[u][k];
+                double newDistance = distances[u] + (reverse ? weightMatrix[z][u] : weightMatrix[u][z]);
+                if (!settled[z] && newDistance < distances[z]) {
+                    distances[z] = newDistance;
+                    tree.previousVertices[z] = u;
+                    tree.sourceOf[z] = sourceIndex;
+                    frontier.addOrDecreaseKey(z, newDistance);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a queue-based Bellman-Ford search from a source whose distance is already
+     * set, which allows negative weights. A vertex queued once for every vertex of the
+     * network lies on or behind a negative cycle.
+     *
+     * @param tree        the tree being filled
+     * @param sourceIndex the index of the source
+     * @param reverse     true to follow the edges backwards, false to follow them forwards
+     * @throws NegativeCycleException if the search reaches a negative cycle
+     */
+    private void queueSearch(ShortestPathTree<T> tree, int sourceIndex, boolean reverse) {
+        double[] distances = tree.distances;
+        boolean[] queued = tree.settled;
+        int[] queue = tree.queue;
+        int[] passes = new int[numVertices];
+        int head = 0;
+        int count = 1;
+        queue[0] = sourceIndex;
+        queued[sourceIndex] = true;
+
+        while (count > 0) {
+            int u = queue[head];
+            head = (head + 1) % numVertices;
+            count--;
+            queued[u] = false;
+
+            int end = reverse ? inOffsets[u + 1] : degrees[u];
+            for (int k = reverse ? inOffsets[u] : 0; k < end; k++) {
+                int z = reverse ? inSources[k] : adjList[u][k];
+                double newDistance = distances[u] + (reverse ? weightMatrix[z][u] : weightMatrix[u][z]);
+                if (newDistance < distances[z]) {
+                    distances[z] = newDistance;
+                    tree.previousVertices[z] = u;
+                    tree.sourceOf[z] = sourceIndex;
+                    if (!queued[z]) {
+                        if (++passes[z] >= numVertices) {
+                            throw new NegativeCycleException("Negative cycle detected through vertex: " + vertices[z]);
+                        }
+                        queue[(head + count) % numVertices] = z;
+                        count++;
+                        queued[z] = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether any edge of the network has a negative weight, in O(V + E) time.
+     *
+     * @return true if some edge weighs less than zero, false otherwise
+     */
+    private boolean hasNegativeWeight() {
+        for (int u = 0; u < numVertices; u++) {
+            for (int k = 0; k < degrees[u]; k++) {
+                if (weightMatrix[u][adjList[u][k]] < 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the incoming edge arrays from the outgoing adjacency lists if a vertex or
+     * an edge was added or removed since they were last built.
+     */
+    private void ensureIncomingEdges() {
+        if (inOffsets != null && inStructureModCount == getStructureModCount()) {
+            return;
+        }
+
+        int[] offsets = new int[numVertices + 1];
+        for (int u = 0; u < numVertices; u++) {
+            for (int k = 0; k < degrees[u]; k++) {
+                offsets[adjList[u][k] + 1]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = new int[numVertices];
+        System.arraycopy(offsets, 0, cursor, 0, numVertices);
+        int[] sources = new int[offsets[numVertices]];
+        for (int u = 0; u < numVertices; u++) {
+            for (int k = 0; k < degrees[u]; k++) {
+                sources[cursor[adjList[u][k]]++] = u;
+            }
+        }
+
+        inOffsets = offsets;
+        inSources = sources;
+        inStructureModCount = getStructureModCount();
+    }
+}
@@ -0,0 +1,146 @@
+package dataStructures.graphs;
+
+/**
+ * DisjointSet provides an array implementation of a union-find structure over the
+ * integers {@code 0..size-1}. Every element starts in a set of its own, and sets can
+ * only be merged. Finding the set of an element compresses the path it walks and
+ * merging attaches the shallower tree under the deeper one, so any sequence of
+ * operations takes amortised time that is effectively constant per operation.
+ */
+public class DisjointSet {
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private int[] parents;
+    private int[] ranks;
+    private int size;
+    private int setCount;
+
+    /**
+     * Creates an empty structure with room for the given number of elements.
+     *
+     * @param capacity the expected number of elements
+     */
+    public DisjointSet(int capacity) {
+        this.parents = new int[Math.max(1, capacity)];
+        this.ranks = new int[Math.max(1, capacity)];
+        this.size = 0;
+        this.setCount = 0;
+    }
+
+    /**
+     * Adds a new element in a set of its own.
+     *
+     * @return the new element, which is the number of elements there were before
+     */
+    public int add() {
+        if (size == parents.length) {
+            int[] newParents = new int[parents.length * DEFAULT_MULTIPLIER];
+            int[] newRanks = new int[ranks.length * DEFAULT_MULTIPLIER];
+            System.arraycopy(parents, 0, newParents, 0, size);
+            System.arraycopy(ranks, 0, newRanks, 0, size);
+            parents = newParents;
+            ranks = newRanks;
+        }
+
+        parents[size] = size;
+        ranks[size] = 0;
+        setCount++;
+        return size++;
+    }
+
+    /**
+     * Removes every element and adds the elements {@code 0..size-1} back, each one in a
+     * set of its own.
+     *
+     * @param size the number of elements
+     */
+    public void reset(int size) {
+        this.size = 0;
+        this.setCount = 0;
+        for (int i = 0; i < size; i++) {
+            add();
+        }
+    }
+
+    /**
+     * Returns the representative of the set an element belongs to, which is the same
+     * for every element of the set until two sets are merged.
+     *
+     * @param element the element
+     * @return the representative of its set
+     * @throws IllegalArgumentException if the element is out of range
+     */
+    public int find(int element) {
+        if (element < 0 || element >= size) {
+            throw new IllegalArgumentException("Invalid element: " + element);
+        }
+
+        int root = element;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+        while (parents[element] != root) {
+            int next = parents[element];
+            parents[element] = root;
+            element = next;
+        }
+        return root;
+    }
+
+    /**
+     * Merges the sets of two elements.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if the sets were merged, false if both elements already were in the same set
+     * @throws IllegalArgumentException if either element is out of range
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+
+        if (ranks[root1] < ranks[root2]) {
+            parents[root1] = root2;
+        } else if (ranks[root1] > ranks[root2]) {
+            parents[root2] = root1;
+        } else {
+            parents[root2] = root1;
+            ranks[root1]++;
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * Checks whether two elements are in the same set.
+     *
+     * @param element1 the first element
+     * @param element2 the second element
+     * @return true if both elements are in the same set, false otherwise
+     * @throws IllegalArgumentException if either element is out of range
+     */
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint sets.
+     *
+     * @return the number of sets
+     */
+    public int setCount() {
+        return setCount;
+    }
+}
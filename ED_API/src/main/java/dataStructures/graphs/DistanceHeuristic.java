@@ -0,0 +1,24 @@
+package dataStructures.graphs;
+
+/**
+ * DistanceHeuristic estimates the remaining distance between two vertices of a
+ * {@link Network}, identified by their indices, to guide an A* search. The estimate
+ * must be consistent and zero at the target.
+ */
+@FunctionalInterface
+public interface DistanceHeuristic {
+
+    /**
+     * A heuristic that always estimates zero, turning A* into Dijkstra's algorithm.
+     */
+    DistanceHeuristic ZERO = (vertexIndex, targetIndex) -> 0;
+
+    /**
+     * Returns a lower bound of the distance from a vertex to the target.
+     *
+     * @param vertexIndex the index of the vertex
+     * @param targetIndex the index of the target vertex
+     * @return the estimated remaining distance
+     */
+    double estimate(int vertexIndex, int targetIndex);
+}
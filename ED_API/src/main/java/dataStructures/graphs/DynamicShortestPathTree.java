@@ -0,0 +1,333 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.util.Iterator;
+
+/**
+ * DynamicShortestPathTree keeps the shortest paths from a root vertex up to date while the
+ * edge weights of a network change, repairing only the vertices whose distance changes.
+ * Any other change, or any change after {@link #detach()}, makes it search again from
+ * scratch on the next query. Weights must be non-negative.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class DynamicShortestPathTree<T> {
+    private final Network<T> network;
+    private final T root;
+    private double[] distances;
+    private int[] previousVertices;
+    private boolean[] affected;
+    private int[] queue;
+    private int[] sourceBuffer;
+    private IndexedMinHeap frontier;
+    private int negativeEdges;
+    private boolean negativeEdgesCounted;
+    private int countedModCount;
+    private int seenModCount;
+    private boolean stale;
+    private int lastRepairSize;
+
+    /**
+     * Creates a tree rooted at the given vertex, to be computed on the first query.
+     *
+     * @param network the network to keep the shortest paths of
+     * @param root    the root vertex
+     */
+    DynamicShortestPathTree(Network<T> network, T root) {
+        this.network = network;
+        this.root = root;
+        this.distances = new double[0];
+        this.previousVertices = new int[0];
+        this.affected = new boolean[0];
+        this.queue = new int[0];
+        this.sourceBuffer = new int[1];
+        this.frontier = new IndexedMinHeap(0);
+        this.stale = true;
+    }
+
+    /**
+     * Returns the root vertex of this tree.
+     *
+     * @return the root vertex
+     */
+    public T getRoot() {
+        return root;
+    }
+
+    /**
+     * Stops repairing this tree after weight changes. A detached tree is searched again
+     * from scratch on the first query after any change of the network.
+     */
+    public void detach() {
+        network.detachDynamicTree(this);
+    }
+
+    /**
+     * Returns the distance of a vertex from the root.
+     *
+     * @param vertex the vertex
+     * @return the distance, or Double.POSITIVE_INFINITY if the vertex is unreachable
+     * @throws java.util.NoSuchElementException if the vertex or the root is not found
+     * @throws NegativeCycleException if the network has a negative edge
+     */
+    public double distanceTo(T vertex) {
+        synchronizeWithNetwork();
+        return distances[network.getIndex(vertex)];
+    }
+
+    /**
+     * Checks whether a vertex can be reached from the root.
+     *
+     * @param vertex the vertex
+     * @return true if there is a path to the vertex, false otherwise
+     * @throws java.util.NoSuchElementException if the vertex or the root is not found
+     * @throws NegativeCycleException if the network has a negative edge
+     */
+    public boolean hasPathTo(T vertex) {
+        return distanceTo(vertex) != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the vertex that comes before the given one on its path from the root.
+     * When the root is the target of a route, this is the next vertex to move to.
+     *
+     * @param vertex the vertex
+     * @return the previous vertex, or null if the vertex is the root or unreachable
+     * @throws java.util.NoSuchElementException if the vertex or the root is not found
+     * @throws NegativeCycleException if the network has a negative edge
+     */
+    public T previousVertex(T vertex) {
+        synchronizeWithNetwork();
+        int previous = previousVertices[network.getIndex(vertex)];
+        return previous == -1 ? null : network.getVertex(previous);
+    }
+
+    /**
+     * Returns an iterator over the vertices of the shortest path from the root to a vertex.
+     *
+     * @param vertex the vertex where the path ends
+     * @return an iterator over the path, empty if the vertex is unreachable
+     * @throws java.util.NoSuchElementException if the vertex or the root is not found
+     * @throws NegativeCycleException if the network has a negative edge
+     */
+    public Iterator<T> iteratorPathTo(T vertex) {
+        synchronizeWithNetwork();
+        int index = network.getIndex(vertex);
+        DoubleUnorderedLinkedList<T> path = new DoubleUnorderedLinkedList<>();
+
+        if (distances[index] != Double.POSITIVE_INFINITY) {
+            for (int at = index; at != -1; at = previousVertices[at]) {
+                path.addToFront(network.getVertex(at));
+            }
+        }
+
+        return path.iterator();
+    }
+
+    /**
+     * Returns the number of vertices whose distance was recomputed by the last repair,
+     * or by the last full search if the tree had to be searched again.
+     *
+     * @return the number of vertices touched by the last update
+     */
+    public int getLastRepairSize() {
+        return lastRepairSize;
+    }
+
+    /**
+     * Repairs the tree after the weight of an edge changed. Called by the network after
+     * it has stored the new weight and counted the change. A pair of vertices that is
+     * not an edge of the network changes no path.
+     *
+     * @param index1    the index of one end of the edge
+     * @param index2    the index of the other end of the edge
+     * @param oldWeight the previous weight, Double.POSITIVE_INFINITY if the edge is new
+     * @param newWeight the new weight
+     */
+    void edgeWeightChanged(int index1, int index2, double oldWeight, double newWeight) {
+        int modCount = network.getModCount();
+        boolean isEdge = network.hasEdge(index1, index2);
+        if (negativeEdgesCounted && countedModCount == modCount - 1) {
+            if (isEdge && oldWeight < 0) {
+                negativeEdges--;
+            }
+            if (isEdge && newWeight < 0) {
+                negativeEdges++;
+            }
+            countedModCount = modCount;
+        } else {
+            negativeEdgesCounted = false;
+        }
+
+        if (stale || seenModCount != modCount - 1 || !negativeEdgesCounted || negativeEdges > 0) {
+            stale = true;
+            return;
+        }
+        seenModCount = modCount;
+
+        if (!isEdge) {
+            return;
+        }
+        if (newWeight < oldWeight) {
+            lastRepairSize = 0;
+            relaxEdge(index1, index2, newWeight);
+            relaxEdge(index2, index1, newWeight);
+            propagate(false);
+        } else if (newWeight > oldWeight) {
+            lastRepairSize = 0;
+            if (previousVertices[index2] == index1) {
+                reconnectSubtree(index2);
+            } else if (previousVertices[index1] == index2) {
+                reconnectSubtree(index1);
+            }
+        }
+    }
+
+    /**
+     * Makes sure the tree matches the network, searching it again if it missed a change.
+     *
+     * @throws java.util.NoSuchElementException if the root is not found
+     * @throws NegativeCycleException if the network has a negative edge
+     */
+    private void synchronizeWithNetwork() {
+        int modCount = network.getModCount();
+        if (!stale && seenModCount == modCount) {
+            return;
+        }
+
+        if (!negativeEdgesCounted || countedModCount != modCount) {
+            negativeEdges = countNegativeEdges();
+            negativeEdgesCounted = true;
+            countedModCount = modCount;
+        }
+        if (negativeEdges > 0) {
+            stale = true;
+            throw new NegativeCycleException(Network.NEGATIVE_WEIGHT_ERROR);
+        }
+
+        int size = network.size();
+        if (distances.length < size) {
+            distances = new double[size];
+            previousVertices = new int[size];
+            affected = new boolean[size];
+            queue = new int[size];
+        }
+        frontier.ensureCapacity(size);
+        frontier.clear();
+
+        int rootIndex = network.getIndex(root);
+        network.shortestPathRow(rootIndex, null, sourceBuffer, distances, previousVertices, affected, frontier);
+        for (int i = 0; i < size; i++) {
+            affected[i] = false;
+        }
+
+        lastRepairSize = size;
+        seenModCount = modCount;
+        stale = false;
+    }
+
+    /**
+     * Counts the edges of the network with a negative weight.
+     *
+     * @return the number of negative edges
+     */
+    private int countNegativeEdges() {
+        int count = 0;
+        for (int u = 0; u < network.size(); u++) {
+            int[] neighbours = network.adjList[u];
+            for (int k = 0; k < network.degrees[u]; k++) {
+                int z = neighbours[k];
+                if (u <= z && network.getWeightMatrixValue(u, z) < 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lowers the distance of a vertex if the edge from the given vertex offers a shorter
+     * path, queueing it so that the improvement spreads.
+     *
+     * @param from   the index of the vertex the edge leaves
+     * @param to     the index of the vertex the edge enters
+     * @param weight the weight of the edge
+     */
+    private void relaxEdge(int from, int to, double weight) {
+        double newDistance = distances[from] + weight;
+        if (newDistance < distances[to]) {
+            distances[to] = newDistance;
+            previousVertices[to] = from;
+            frontier.addOrDecreaseKey(to, newDistance);
+        }
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the vertices in the frontier.
+     *
+     * @param affectedOnly whether only vertices marked as affected may still improve
+     */
+    private void propagate(boolean affectedOnly) {
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            lastRepairSize++;
+
+            int[] neighbours = network.adjList[u];
+            for (int k = 0; k < network.degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!affectedOnly || affected[z]) {
+                    relaxEdge(u, z, network.getWeightMatrixValue(u, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuts off the subtree below a tree edge that became heavier and reconnects it with
+     * a Dijkstra search restricted to the subtree.
+     *
+     * @param child the index of the vertex at the lower end of the tree edge
+     */
+    private void reconnectSubtree(int child) {
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = child;
+        affected[child] = true;
+
+        while (head < tail) {
+            int u = queue[head++];
+            int[] neighbours = network.adjList[u];
+            for (int k = 0; k < network.degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!affected[z] && previousVertices[z] == u) {
+                    affected[z] = true;
+                    queue[tail++] = z;
+                }
+            }
+        }
+
+        for (int q = 0; q < tail; q++) {
+            distances[queue[q]] = Double.POSITIVE_INFINITY;
+            previousVertices[queue[q]] = -1;
+        }
+        for (int q = 0; q < tail; q++) {
+            int u = queue[q];
+            int[] neighbours = network.adjList[u];
+            for (int k = 0; k < network.degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!affected[z] && distances[z] != Double.POSITIVE_INFINITY) {
+                    relaxEdge(z, u, network.getWeightMatrixValue(z, u));
+                }
+            }
+        }
+
+        propagate(true);
+
+        for (int q = 0; q < tail; q++) {
+            affected[queue[q]] = false;
+        }
+    }
+}
@@ -2,23 +2,41 @@ package dataStructures.graphs;
 
 import dataStructures.exceptions.EmptyCollectionException;
 import dataStructures.lists.DoubleUnorderedLinkedList;
-import dataStructures.queues.LinkedQueue;
-import dataStructures.stacks.LinkedStack;
+import dataStructures.queues.IntArrayQueue;
+import dataStructures.stacks.IntArrayStack;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * Graph represents an adjacency matrix implementation of a graph.
+ * Graph represents an adjacency matrix implementation of a graph. The matrix is stored
+ * as one bitset of {@code long} words per row, a bit per cell, so it takes a eighth of
+ * the memory of a {@code boolean[][]} and traversals test 64 neighbours per word. Every
+ * row is also kept as an adjacency list for algorithms that only need real neighbours.
  *
  * @param <T> the type of elements stored in the vertices of the graph
  */
 public class Graph<T> implements GraphADT<T> {
     protected static final int DEFAULT_CAPACITY = 10;
     private static final int DEFAULT_MULTIPLIER = 2;
+    private static final int DEFAULT_DEGREE_CAPACITY = 4;
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_SIZE = 1 << WORD_SHIFT;
     protected int numVertices;
-    protected boolean[][] adjMatrix;
+    protected long[][] adjMatrix;
+    protected int[][] adjList;
+    protected int[] degrees;
     protected T[] vertices;
+    protected VertexIndexMap<T> vertexIndex;
+    protected int modCount;
+    protected int settledCount;
+    private int removalEpoch;
+    private int structureModCount;
+    private VertexRemovalMode vertexRemovalMode;
+    private DisjointSet components;
+    private boolean componentsStale;
 
     /**
      * Creates an empty graph with a specified initial capacity.
@@ -27,9 +45,15 @@ public class Graph<T> implements GraphADT<T> {
      */
     public Graph(int num) {
         numVertices = 0;
-        this.adjMatrix = new boolean[num][num];
+        this.adjMatrix = new long[num][wordsFor(num)];
+        this.adjList = new int[num][];
+        this.degrees = new int[num];
         this.vertices = (T[]) (new Object[num]);
-
+        this.vertexIndex = new VertexIndexMap<>(num);
+        this.modCount = 0;
+        this.vertexRemovalMode = VertexRemovalMode.SHIFT_FOLLOWING;
+        this.components = new DisjointSet(num);
+        this.componentsStale = false;
     }
 
     /**
@@ -54,8 +78,8 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Invalid vertex: " + vertex1 + " or " + vertex2);
         }
 
-        adjMatrix[index1][index2] = true;
-        adjMatrix[index2][index1] = true;
+        connect(index1, index2);
+        connect(index2, index1);
     }
 
     /**
@@ -74,7 +98,7 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Invalid vertex: " + vertex1 + " or " + vertex2);
         }
 
-        return adjMatrix[index1][index2];
+        return hasEdge(index1, index2);
     }
 
 
@@ -96,17 +120,50 @@ public class Graph<T> implements GraphADT<T> {
         }
 
         vertices[numVertices] = vertex;
+        vertexIndex.put(vertex, numVertices);
 
-        for (int i = 0; i <= numVertices; i++) {
-            adjMatrix[numVertices][i] = false;
-            adjMatrix[i][numVertices] = false;
+        long[] row = adjMatrix[numVertices];
+        for (int w = 0; w < row.length; w++) {
+            row[w] = 0L;
+        }
+        for (int i = 0; i < numVertices; i++) {
+            adjMatrix[i][numVertices >>> WORD_SHIFT] &= ~(1L << numVertices);
+        }
+        degrees[numVertices] = 0;
+        if (!componentsStale) {
+            components.add();
         }
 
         numVertices++;
+        structureModCount++;
+        modCount++;
+    }
+
+    /**
+     * Returns how the indices of the remaining vertices change when a vertex is removed.
+     *
+     * @return the vertex removal mode in use
+     */
+    public VertexRemovalMode getVertexRemovalMode() {
+        return vertexRemovalMode;
     }
 
     /**
-     * Removes a vertex from the graph.
+     * Selects how {@link #removeVertex(Object)} closes the gap left in the vertex indices.
+     *
+     * @param vertexRemovalMode the removal mode to use
+     * @throws IllegalArgumentException if the mode is null
+     */
+    public void setVertexRemovalMode(VertexRemovalMode vertexRemovalMode) {
+        if (vertexRemovalMode == null) {
+            throw new IllegalArgumentException("Vertex removal mode cannot be null");
+        }
+        this.vertexRemovalMode = vertexRemovalMode;
+    }
+
+    /**
+     * Removes a vertex from the graph. The indices of other vertices change as
+     * selected by {@link #setVertexRemovalMode(VertexRemovalMode)}.
      *
      * @param vertex the vertex to remove
      */
@@ -115,29 +172,136 @@ public class Graph<T> implements GraphADT<T> {
         int index = getIndex(vertex);
 
         if (indexIsValid(index)) {
-            for (int i = index; i < numVertices - 1; i++) {
-                vertices[i] = vertices[i + 1];
+            vertexIndex.remove(vertex);
+            componentsStale = true;
+            if (vertexRemovalMode == VertexRemovalMode.SWAP_WITH_LAST) {
+                removeBySwappingLast(index);
+            } else {
+                removeByShiftingFollowing(index);
             }
+            vertices[numVertices - 1] = null;
+            clearVertexData(numVertices - 1);
 
-            for (int i = index; i < numVertices - 1; i++) {
-                for (int j = 0; j < numVertices; j++) {
-                    adjMatrix[i][j] = adjMatrix[i + 1][j];
-                }
-            }
+            numVertices--;
+            removalEpoch++;
+            structureModCount++;
+            modCount++;
+        }
+    }
 
-            for (int i = 0; i < numVertices; i++) {
-                for (int j = index; j < numVertices - 1; j++) {
-                    adjMatrix[i][j] = adjMatrix[i][j + 1];
-                }
-            }
+    /**
+     * Removes the vertex at an index by moving every following vertex down one index.
+     *
+     * @param index the index of the vertex being removed
+     */
+    private void removeByShiftingFollowing(int index) {
+        for (int i = index; i < numVertices - 1; i++) {
+            vertices[i] = vertices[i + 1];
+            vertexIndex.put(vertices[i], i);
+            moveVertexData(i + 1, i);
+        }
+
+        long[] removedRow = adjMatrix[index];
+        for (int i = index; i < numVertices - 1; i++) {
+            adjMatrix[i] = adjMatrix[i + 1];
+        }
+        for (int w = 0; w < removedRow.length; w++) {
+            removedRow[w] = 0L;
+        }
+        adjMatrix[numVertices - 1] = removedRow;
+
+        for (int i = 0; i < numVertices - 1; i++) {
+            removeColumn(adjMatrix[i], index);
+        }
+        rebuildAdjacencyLists();
+    }
+
+    /**
+     * Removes the vertex at an index by moving the last vertex into it. Only the edges
+     * of the two vertices are touched: one pass over the rows clears or renames their
+     * column, and the row of the last vertex is moved as a whole.
+     *
+     * @param index the index of the vertex being removed
+     */
+    private void removeBySwappingLast(int index) {
+        int last = numVertices - 1;
 
-            for (int i = 0; i < numVertices; i++) {
-                adjMatrix[i][numVertices - 1] = false;
-                adjMatrix[numVertices - 1][i] = false;
+        for (int i = 0; i < numVertices; i++) {
+            disconnect(i, index);
+        }
+        while (degrees[index] > 0) {
+            disconnect(index, adjList[index][degrees[index] - 1]);
+        }
+        if (index == last) {
+            return;
+        }
+
+        boolean selfLoop = hasEdge(last, last);
+        disconnect(last, last);
+        for (int i = 0; i < last; i++) {
+            if (hasEdge(i, last)) {
+                disconnect(i, last);
+                connect(i, index);
             }
+        }
 
-            numVertices--;
+        long[] freedRow = adjMatrix[index];
+        adjMatrix[index] = adjMatrix[last];
+        adjMatrix[last] = freedRow;
+        int[] freedList = adjList[index];
+        adjList[index] = adjList[last];
+        adjList[last] = freedList;
+        degrees[index] = degrees[last];
+        degrees[last] = 0;
+        if (selfLoop) {
+            connect(index, index);
         }
+
+        vertices[index] = vertices[last];
+        vertexIndex.put(vertices[index], index);
+        moveVertexData(last, index);
+    }
+
+    /**
+     * Called when a removal moves a vertex to a lower index, so that subclasses can move
+     * the data they keep per vertex. The adjacency structures may not be updated yet, so
+     * the hook must not read them. The data at the old index is cleared or overwritten
+     * afterwards.
+     *
+     * @param from the index the vertex is moved from
+     * @param to   the index the vertex is moved to
+     */
+    protected void moveVertexData(int from, int to) {
+    }
+
+    /**
+     * Called when a removal frees the last index, so that subclasses can reset the
+     * data they keep for it.
+     *
+     * @param index the index that is no longer used
+     */
+    protected void clearVertexData(int index) {
+    }
+
+    /**
+     * Returns a handle that keeps track of the index of a vertex across removals.
+     *
+     * @param vertex the vertex
+     * @return a handle for the vertex
+     * @throws NoSuchElementException if the vertex is not found
+     */
+    public VertexHandle<T> handleOf(T vertex) {
+        return new VertexHandle<>(this, vertex, getIndex(vertex));
+    }
+
+    /**
+     * Returns the removal epoch of the graph, which changes whenever a removal may
+     * have moved vertices to other indices.
+     *
+     * @return the removal epoch
+     */
+    public int getRemovalEpoch() {
+        return removalEpoch;
     }
 
     /**
@@ -156,13 +320,14 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Invalid vertex for edge removal");
         }
 
-        if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = false;
-        }
+        disconnect(index1, index2);
+        disconnect(index2, index1);
     }
 
     /**
      * Returns an iterator for a breadth-first traversal starting from the specified vertex.
+     * The traversal is lazy: each call to {@code next()} dequeues one vertex and queues
+     * its unvisited neighbours, so reading only the first vertices costs only that.
      *
      * @param startVertex the starting vertex for the traversal
      * @return an iterator for breadth-first traversal
@@ -174,36 +339,57 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Start vertex not found in the graph");
         }
 
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
-        DoubleUnorderedLinkedList<T> resultList = new DoubleUnorderedLinkedList<>();
-        boolean[] visited = new boolean[numVertices];
-
-        int startIndex = getIndex(startVertex);
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
+        return new BreadthFirstIterator(getIndex(startVertex));
+    }
 
-        traversalQueue.enqueue(startIndex);
-        visited[startIndex] = true;
+    /**
+     * Finds the bridges and the articulation points of the graph with Tarjan's
+     * depth-first search, in O(V + E) time. See {@link Biconnectivity}.
+     *
+     * @return the bridges and articulation points of the current graph
+     * @throws UnsupportedOperationException if the edges of the graph are directed
+     */
+    public Biconnectivity<T> biconnectivity() {
+        return new Biconnectivity<>(this);
+    }
 
-        while (!traversalQueue.isEmpty()) {
-            int x = traversalQueue.dequeue();
-            resultList.addToRear(vertices[x]);
+    /**
+     * Runs a breadth-first search from the specified vertex on the common fork/join pool,
+     * returning the level and the parent of every vertex as primitive arrays. See
+     * {@link ParallelBreadthFirstSearch}.
+     *
+     * @param startVertex the starting vertex for the search
+     * @return the levels and parents of the vertices
+     * @throws IllegalArgumentException if the start vertex is not found in the graph
+     */
+    public ParallelBreadthFirstSearch parallelBreadthFirstSearch(T startVertex) {
+        return parallelBreadthFirstSearch(startVertex, ForkJoinPool.commonPool());
+    }
 
-            for (int i = 0; i < numVertices; i++) {
-                if (adjMatrix[x][i] && !visited[i]) {
-                    traversalQueue.enqueue(i);
-                    visited[i] = true;
-                }
-            }
+    /**
+     * Runs a breadth-first search from the specified vertex on the given fork/join pool,
+     * returning the level and the parent of every vertex as primitive arrays. The graph
+     * must not be changed while the search runs.
+     *
+     * @param startVertex the starting vertex for the search
+     * @param pool        the pool the levels of the search are spread over
+     * @return the levels and parents of the vertices
+     * @throws IllegalArgumentException if the start vertex is not found or the pool is null
+     */
+    public ParallelBreadthFirstSearch parallelBreadthFirstSearch(T startVertex, ForkJoinPool pool) {
+        if (!contains(startVertex)) {
+            throw new IllegalArgumentException("Start vertex not found in the graph");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
         }
 
-        return resultList.iterator();
+        return new ParallelBreadthFirstSearch(this, getIndex(startVertex), pool);
     }
 
-
     /**
      * Returns an iterator for a depth-first traversal starting from the specified vertex.
+     * The traversal is lazy and advances by one vertex on each call to {@code next()}.
      *
      * @param startVertex the starting vertex for the traversal
      * @return an iterator for depth-first traversal
@@ -215,38 +401,7 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Start vertex not found in the graph");
         }
 
-        LinkedStack<Integer> traversalStack = new LinkedStack<>();
-        DoubleUnorderedLinkedList<T> resultList = new DoubleUnorderedLinkedList<>();
-        boolean[] visited = new boolean[numVertices];
-
-        int startIndex = getIndex(startVertex);
-        for (int i = 0; i < numVertices; i++) {
-            visited[i] = false;
-        }
-
-        traversalStack.push(startIndex);
-        resultList.addToRear(vertices[startIndex]);
-        visited[startIndex] = true;
-
-        while (!traversalStack.isEmpty()) {
-            int x = traversalStack.peek();
-            boolean found = false;
-
-            for (int i = 0; i < numVertices && !found; i++) {
-                if (adjMatrix[x][i] && !visited[i]) {
-                    traversalStack.push(i);
-                    resultList.addToRear(vertices[i]);
-                    visited[i] = true;
-                    found = true;
-                }
-            }
-
-            if (!found && !traversalStack.isEmpty()) {
-                traversalStack.pop();
-            }
-        }
-
-        return resultList.iterator();
+        return new DepthFirstIterator(getIndex(startVertex));
     }
 
     /**
@@ -259,6 +414,20 @@ public class Graph<T> implements GraphADT<T> {
      */
     @Override
     public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) throws EmptyCollectionException {
+        return iteratorFewestEdgesPath(startVertex, targetVertex);
+    }
+
+    /**
+     * Returns an iterator for the path with the fewest edges between two vertices,
+     * ignoring any edge weights. Subclasses that weigh their edges keep this
+     * unweighted search available.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator for the path with the fewest edges
+     * @throws IllegalArgumentException if either start or target vertex is invalid
+     */
+    public Iterator<T> iteratorFewestEdgesPath(T startVertex, T targetVertex) throws EmptyCollectionException {
         int startIndex = getIndex(startVertex);
         int targetIndex = getIndex(targetVertex);
 
@@ -266,8 +435,7 @@ public class Graph<T> implements GraphADT<T> {
             throw new IllegalArgumentException("Invalid start or target vertex");
         }
 
-        LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
-        DoubleUnorderedLinkedList<T> resultList = new DoubleUnorderedLinkedList<>();
+        IntArrayQueue traversalQueue = new IntArrayQueue(numVertices);
         boolean[] visited = new boolean[numVertices];
         int[] previousVertices = new int[numVertices];
 
@@ -279,31 +447,254 @@ public class Graph<T> implements GraphADT<T> {
         traversalQueue.enqueue(startIndex);
         visited[startIndex] = true;
 
+        settledCount = 0;
         while (!traversalQueue.isEmpty()) {
             int currentVertex = traversalQueue.dequeue();
+            settledCount++;
 
             if (currentVertex == targetIndex) {
                 break;
             }
 
-            for (int adjacentVertex = 0; adjacentVertex < numVertices; adjacentVertex++) {
-                if (adjMatrix[currentVertex][adjacentVertex] && !visited[adjacentVertex]) {
-                    traversalQueue.enqueue(adjacentVertex);
-                    visited[adjacentVertex] = true;
-                    previousVertices[adjacentVertex] = currentVertex;
+            long[] row = adjMatrix[currentVertex];
+            for (int w = 0; w < row.length && (w << WORD_SHIFT) < numVertices; w++) {
+                long bits = row[w];
+                while (bits != 0) {
+                    int adjacentVertex = (w << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (!visited[adjacentVertex]) {
+                        traversalQueue.enqueue(adjacentVertex);
+                        visited[adjacentVertex] = true;
+                        previousVertices[adjacentVertex] = currentVertex;
+                    }
+                }
+            }
+        }
+
+        if (!visited[targetIndex]) {
+            return pathIterator(previousVertices, -1);
+        }
+        return pathIterator(previousVertices, targetIndex);
+    }
+
+    /**
+     * Returns the tree of paths with the fewest edges from the closest of several
+     * sources to every vertex, found with a single breadth-first search started from
+     * all the sources at once. The distances in the tree are numbers of edges.
+     *
+     * @param sources the source vertices
+     * @return the fewest edges tree rooted at the sources
+     * @throws IllegalArgumentException if sources is null
+     * @throws NoSuchElementException if a source is not found
+     */
+    public ShortestPathTree<T> fewestEdgesTree(Iterable<T> sources) {
+        return fewestEdgesTree(sources, new ShortestPathTree<>());
+    }
+
+    /**
+     * Computes the tree of paths with the fewest edges from the closest of several
+     * sources into the given tree, reusing its buffers.
+     *
+     * @param sources the source vertices
+     * @param tree    the tree to compute, whose previous result is replaced
+     * @return the given tree
+     * @throws IllegalArgumentException if sources or tree is null
+     * @throws NoSuchElementException if a source is not found
+     */
+    public ShortestPathTree<T> fewestEdgesTree(Iterable<T> sources, ShortestPathTree<T> tree) {
+        if (sources == null || tree == null) {
+            throw new IllegalArgumentException("Sources and tree cannot be null");
+        }
+
+        tree.clearSources();
+        for (T source : sources) {
+            tree.addSource(getIndex(source));
+        }
+        return fewestEdgesTree(tree);
+    }
+
+    /**
+     * Computes the tree of paths with the fewest edges from one source into the given
+     * tree, reusing its buffers.
+     *
+     * @param source the source vertex
+     * @param tree   the tree to compute, whose previous result is replaced
+     * @return the given tree
+     * @throws IllegalArgumentException if tree is null
+     * @throws NoSuchElementException if the source is not found
+     */
+    public ShortestPathTree<T> fewestEdgesTree(T source, ShortestPathTree<T> tree) {
+        if (tree == null) {
+            throw new IllegalArgumentException("Tree cannot be null");
+        }
+
+        int index = getIndex(source);
+        tree.clearSources();
+        tree.addSource(index);
+        return fewestEdgesTree(tree);
+    }
+
+    /**
+     * Runs a breadth-first search from the sources already added to the tree.
+     *
+     * @param tree the tree to compute
+     * @return the given tree
+     */
+    private ShortestPathTree<T> fewestEdgesTree(ShortestPathTree<T> tree) {
+        tree.prepare(this);
+        double[] distances = tree.distances;
+        int[] previousVertices = tree.previousVertices;
+        int[] sourceOf = tree.sourceOf;
+        int[] queue = tree.queue;
+        int head = 0;
+        int tail = 0;
+
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            previousVertices[i] = -1;
+            sourceOf[i] = -1;
+        }
+        for (int k = 0; k < tree.sourceCount; k++) {
+            int index = tree.sourceIndices[k];
+            if (sourceOf[index] == -1) {
+                distances[index] = 0;
+                sourceOf[index] = index;
+                queue[tail++] = index;
+            }
+        }
+
+        settledCount = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            settledCount++;
+
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = adjList[u][k];
+                if (sourceOf[z] == -1) {
+                    distances[z] = distances[u] + 1;
+                    previousVertices[z] = u;
+                    sourceOf[z] = sourceOf[u];
+                    queue[tail++] = z;
+                }
+            }
+        }
+
+        return tree;
+    }
+
+    /**
+     * Returns an iterator for the path with the fewest edges between two vertices,
+     * found with a bidirectional breadth-first search.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator for the path with the fewest edges, empty if there is none
+     * @throws IllegalArgumentException if either start or target vertex is invalid
+     */
+    public Iterator<T> iteratorBidirectionalShortestPath(T startVertex, T targetVertex) throws EmptyCollectionException {
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
+
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            throw new IllegalArgumentException("Invalid start or target vertex");
+        }
+
+        int[] forwardHops = new int[numVertices];
+        int[] backwardHops = new int[numVertices];
+        int[] forwardPrevious = new int[numVertices];
+        int[] backwardPrevious = new int[numVertices];
+        int[] forwardQueue = new int[numVertices];
+        int[] backwardQueue = new int[numVertices];
+
+        for (int i = 0; i < numVertices; i++) {
+            forwardHops[i] = -1;
+            backwardHops[i] = -1;
+            forwardPrevious[i] = -1;
+            backwardPrevious[i] = -1;
+        }
+
+        forwardQueue[0] = startIndex;
+        forwardHops[startIndex] = 0;
+        backwardQueue[0] = targetIndex;
+        backwardHops[targetIndex] = 0;
+        int forwardHead = 0;
+        int forwardTail = 1;
+        int backwardHead = 0;
+        int backwardTail = 1;
+        int meeting = startIndex == targetIndex ? startIndex : -1;
+        settledCount = 0;
+
+        while (meeting == -1 && forwardHead < forwardTail && backwardHead < backwardTail) {
+            if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+                int result = expandLevel(forwardQueue, forwardHead, forwardTail, forwardHops, forwardPrevious, backwardHops);
+                if (result >= 0) {
+                    meeting = result;
+                } else {
+                    forwardHead = forwardTail;
+                    forwardTail = -result - 1;
+                }
+            } else {
+                int result = expandLevel(backwardQueue, backwardHead, backwardTail, backwardHops, backwardPrevious, forwardHops);
+                if (result >= 0) {
+                    meeting = result;
+                } else {
+                    backwardHead = backwardTail;
+                    backwardTail = -result - 1;
                 }
             }
         }
 
-        if (visited[targetIndex]) {
-            int backtrackVertex = targetIndex;
-            while (backtrackVertex != -1) {
-                resultList.addToFront(vertices[backtrackVertex]);
-                backtrackVertex = previousVertices[backtrackVertex];
+        if (meeting == -1) {
+            return pathIterator(forwardPrevious, -1);
+        }
+        int first = reverseLinks(forwardPrevious, meeting);
+        for (int at = meeting; at != -1; at = backwardPrevious[at]) {
+            forwardPrevious[at] = backwardPrevious[at];
+        }
+        return new PathIterator(first, forwardPrevious);
+    }
+
+    /**
+     * Expands one whole level of a bidirectional breadth-first search. The new level is
+     * appended to the queue after {@code tail}. If a vertex already reached by the
+     * other search is found, the one that gives the fewest edges in total is returned
+     * and the new level is left unfinished.
+     *
+     * @param queue      the queue of the search being expanded
+     * @param head       the first queue position of the level
+     * @param tail       the queue position after the level
+     * @param hops       the number of edges from the root of this search, -1 if unreached
+     * @param previous   the previous vertex on the way to the root of this search
+     * @param otherHops  the number of edges from the root of the other search
+     * @return the meeting vertex, or {@code -(newTail + 1)} if the searches did not meet
+     */
+    private int expandLevel(int[] queue, int head, int tail, int[] hops, int[] previous, int[] otherHops) {
+        int meeting = -1;
+        int bestLength = Integer.MAX_VALUE;
+        int newTail = tail;
+
+        for (int q = head; q < tail; q++) {
+            int u = queue[q];
+            settledCount++;
+
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = adjList[u][k];
+                if (otherHops[z] != -1 && hops[u] + 1 + otherHops[z] < bestLength) {
+                    bestLength = hops[u] + 1 + otherHops[z];
+                    meeting = z;
+                    if (hops[z] == -1) {
+                        hops[z] = hops[u] + 1;
+                        previous[z] = u;
+                    }
+                } else if (hops[z] == -1) {
+                    hops[z] = hops[u] + 1;
+                    previous[z] = u;
+                    queue[newTail++] = z;
+                }
             }
         }
 
-        return resultList.iterator();
+        return meeting != -1 ? meeting : -(newTail + 1);
     }
 
     /**
@@ -317,44 +708,116 @@ public class Graph<T> implements GraphADT<T> {
     }
 
     /**
-     * Checks if the graph is connected.
+     * Returns true if the graph is connected, false otherwise. Answered by the
+     * component tracker in near-constant time.
      *
      * @return true if the graph is connected, false otherwise
      */
+    @Override
     public boolean isConnected() throws EmptyCollectionException {
-        boolean result = true;
-
-        if (numVertices <= 1) {
-            result = true;
-        } else {
-            boolean[] visited = new boolean[numVertices];
-            LinkedQueue<Integer> traversalQueue = new LinkedQueue<>();
+        return componentCount() <= 1;
+    }
 
-            traversalQueue.enqueue(0);
-            visited[0] = true;
+    /**
+     * Checks whether there is a path between two vertices, in near-constant time.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if both vertices are in the same connected component, false otherwise
+     * @throws NoSuchElementException if either vertex is not found
+     */
+    public boolean isConnected(T vertex1, T vertex2) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+        return components().connected(index1, index2);
+    }
 
-            while (!traversalQueue.isEmpty()) {
-                int currentVertex = traversalQueue.dequeue();
+    /**
+     * Returns the representative vertex of the connected component a vertex belongs to.
+     * Two vertices are connected exactly when they have the same representative, which
+     * stays the same until the graph changes.
+     *
+     * @param vertex the vertex
+     * @return the representative vertex of its component
+     * @throws NoSuchElementException if the vertex is not found
+     */
+    public T componentOf(T vertex) {
+        int index = getIndex(vertex);
+        return vertices[components().find(index)];
+    }
 
-                for (int j = 0; j < numVertices; j++) {
-                    if (adjMatrix[currentVertex][j] && !visited[j]) {
-                        traversalQueue.enqueue(j);
-                        visited[j] = true;
-                    }
-                }
-            }
+    /**
+     * Returns the number of connected components of the graph.
+     *
+     * @return the number of connected components
+     */
+    public int componentCount() {
+        return components().setCount();
+    }
 
-            for (boolean vertexVisited : visited) {
-                if (!vertexVisited) {
-                    result = false;
-                    break;
+    /**
+     * Returns the component tracker, rebuilding it first if edges or vertices were
+     * removed since it was last up to date. Added vertices and edges are merged into
+     * it as they come, but a removal can split a component, which a union-find cannot
+     * undo, so removals only mark it stale.
+     *
+     * @return the up to date component tracker
+     */
+    private DisjointSet components() {
+        if (componentsStale) {
+            components.reset(numVertices);
+            for (int u = 0; u < numVertices; u++) {
+                int[] neighbours = adjList[u];
+                for (int k = 0; k < degrees[u]; k++) {
+                    components.union(u, neighbours[k]);
                 }
             }
+            componentsStale = false;
         }
+        return components;
+    }
+
+
+    /**
+     * Returns the modification count of the graph, which changes every time a vertex
+     * or an edge is added, removed or reweighted.
+     *
+     * @return the modification count
+     */
+    public int getModCount() {
+        return modCount;
+    }
 
-        return result;
+    /**
+     * Checks whether every edge of the graph is stored in both directions, which the
+     * searches that look at the neighbours of a vertex as its predecessors rely on.
+     *
+     * @return true, as the edges of a graph are undirected
+     */
+    boolean hasSymmetricAdjacency() {
+        return true;
+    }
+
+    /**
+     * Returns the structure modification count, which changes whenever a vertex or an
+     * edge is added or removed but not when only the weight of an edge changes.
+     *
+     * @return the structure modification count
+     */
+    public int getStructureModCount() {
+        return structureModCount;
     }
 
+    /**
+     * Returns the number of vertices the last point-to-point path query settled, that
+     * is, took out of its frontier to examine their neighbours. It is meant for comparing
+     * how much of the graph different search strategies explore.
+     *
+     * @return the number of vertices settled by the last path query
+     */
+    public int getLastSettledCount() {
+        return settledCount;
+    }
 
     /**
      * Returns the number of vertices in the graph.
@@ -367,39 +830,245 @@ public class Graph<T> implements GraphADT<T> {
     }
 
     /**
-     * Expands the capacity of the graph by doubling the size of the adjacency matrix
-     * and the vertices array.
+     * Expands the capacity of the graph by doubling the size of the adjacency matrix,
+     * the adjacency lists and the vertices array.
      */
-    private void expandCapacity() {
+    protected void expandCapacity() {
         int newCapacity = vertices.length * DEFAULT_MULTIPLIER;
 
         T[] newVertices = (T[]) new Object[newCapacity];
         System.arraycopy(vertices, 0, newVertices, 0, vertices.length);
         vertices = newVertices;
+        vertexIndex.ensureCapacity(newCapacity);
 
-        boolean[][] newAdjMatrix = new boolean[newCapacity][newCapacity];
+        long[][] newAdjMatrix = new long[newCapacity][wordsFor(newCapacity)];
         for (int i = 0; i < numVertices; i++) {
-            System.arraycopy(adjMatrix[i], 0, newAdjMatrix[i], 0, numVertices);
+            System.arraycopy(adjMatrix[i], 0, newAdjMatrix[i], 0, adjMatrix[i].length);
         }
         adjMatrix = newAdjMatrix;
+
+        int[][] newAdjList = new int[newCapacity][];
+        System.arraycopy(adjList, 0, newAdjList, 0, adjList.length);
+        adjList = newAdjList;
+
+        int[] newDegrees = new int[newCapacity];
+        System.arraycopy(degrees, 0, newDegrees, 0, degrees.length);
+        degrees = newDegrees;
     }
 
+    /**
+     * Sets the bit of the directed edge from index1 to index2 in the adjacency matrix and appends
+     * index2 to the adjacency list of index1, unless the edge already exists.
+     *
+     * @param index1 the index of the source vertex
+     * @param index2 the index of the target vertex
+     */
+    protected void connect(int index1, int index2) {
+        if (hasEdge(index1, index2)) {
+            return;
+        }
+        setBit(adjMatrix[index1], index2);
+
+        if (adjList[index1] == null) {
+            adjList[index1] = new int[DEFAULT_DEGREE_CAPACITY];
+        } else if (degrees[index1] == adjList[index1].length) {
+            int[] newNeighbours = new int[adjList[index1].length * DEFAULT_MULTIPLIER];
+            System.arraycopy(adjList[index1], 0, newNeighbours, 0, degrees[index1]);
+            adjList[index1] = newNeighbours;
+        }
+
+        adjList[index1][degrees[index1]] = index2;
+        degrees[index1]++;
+        if (!componentsStale) {
+            components.union(index1, index2);
+        }
+        structureModCount++;
+        modCount++;
+    }
 
     /**
-     * Returns the index of a given vertex in the vertices array.
+     * Clears the bit of the directed edge from index1 to index2 in the adjacency matrix and removes
+     * index2 from the adjacency list of index1.
+     *
+     * @param index1 the index of the source vertex
+     * @param index2 the index of the target vertex
+     */
+    protected void disconnect(int index1, int index2) {
+        if (!hasEdge(index1, index2)) {
+            return;
+        }
+        adjMatrix[index1][index2 >>> WORD_SHIFT] &= ~(1L << index2);
+        componentsStale = true;
+
+        int[] neighbours = adjList[index1];
+        for (int k = 0; k < degrees[index1]; k++) {
+            if (neighbours[k] == index2) {
+                degrees[index1]--;
+                neighbours[k] = neighbours[degrees[index1]];
+                break;
+            }
+        }
+        structureModCount++;
+        modCount++;
+    }
+
+    /**
+     * Rebuilds the adjacency lists of every vertex from the adjacency matrix.
+     */
+    protected void rebuildAdjacencyLists() {
+        for (int i = 0; i < adjList.length; i++) {
+            degrees[i] = 0;
+        }
+
+        for (int i = 0; i < numVertices; i++) {
+            long[] row = adjMatrix[i];
+            for (int w = 0; w < row.length; w++) {
+                long bits = row[w];
+                row[w] = 0L;
+                while (bits != 0) {
+                    connect(i, (w << WORD_SHIFT) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Connects the given pairs of vertex indices, in both directions when the adjacency
+     * is symmetric, sizing every adjacency list once for its final degree. Used to load
+     * the edges collected by a {@link NetworkBuilder} in one pass.
+     *
+     * @param sources the first index of every edge
+     * @param targets the second index of every edge
+     * @param weights the weight of every edge, ignored by an unweighted graph
+     * @param count   the number of edges
+     */
+    void loadEdges(int[] sources, int[] targets, double[] weights, int count) {
+        boolean symmetric = hasSymmetricAdjacency();
+        int[] extraDegrees = new int[numVertices];
+        for (int e = 0; e < count; e++) {
+            extraDegrees[sources[e]]++;
+            if (symmetric && sources[e] != targets[e]) {
+                extraDegrees[targets[e]]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            int needed = degrees[v] + extraDegrees[v];
+            if (extraDegrees[v] > 0 && (adjList[v] == null || adjList[v].length < needed)) {
+                int[] neighbours = new int[Math.max(needed, DEFAULT_DEGREE_CAPACITY)];
+                if (adjList[v] != null) {
+                    System.arraycopy(adjList[v], 0, neighbours, 0, degrees[v]);
+                }
+                adjList[v] = neighbours;
+            }
+        }
+
+        for (int e = 0; e < count; e++) {
+            connect(sources[e], targets[e]);
+            if (symmetric) {
+                connect(targets[e], sources[e]);
+            }
+        }
+    }
+
+    /**
+     * Returns a lazy iterator over the path that ends at a vertex, given the previous
+     * vertex of every vertex on it. The links are reversed in place to point forwards,
+     * so the array must not be used for anything else afterwards.
+     *
+     * @param previousVertices the previous vertex of every vertex, -1 where a path starts
+     * @param targetIndex      the index of the vertex where the path ends, or -1 for an empty path
+     * @return an iterator over the path, from its first vertex to the target
+     */
+    protected Iterator<T> pathIterator(int[] previousVertices, int targetIndex) {
+        return new PathIterator(reverseLinks(previousVertices, targetIndex), previousVertices);
+    }
+
+    /**
+     * Reverses the chain of links that starts at a vertex, so that it can be followed
+     * from its other end.
+     *
+     * @param links the link of every vertex, -1 where the chain stops
+     * @param end   the index of the vertex where the chain starts
+     * @return the index of the vertex at the other end of the chain
+     */
+    private static int reverseLinks(int[] links, int end) {
+        int previous = -1;
+        int at = end;
+        while (at != -1) {
+            int next = links[at];
+            links[at] = previous;
+            previous = at;
+            at = next;
+        }
+        return previous;
+    }
+
+    /**
+     * Checks whether the directed edge from index1 to index2 is in the adjacency matrix.
+     *
+     * @param index1 the index of the source vertex
+     * @param index2 the index of the target vertex
+     * @return true if the edge exists, false otherwise
+     */
+    protected boolean hasEdge(int index1, int index2) {
+        return (adjMatrix[index1][index2 >>> WORD_SHIFT] & (1L << index2)) != 0;
+    }
+
+    /**
+     * Returns the number of {@code long} words needed to hold the given number of bits.
+     *
+     * @param bits the number of bits
+     * @return the number of words
+     */
+    protected static int wordsFor(int bits) {
+        return (bits + WORD_SIZE - 1) >>> WORD_SHIFT;
+    }
+
+    /**
+     * Sets a bit of a bitset.
+     *
+     * @param bitset the bitset
+     * @param index  the index of the bit
+     */
+    private static void setBit(long[] bitset, int index) {
+        bitset[index >>> WORD_SHIFT] |= 1L << index;
+    }
+
+    /**
+     * Removes a bit from a bitset row, moving every following bit down by one place.
+     *
+     * @param row   the bitset row
+     * @param index the index of the bit to remove
+     */
+    private static void removeColumn(long[] row, int index) {
+        int word = index >>> WORD_SHIFT;
+        long lowMask = (1L << index) - 1;
+        if ((index & (WORD_SIZE - 1)) == 0) {
+            lowMask = 0L;
+        }
+
+        row[word] = (row[word] & lowMask) | ((row[word] >>> 1) & ~lowMask);
+        for (int w = word + 1; w < row.length; w++) {
+            row[w - 1] |= (row[w] & 1L) << (WORD_SIZE - 1);
+            row[w] >>>= 1;
+        }
+    }
+
+
+    /**
+     * Returns the index of a given vertex in the vertices array, in expected O(1) time.
      *
      * @param vertex the vertex to find the index of
      * @return the index of the vertex
      * @throws NoSuchElementException if the vertex is not found
      */
     public int getIndex(T vertex) {
-        for (int i = 0; i < numVertices; i++) {
-            if (vertices[i].equals(vertex)) {
-                return i;
-            }
+        int index = vertexIndex.get(vertex);
+        if (index == -1) {
+            throw new NoSuchElementException("Vertex not found: " + vertex);
         }
-
-        throw new NoSuchElementException("Vertex not found: " + vertex);
+        return index;
     }
 
     /**
@@ -442,9 +1111,12 @@ public class Graph<T> implements GraphADT<T> {
         }
 
         DoubleUnorderedLinkedList<T> adjacentVertices = new DoubleUnorderedLinkedList<>();
-        for (int i = 0; i < numVertices; i++) {
-            if (adjMatrix[index][i]) {
-                adjacentVertices.addToRear(vertices[i]);
+        long[] row = adjMatrix[index];
+        for (int w = 0; w < row.length; w++) {
+            long bits = row[w];
+            while (bits != 0) {
+                adjacentVertices.addToRear(vertices[(w << WORD_SHIFT) + Long.numberOfTrailingZeros(bits)]);
+                bits &= bits - 1;
             }
         }
         return adjacentVertices;
@@ -461,18 +1133,209 @@ public class Graph<T> implements GraphADT<T> {
     }
 
     /**
-     * Checks whether the graph contains the specified vertex.
+     * Checks whether the graph contains the specified vertex, in expected O(1) time.
      *
      * @param vertex the vertex to check for existence in the graph
      * @return true if the graph contains the vertex, false otherwise
      */
     protected boolean contains(T vertex) {
-        for (int i = 0; i < numVertices; i++) {
-            if (vertices[i] != null && vertices[i].equals(vertex)) {
-                return true;
+        return vertexIndex.get(vertex) != -1;
+    }
+
+    /**
+     * TraversalIterator is the base of the lazy iterators over the vertices of the graph.
+     * They work on primitive arrays allocated once, and refuse to go on once the graph
+     * has been changed.
+     */
+    private abstract class TraversalIterator implements Iterator<T> {
+        private final int expectedModCount;
+
+        /**
+         * Creates an iterator over the graph as it is now.
+         */
+        TraversalIterator() {
+            this.expectedModCount = modCount;
+        }
+
+        /**
+         * Returns the next vertex of the traversal.
+         *
+         * @return the next vertex
+         * @throws NoSuchElementException if the traversal is over
+         * @throws ConcurrentModificationException if the graph changed after the iterator was created
+         */
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("The graph changed during the traversal");
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException("The traversal is over");
+            }
+            return vertices[advance()];
+        }
+
+        /**
+         * Moves the traversal one vertex forward.
+         *
+         * @return the index of the vertex reached
+         */
+        protected abstract int advance();
+    }
+
+    /**
+     * BreadthFirstIterator visits the vertices in breadth-first order, using a primitive
+     * queue and a visited bitset. The neighbours of a vertex are queued when it is returned.
+     */
+    private class BreadthFirstIterator extends TraversalIterator {
+        private final IntArrayQueue queue;
+        private final long[] visited;
+
+        /**
+         * Creates a breadth-first traversal from a vertex.
+         *
+         * @param startIndex the index of the starting vertex
+         */
+        BreadthFirstIterator(int startIndex) {
+            this.queue = new IntArrayQueue(numVertices);
+            this.visited = new long[wordsFor(numVertices)];
+            queue.enqueue(startIndex);
+            setBit(visited, startIndex);
+        }
+
+        /**
+         * Checks whether there are vertices left to visit.
+         *
+         * @return true if the traversal has more vertices, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        /**
+         * Dequeues the next vertex and queues its unvisited neighbours.
+         *
+         * @return the index of the dequeued vertex
+         */
+        @Override
+        protected int advance() {
+            int x = queue.dequeue();
+            long[] row = adjMatrix[x];
+            for (int w = 0; w < visited.length; w++) {
+                long unvisited = row[w] & ~visited[w];
+                visited[w] |= unvisited;
+                while (unvisited != 0) {
+                    queue.enqueue((w << WORD_SHIFT) + Long.numberOfTrailingZeros(unvisited));
+                    unvisited &= unvisited - 1;
+                }
+            }
+            return x;
+        }
+    }
+
+    /**
+     * DepthFirstIterator visits the vertices in depth-first order, using a primitive stack
+     * and a visited bitset. The vertex to return next is found one step ahead, so that
+     * {@code hasNext()} does not have to search.
+     */
+    private class DepthFirstIterator extends TraversalIterator {
+        private final IntArrayStack stack;
+        private final long[] visited;
+        private int nextIndex;
+
+        /**
+         * Creates a depth-first traversal from a vertex.
+         *
+         * @param startIndex the index of the starting vertex
+         */
+        DepthFirstIterator(int startIndex) {
+            this.stack = new IntArrayStack(numVertices);
+            this.visited = new long[wordsFor(numVertices)];
+            stack.push(startIndex);
+            setBit(visited, startIndex);
+            nextIndex = startIndex;
+        }
+
+        /**
+         * Checks whether there are vertices left to visit.
+         *
+         * @return true if the traversal has more vertices, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex != -1;
+        }
+
+        /**
+         * Returns the vertex found last and searches for the one after it: the first
+         * unvisited neighbour of the vertex on top of the stack, backtracking while
+         * there is none.
+         *
+         * @return the index of the vertex found last
+         */
+        @Override
+        protected int advance() {
+            int current = nextIndex;
+            nextIndex = -1;
+
+            while (!stack.isEmpty() && nextIndex == -1) {
+                long[] row = adjMatrix[stack.peek()];
+                for (int w = 0; w < visited.length && nextIndex == -1; w++) {
+                    long unvisited = row[w] & ~visited[w];
+                    if (unvisited != 0) {
+                        nextIndex = (w << WORD_SHIFT) + Long.numberOfTrailingZeros(unvisited);
+                    }
+                }
+                if (nextIndex == -1) {
+                    stack.pop();
+                } else {
+                    stack.push(nextIndex);
+                    setBit(visited, nextIndex);
+                }
             }
+            return current;
         }
-        return false;
     }
 
-}
\ No newline at end of file
+    /**
+     * PathIterator follows a chain of forward links from the first vertex of a path.
+     */
+    private class PathIterator extends TraversalIterator {
+        private final int[] links;
+        private int nextIndex;
+
+        /**
+         * Creates an iterator over a path.
+         *
+         * @param first the index of the first vertex, or -1 for an empty path
+         * @param links the index of the vertex after each vertex of the path, -1 at its end
+         */
+        PathIterator(int first, int[] links) {
+            this.links = links;
+            this.nextIndex = first;
+        }
+
+        /**
+         * Checks whether the path has more vertices.
+         *
+         * @return true if the path has more vertices, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex != -1;
+        }
+
+        /**
+         * Moves one vertex along the path.
+         *
+         * @return the index of the current vertex
+         */
+        @Override
+        protected int advance() {
+            int current = nextIndex;
+            nextIndex = links[current];
+            return current;
+        }
+    }
+}
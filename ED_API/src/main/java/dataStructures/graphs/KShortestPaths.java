@@ -0,0 +1,298 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.heaps.ArrayHeap;
+import dataStructures.heaps.IndexedMinHeap;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * KShortestPaths returns the loopless paths between two vertices of a network in order
+ * of increasing weight, using Yen's algorithm. The paths are found lazily, and the search
+ * refuses to go on once the network has been changed.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class KShortestPaths<T> implements Iterator<WeightedPath<T>> {
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final Network<T> network;
+    private final int modCount;
+    private final int startIndex;
+    private final int targetIndex;
+
+    private WeightedPath<T>[] accepted;
+    private int acceptedCount;
+    private final ArrayHeap<WeightedPath<T>> candidates;
+    private WeightedPath<T> nextPath;
+    private boolean exhausted;
+
+    private final double[] distances;
+    private final int[] previousVertices;
+    private final boolean[] tight;
+    private final boolean[] blockedVertices;
+    private final boolean[] blockedFirstHops;
+    private final IndexedMinHeap frontier;
+
+    /**
+     * Creates a search for the paths between two vertices of a network.
+     *
+     * @param network     the network to search
+     * @param startIndex  the index of the start vertex
+     * @param targetIndex the index of the target vertex
+     */
+    KShortestPaths(Network<T> network, int startIndex, int targetIndex) {
+        int size = network.size();
+
+        this.network = network;
+        this.modCount = network.getModCount();
+        this.startIndex = startIndex;
+        this.targetIndex = targetIndex;
+        this.accepted = newPathArray(DEFAULT_CAPACITY);
+        this.acceptedCount = 0;
+        this.candidates = new ArrayHeap<>();
+        this.distances = new double[size];
+        this.previousVertices = new int[size];
+        this.tight = new boolean[size];
+        this.blockedVertices = new boolean[size];
+        this.blockedFirstHops = new boolean[size];
+        this.frontier = new IndexedMinHeap(size);
+    }
+
+    /**
+     * Checks whether there is another path, searching for it if needed.
+     *
+     * @return true if there is another path, false otherwise
+     * @throws ConcurrentModificationException if the network changed after the search started
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextPath == null && !exhausted) {
+            checkCurrent();
+            nextPath = acceptedCount == 0 ? shortestPath() : nextCandidate();
+            exhausted = nextPath == null;
+        }
+        return nextPath != null;
+    }
+
+    /**
+     * Returns the next path, which weighs no less than the ones returned before it.
+     *
+     * @return the next path
+     * @throws NoSuchElementException if there are no more paths
+     * @throws ConcurrentModificationException if the network changed after the search started
+     */
+    @Override
+    public WeightedPath<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more paths");
+        }
+        WeightedPath<T> path = nextPath;
+        nextPath = null;
+        accept(path);
+        return path;
+    }
+
+    /**
+     * Returns the number of paths returned so far.
+     *
+     * @return the number of paths returned
+     */
+    public int getReturnedCount() {
+        return acceptedCount;
+    }
+
+    /**
+     * Finds the shortest path with no vertex or edge masked.
+     *
+     * @return the shortest path, or null if the target cannot be reached
+     */
+    private WeightedPath<T> shortestPath() {
+        network.spurSearch(startIndex, targetIndex, blockedVertices, blockedFirstHops,
+                distances, previousVertices, tight, frontier);
+        if (distances[targetIndex] == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return joinPath(null, 0, 0);
+    }
+
+    /**
+     * Searches the spur paths of the last path returned and takes the cheapest candidate
+     * that has not been returned yet.
+     *
+     * @return the next path, or null if there are no candidates left
+     */
+    private WeightedPath<T> nextCandidate() {
+        addSpurPaths(accepted[acceptedCount - 1]);
+
+        while (!candidates.isEmpty()) {
+            WeightedPath<T> candidate;
+            try {
+                candidate = candidates.removeMin();
+            } catch (EmptyCollectionException e) {
+                throw new IllegalStateException(e);
+            }
+            if (!isAccepted(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a candidate for every spur vertex of a path, from the position where the path
+     * left its parent up to the vertex before the target.
+     *
+     * @param path the path whose spur paths are searched
+     */
+    private void addSpurPaths(WeightedPath<T> path) {
+        int[] root = path.indices;
+        double rootWeight = 0;
+
+        for (int i = 0; i < path.deviation; i++) {
+            blockedVertices[root[i]] = true;
+            rootWeight += network.getWeightMatrixValue(root[i], root[i + 1]);
+        }
+
+        for (int i = path.deviation; i < root.length - 1; i++) {
+            blockFirstHops(root, i, true);
+            double spurDistance = network.spurSearch(root[i], targetIndex, blockedVertices, blockedFirstHops,
+                    distances, previousVertices, tight, frontier);
+            blockFirstHops(root, i, false);
+
+            if (spurDistance != Double.POSITIVE_INFINITY) {
+                candidates.addElement(joinPath(root, i, rootWeight));
+            }
+
+            blockedVertices[root[i]] = true;
+            rootWeight += network.getWeightMatrixValue(root[i], root[i + 1]);
+        }
+
+        for (int i = 0; i < root.length - 1; i++) {
+            blockedVertices[root[i]] = false;
+        }
+    }
+
+    /**
+     * Marks or clears the edges leaving the spur vertex at a position of a root that are
+     * taken by the returned paths sharing that root.
+     *
+     * @param root     the vertex indices of the path the root belongs to
+     * @param position the position of the spur vertex in the root
+     * @param blocked  true to mark the edges, false to clear them
+     */
+    private void blockFirstHops(int[] root, int position, boolean blocked) {
+        for (int p = 0; p < acceptedCount; p++) {
+            int[] other = accepted[p].indices;
+            if (other.length > position + 1 && sharesRoot(root, other, position)) {
+                blockedFirstHops[other[position + 1]] = blocked;
+            }
+        }
+    }
+
+    /**
+     * Checks whether two paths visit the same vertices up to a position.
+     *
+     * @param path     the vertex indices of the first path
+     * @param other    the vertex indices of the second path
+     * @param position the last position compared
+     * @return true if both paths agree up to the position, false otherwise
+     */
+    private static boolean sharesRoot(int[] path, int[] other, int position) {
+        for (int i = 0; i <= position; i++) {
+            if (path[i] != other[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a path from a root and the spur path just found from its last vertex. The
+     * weight is added up edge by edge from the start, so two searches finding the same
+     * path give it exactly the same weight.
+     *
+     * @param root       the vertex indices of the path the root belongs to, or null for no root
+     * @param position   the position of the spur vertex in the root
+     * @param rootWeight the weight of the root up to the spur vertex
+     * @return the joined path
+     */
+    private WeightedPath<T> joinPath(int[] root, int position, double rootWeight) {
+        int spurLength = 0;
+        for (int at = targetIndex; at != -1; at = previousVertices[at]) {
+            spurLength++;
+        }
+
+        int[] indices = new int[position + spurLength];
+        if (root != null) {
+            System.arraycopy(root, 0, indices, 0, position);
+        }
+        int at = targetIndex;
+        for (int i = indices.length - 1; i >= position; i--) {
+            indices[i] = at;
+            at = previousVertices[at];
+        }
+
+        double weight = rootWeight;
+        for (int i = position; i < indices.length - 1; i++) {
+            weight += network.getWeightMatrixValue(indices[i], indices[i + 1]);
+        }
+
+        return new WeightedPath<>(network, indices, weight, position);
+    }
+
+    /**
+     * Checks whether a candidate has already been returned. Since paths are returned in
+     * order of weight, only the last paths with the same weight need to be compared.
+     *
+     * @param candidate the candidate
+     * @return true if the same path has been returned, false otherwise
+     */
+    private boolean isAccepted(WeightedPath<T> candidate) {
+        for (int p = acceptedCount - 1; p >= 0 && accepted[p].weight == candidate.weight; p--) {
+            if (accepted[p].sameVertices(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records a path as returned, expanding the array of returned paths when needed.
+     *
+     * @param path the path returned
+     */
+    private void accept(WeightedPath<T> path) {
+        if (acceptedCount == accepted.length) {
+            WeightedPath<T>[] larger = newPathArray(accepted.length * DEFAULT_MULTIPLIER);
+            System.arraycopy(accepted, 0, larger, 0, acceptedCount);
+            accepted = larger;
+        }
+        accepted[acceptedCount++] = path;
+    }
+
+    /**
+     * Makes sure the network has not changed since the search started.
+     *
+     * @throws ConcurrentModificationException if the network changed after the search started
+     */
+    private void checkCurrent() {
+        if (network.getModCount() != modCount) {
+            throw new ConcurrentModificationException("The network changed after the search started");
+        }
+    }
+
+    /**
+     * Creates an array for paths of the element type.
+     *
+     * @param capacity the length of the array
+     * @return the new array
+     */
+    @SuppressWarnings("unchecked")
+    private WeightedPath<T>[] newPathArray(int capacity) {
+        return (WeightedPath<T>[]) new WeightedPath<?>[capacity];
+    }
+}
@@ -0,0 +1,219 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+
+/**
+ * LandmarkIndex is the preprocessing of the ALT heuristic (A*, landmarks and the
+ * triangle inequality): the distances from a few landmark vertices, chosen by
+ * farthest-point selection, to every vertex. It searches again the first time it is
+ * used after the network changes, keeping its landmarks while the vertices stay the same.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class LandmarkIndex<T> implements DistanceHeuristic {
+    private final Network<T> network;
+    private final int requestedCount;
+    private int modCount;
+    private int size;
+    private int[] landmarks;
+    private int landmarkCount;
+    private double[][] distances;
+    private final int[] sourceBuffer;
+    private int[] previousVertices;
+    private boolean[] tight;
+    private IndexedMinHeap frontier;
+
+    /**
+     * Creates the index of a network, choosing its landmarks and searching from them.
+     *
+     * @param network       the network to index
+     * @param landmarkCount the number of landmarks wanted
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    LandmarkIndex(Network<T> network, int landmarkCount) {
+        this.network = network;
+        this.requestedCount = landmarkCount;
+        this.sourceBuffer = new int[1];
+        this.size = -1;
+        refresh();
+    }
+
+    /**
+     * Brings the index up to date with the network. With the same vertices it searches
+     * again from the same landmarks; otherwise it chooses new ones.
+     *
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public void refresh() {
+        double[] potentials = network.treePotentials();
+
+        if (network.size() != size) {
+            selectLandmarks(potentials);
+        } else {
+            for (int l = 0; l < landmarkCount; l++) {
+                search(landmarks[l], potentials, distances[l]);
+            }
+        }
+        modCount = network.getModCount();
+    }
+
+    /**
+     * Checks whether the index describes the network as it is now.
+     *
+     * @return true if the network has not changed since the last search, false otherwise
+     */
+    public boolean isCurrent() {
+        return network.getModCount() == modCount;
+    }
+
+    /**
+     * Returns the number of landmarks, which is smaller than the number requested when
+     * the network has fewer vertices.
+     *
+     * @return the number of landmarks
+     */
+    public int getLandmarkCount() {
+        ensureCurrent();
+        return landmarkCount;
+    }
+
+    /**
+     * Returns one of the landmarks, in the order they were chosen.
+     *
+     * @param position the position of the landmark
+     * @return the landmark vertex
+     * @throws IndexOutOfBoundsException if there is no landmark at that position
+     */
+    public T getLandmark(int position) {
+        ensureCurrent();
+        if (position < 0 || position >= landmarkCount) {
+            throw new IndexOutOfBoundsException("Invalid landmark: " + position);
+        }
+        return network.getVertex(landmarks[position]);
+    }
+
+    /**
+     * Returns the largest triangle inequality bound over the landmarks, infinite when the
+     * vertex and the target lie in different components.
+     *
+     * @param vertexIndex the index of the vertex
+     * @param targetIndex the index of the target vertex
+     * @return a lower bound of the distance from the vertex to the target
+     * @throws NegativeCycleException if the index has to search again and the selected
+     *                                algorithm detects a negative cycle
+     */
+    @Override
+    public double estimate(int vertexIndex, int targetIndex) {
+        ensureCurrent();
+        double bound = 0;
+
+        for (int l = 0; l < landmarkCount; l++) {
+            double[] row = distances[l];
+            double toVertex = row[vertexIndex];
+            double toTarget = row[targetIndex];
+
+            if ((toVertex == Double.POSITIVE_INFINITY) != (toTarget == Double.POSITIVE_INFINITY)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (toVertex != Double.POSITIVE_INFINITY) {
+                bound = Math.max(bound, Math.abs(toTarget - toVertex));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Searches again if the network changed since the last search.
+     *
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    private void ensureCurrent() {
+        if (!isCurrent()) {
+            refresh();
+        }
+    }
+
+    /**
+     * Chooses the landmarks by farthest-point selection, searching from each of them,
+     * after sizing the arrays for the current number of vertices.
+     *
+     * @param potentials the vertex potentials of the network, or null for none
+     */
+    private void selectLandmarks(double[] potentials) {
+        size = network.size();
+        landmarkCount = 0;
+        landmarks = new int[Math.min(requestedCount, size)];
+        distances = new double[landmarks.length][size];
+        previousVertices = new int[size];
+        tight = new boolean[size];
+        frontier = new IndexedMinHeap(size);
+
+        if (size == 0) {
+            return;
+        }
+
+        double[] closest = new double[size];
+        search(0, potentials, distances[0]);
+        int next = farthest(distances[0]);
+
+        while (landmarkCount < landmarks.length) {
+            double[] row = distances[landmarkCount];
+            landmarks[landmarkCount] = next;
+            search(next, potentials, row);
+
+            for (int i = 0; i < size; i++) {
+                closest[i] = landmarkCount == 0 ? row[i] : Math.min(closest[i], row[i]);
+            }
+            landmarkCount++;
+            next = farthest(closest);
+        }
+    }
+
+    /**
+     * Returns the vertex with the largest distance in an array, preferring one at an
+     * infinite distance and skipping the landmarks already chosen.
+     *
+     * @param distances the distance of every vertex
+     * @return the index of the farthest vertex
+     */
+    private int farthest(double[] distances) {
+        int best = -1;
+
+        for (int i = 0; i < size; i++) {
+            if (isLandmark(i)) {
+                continue;
+            }
+            if (best == -1 || distances[i] > distances[best]) {
+                best = i;
+            }
+        }
+        return best == -1 ? 0 : best;
+    }
+
+    /**
+     * Checks whether a vertex is one of the landmarks chosen so far.
+     *
+     * @param index the index of the vertex
+     * @return true if the vertex is a landmark, false otherwise
+     */
+    private boolean isLandmark(int index) {
+        for (int l = 0; l < landmarkCount; l++) {
+            if (landmarks[l] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches from a landmark, filling its row with the real distance to every vertex.
+     *
+     * @param landmark   the index of the landmark
+     * @param potentials the vertex potentials of the network, or null for none
+     * @param row        the row to fill
+     */
+    private void search(int landmark, double[] potentials, double[] row) {
+        network.shortestPathRow(landmark, potentials, sourceBuffer, row, previousVertices, tight, frontier);
+    }
+}
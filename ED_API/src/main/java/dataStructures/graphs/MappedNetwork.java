@@ -0,0 +1,990 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * MappedNetwork is a read-only weighted undirected network stored in a binary file and
+ * read through memory mapped buffers, so that a map can be queried without parsing it.
+ * The file holds, in little-endian order and with every section aligned to 8 bytes:
+ *
+ * <ol>
+ *     <li>a header of {@value #HEADER_SIZE} bytes with the magic number, the format
+ *     version, the size of a weight (4 or 8 bytes), the number of vertices, the number of
+ *     edge entries, the capacity of the vertex hash table and the length of the names;</li>
+ *     <li>the vertex id table: the offset of the name of every vertex as a long, plus one
+ *     past the last, followed by the UTF-8 bytes of the names;</li>
+ *     <li>an open addressing hash table of vertex indices plus one, by name, so that
+ *     finding a vertex reads a few entries instead of every name;</li>
+ *     <li>the compressed sparse row (CSR) arrays: a long offset per vertex plus one, an int
+ *     target per edge entry and a float or double weight per edge entry.</li>
+ * </ol>
+ *
+ * <p>Files are written with {@link #write(CompactNetwork, String, boolean)} and opened with
+ * {@link #open(String)}. Each section is mapped in chunks of at most 1 GiB.</p>
+ */
+public class MappedNetwork implements NetworkADT<String> {
+    private static final int MAGIC = 0x4E574445;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final String READ_ONLY_ERROR = "MappedNetwork is read-only, write a new file instead";
+
+    private final int numVertices;
+    private final long numEdgeEntries;
+    private final int weightSize;
+    private final int hashMask;
+    private final MappedSection nameOffsets;
+    private final MappedSection names;
+    private final MappedSection hashTable;
+    private final MappedSection offsets;
+    private final MappedSection targets;
+    private final MappedSection weights;
+
+    /**
+     * Reads the header of a file and maps its sections.
+     *
+     * @param channel the open channel of the file
+     * @param file    the name of the file, for the error messages
+     * @throws IOException if the file cannot be read or is not a mapped network file
+     */
+    private MappedNetwork(FileChannel channel, String file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) == -1) {
+                break;
+            }
+        }
+        if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+            throw new IOException("Not a mapped network file: " + file);
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported mapped network version " + header.getInt(4) + ": " + file);
+        }
+
+        int weightBytes = header.getInt(8);
+        long vertexCount = header.getLong(16);
+        long edgeEntries = header.getLong(24);
+        long hashCapacity = header.getLong(32);
+        long nameBytes = header.getLong(40);
+        if ((weightBytes != Float.BYTES && weightBytes != Double.BYTES)
+                || vertexCount < 0 || vertexCount >= Integer.MAX_VALUE || edgeEntries < 0 || nameBytes < 0
+                || hashCapacity < 2 * vertexCount || hashCapacity > Integer.MAX_VALUE || Long.bitCount(hashCapacity) != 1) {
+            throw new IOException("Corrupted mapped network header: " + file);
+        }
+
+        this.numVertices = (int) vertexCount;
+        this.numEdgeEntries = edgeEntries;
+        this.weightSize = weightBytes;
+        this.hashMask = (int) hashCapacity - 1;
+
+        long position = HEADER_SIZE;
+        long[] lengths = {
+                (vertexCount + 1) * Long.BYTES, nameBytes, hashCapacity * Integer.BYTES,
+                (vertexCount + 1) * Long.BYTES, edgeEntries * Integer.BYTES, edgeEntries * weightBytes
+        };
+        long end = position;
+        for (long length : lengths) {
+            end += align(length);
+        }
+        if (channel.size() < end) {
+            throw new IOException("Truncated mapped network file: " + file);
+        }
+
+        this.nameOffsets = new MappedSection(channel, position, lengths[0]);
+        position += align(lengths[0]);
+        this.names = new MappedSection(channel, position, lengths[1]);
+        position += align(lengths[1]);
+        this.hashTable = new MappedSection(channel, position, lengths[2]);
+        position += align(lengths[2]);
+        this.offsets = new MappedSection(channel, position, lengths[3]);
+        position += align(lengths[3]);
+        this.targets = new MappedSection(channel, position, lengths[4]);
+        position += align(lengths[4]);
+        this.weights = new MappedSection(channel, position, lengths[5]);
+    }
+
+    /**
+     * Opens a file written by {@link #write(CompactNetwork, String, boolean)}. The file is
+     * mapped, not read, and can be closed by the operating system only once the network is
+     * no longer referenced.
+     *
+     * @param file the path of the file
+     * @return the network stored in the file
+     * @throws IOException if the file cannot be read or is not a mapped network file
+     */
+    public static MappedNetwork open(String file) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(file), StandardOpenOption.READ)) {
+            return new MappedNetwork(channel, file);
+        }
+    }
+
+    /**
+     * Writes a compact network to a file in the mapped network format. Every vertex is
+     * identified in the file by {@link String#valueOf(Object)}; when two vertices have the
+     * same id, finding it returns the first of them. The network and the ids of its
+     * vertices are held in memory while the file is written.
+     *
+     * @param network         the network to write
+     * @param file            the path of the file, replaced if it exists
+     * @param singlePrecision true to store the weights as floats, halving their size, or
+     *                        false to store them as doubles
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CompactNetwork<?> network, String file, boolean singlePrecision) throws IOException {
+        int vertexCount = network.size();
+        int edgeEntries = network.edgeEntryCount();
+        byte[][] ids = new byte[vertexCount][];
+        long nameBytes = 0;
+        for (int i = 0; i < vertexCount; i++) {
+            ids[i] = String.valueOf(network.getVertex(i)).getBytes(StandardCharsets.UTF_8);
+            nameBytes += ids[i].length;
+        }
+
+        int hashCapacity = 2;
+        while (hashCapacity < 2 * vertexCount) {
+            hashCapacity *= 2;
+        }
+        int[] table = new int[hashCapacity];
+        for (int i = 0; i < vertexCount; i++) {
+            int slot = hash(String.valueOf(network.getVertex(i))) & (hashCapacity - 1);
+            while (table[slot] != 0 && !sameBytes(ids[table[slot] - 1], ids[i])) {
+                slot = (slot + 1) & (hashCapacity - 1);
+            }
+            if (table[slot] == 0) {
+                table[slot] = i + 1;
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(Path.of(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            SectionWriter out = new SectionWriter(channel);
+
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putInt(singlePrecision ? Float.BYTES : Double.BYTES);
+            out.putInt(0);
+            out.putLong(vertexCount);
+            out.putLong(edgeEntries);
+            out.putLong(hashCapacity);
+            out.putLong(nameBytes);
+            out.padTo(HEADER_SIZE);
+
+            long nameOffset = 0;
+            for (int i = 0; i < vertexCount; i++) {
+                out.putLong(nameOffset);
+                nameOffset += ids[i].length;
+            }
+            out.putLong(nameOffset);
+            for (int i = 0; i < vertexCount; i++) {
+                out.putBytes(ids[i]);
+            }
+            out.align();
+            for (int slot = 0; slot < hashCapacity; slot++) {
+                out.putInt(table[slot]);
+            }
+            out.align();
+
+            for (int i = 0; i <= vertexCount; i++) {
+                out.putLong(network.offsetAt(i));
+            }
+            for (int k = 0; k < edgeEntries; k++) {
+                out.putInt(network.targetAt(k));
+            }
+            out.align();
+            for (int k = 0; k < edgeEntries; k++) {
+                if (singlePrecision) {
+                    out.putFloat((float) network.weightAt(k));
+                } else {
+                    out.putDouble(network.weightAt(k));
+                }
+            }
+            out.align();
+            out.flush();
+        }
+    }
+
+    /**
+     * Not supported, a mapped network cannot be modified.
+     *
+     * @param vertex the vertex to add
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addVertex(String vertex) {
+        throw new UnsupportedOperationException(READ_ONLY_ERROR);
+    }
+
+    /**
+     * Not supported, a mapped network cannot be modified.
+     *
+     * @param vertex the vertex to remove
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeVertex(String vertex) {
+        throw new UnsupportedOperationException(READ_ONLY_ERROR);
+    }
+
+    /**
+     * Not supported, a mapped network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(String vertex1, String vertex2) {
+        throw new UnsupportedOperationException(READ_ONLY_ERROR);
+    }
+
+    /**
+     * Not supported, a mapped network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @param weight  the weight of the edge
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEdge(String vertex1, String vertex2, double weight) {
+        throw new UnsupportedOperationException(READ_ONLY_ERROR);
+    }
+
+    /**
+     * Not supported, a mapped network cannot be modified.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeEdge(String vertex1, String vertex2) {
+        throw new UnsupportedOperationException(READ_ONLY_ERROR);
+    }
+
+    /**
+     * Checks if there is an edge between two vertices.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return true if there is an edge, false otherwise
+     * @throws NoSuchElementException if either vertex is not found
+     */
+    public boolean isAdjacent(String vertex1, String vertex2) {
+        return edgeSlot(getIndex(vertex1), getIndex(vertex2)) != -1;
+    }
+
+    /**
+     * Returns the weight of the edge between two vertices, as stored in the file.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the edge, or Double.POSITIVE_INFINITY if no edge exists
+     * @throws NoSuchElementException if either vertex is not found
+     */
+    public double getEdgeWeight(String vertex1, String vertex2) {
+        long slot = edgeSlot(getIndex(vertex1), getIndex(vertex2));
+        return slot == -1 ? Double.POSITIVE_INFINITY : weightAt(slot);
+    }
+
+    /**
+     * Returns an iterator for a breadth-first traversal starting from the specified vertex.
+     *
+     * @param startVertex the starting vertex for the traversal
+     * @return an iterator for breadth-first traversal
+     * @throws IllegalArgumentException if the start vertex is not found in the network
+     */
+    @Override
+    public Iterator<String> iteratorBFS(String startVertex) {
+        int startIndex = requireIndex(startVertex);
+        DoubleUnorderedLinkedList<String> resultList = new DoubleUnorderedLinkedList<>();
+        int[] queue = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = startIndex;
+        visited[startIndex] = true;
+
+        while (head < tail) {
+            int x = queue[head++];
+            resultList.addToRear(getVertex(x));
+
+            long end = offsetAt(x + 1);
+            for (long k = offsetAt(x); k < end; k++) {
+                int y = targetAt(k);
+                if (!visited[y]) {
+                    visited[y] = true;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns an iterator for a depth-first traversal starting from the specified vertex.
+     *
+     * @param startVertex the starting vertex for the traversal
+     * @return an iterator for depth-first traversal
+     * @throws IllegalArgumentException if the start vertex is not found in the network
+     */
+    @Override
+    public Iterator<String> iteratorDFS(String startVertex) {
+        int startIndex = requireIndex(startVertex);
+        DoubleUnorderedLinkedList<String> resultList = new DoubleUnorderedLinkedList<>();
+        int[] stack = new int[numVertices];
+        long[] nextEdge = new long[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int top = 0;
+
+        stack[top++] = startIndex;
+        nextEdge[startIndex] = offsetAt(startIndex);
+        visited[startIndex] = true;
+        resultList.addToRear(getVertex(startIndex));
+
+        while (top > 0) {
+            int x = stack[top - 1];
+
+            if (nextEdge[x] == offsetAt(x + 1)) {
+                top--;
+            } else {
+                int y = targetAt(nextEdge[x]);
+                nextEdge[x]++;
+                if (!visited[y]) {
+                    visited[y] = true;
+                    nextEdge[y] = offsetAt(y);
+                    stack[top++] = y;
+                    resultList.addToRear(getVertex(y));
+                }
+            }
+        }
+
+        return resultList.iterator();
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest weighted path from
+     * startVertex to targetVertex. The iterator is empty if the target is unreachable.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices in the shortest path
+     * @throws IllegalArgumentException if either vertex is not found in the network
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    @Override
+    public Iterator<String> iteratorShortestPath(String startVertex, String targetVertex) {
+        int startIndex = requireIndex(startVertex);
+        int targetIndex = requireIndex(targetVertex);
+
+        int[] previousVertices = new int[numVertices];
+        double[] distances = dijkstra(startIndex, previousVertices);
+
+        DoubleUnorderedLinkedList<String> path = new DoubleUnorderedLinkedList<>();
+        if (distances[targetIndex] != Double.POSITIVE_INFINITY) {
+            for (int at = targetIndex; at != -1; at = previousVertices[at]) {
+                path.addToFront(getVertex(at));
+            }
+        }
+
+        return path.iterator();
+    }
+
+    /**
+     * Returns the weight of the shortest path in this network.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return the weight of the shortest path, or Double.POSITIVE_INFINITY if unreachable
+     * @throws IllegalArgumentException if either vertex is not found in the network
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    @Override
+    public double shortestPathWeight(String vertex1, String vertex2) {
+        int startIndex = requireIndex(vertex1);
+        int targetIndex = requireIndex(vertex2);
+
+        return dijkstra(startIndex, new int[numVertices])[targetIndex];
+    }
+
+    /**
+     * Calculates the dijkstra algorithm over the mapped CSR sections with an indexed
+     * binary heap.
+     *
+     * @param startIndex       the start index
+     * @param previousVertices the array of values of previous vertices
+     * @return an array of double with the distances
+     * @throws NegativeCycleException if the search reaches an edge with a negative weight
+     */
+    protected double[] dijkstra(int startIndex, int[] previousVertices) {
+        double[] distances = new double[numVertices];
+        boolean[] tight = new boolean[numVertices];
+        IndexedMinHeap frontier = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            previousVertices[i] = -1;
+        }
+        distances[startIndex] = 0;
+        frontier.addElement(startIndex, 0);
+
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            tight[u] = true;
+
+            long end = offsetAt(u + 1);
+            for (long k = offsetAt(u); k < end; k++) {
+                int z = targetAt(k);
+                if (!tight[z]) {
+                    double weight = weightAt(k);
+                    if (weight < 0) {
+                        throw new NegativeCycleException(Network.NEGATIVE_WEIGHT_ERROR);
+                    }
+                    double newDistance = distances[u] + weight;
+                    if (newDistance < distances[z]) {
+                        distances[z] = newDistance;
+                        previousVertices[z] = u;
+                        frontier.addOrDecreaseKey(z, newDistance);
+                    }
+                }
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Checks if the network is empty.
+     *
+     * @return true if the network is empty, false otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return numVertices == 0;
+    }
+
+    /**
+     * Checks if the network is connected, in O(V + E) time.
+     *
+     * @return true if the network is connected, false otherwise
+     */
+    @Override
+    public boolean isConnected() {
+        if (numVertices <= 1) {
+            return true;
+        }
+
+        int[] queue = new int[numVertices];
+        boolean[] visited = new boolean[numVertices];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited[0] = true;
+
+        while (head < tail) {
+            int x = queue[head++];
+            long end = offsetAt(x + 1);
+            for (long k = offsetAt(x); k < end; k++) {
+                int y = targetAt(k);
+                if (!visited[y]) {
+                    visited[y] = true;
+                    queue[tail++] = y;
+                }
+            }
+        }
+
+        return tail == numVertices;
+    }
+
+    /**
+     * Returns the number of vertices in the network.
+     *
+     * @return the number of vertices
+     */
+    @Override
+    public int size() {
+        return numVertices;
+    }
+
+    /**
+     * Returns the number of directed edge entries stored, which is twice the number
+     * of undirected edges that are not self loops.
+     *
+     * @return the number of stored edge entries
+     */
+    public long edgeEntryCount() {
+        return numEdgeEntries;
+    }
+
+    /**
+     * Checks whether the weights are stored as floats rather than doubles.
+     *
+     * @return true if the weights are stored with single precision, false otherwise
+     */
+    public boolean isSinglePrecision() {
+        return weightSize == Float.BYTES;
+    }
+
+    /**
+     * Returns the number of neighbours of the vertex at the given index.
+     *
+     * @param index the index of the vertex
+     * @return the degree of the vertex
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public int degree(int index) {
+        checkIndex(index);
+        return (int) (offsetAt(index + 1) - offsetAt(index));
+    }
+
+    /**
+     * Returns the index of a given vertex, looking it up in the hash table of the file.
+     *
+     * @param vertex the vertex to find the index of
+     * @return the index of the vertex
+     * @throws NoSuchElementException if the vertex is not found
+     */
+    public int getIndex(String vertex) {
+        int index = indexOf(vertex);
+        if (index == -1) {
+            throw new NoSuchElementException("Vertex not found: " + vertex);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the vertex based on the index, decoding its name from the file.
+     *
+     * @param index the index of the vertex to find
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    public String getVertex(int index) {
+        checkIndex(index);
+        long start = nameOffsets.getLong((long) index * Long.BYTES);
+        long end = nameOffsets.getLong((long) (index + 1) * Long.BYTES);
+        byte[] bytes = new byte[(int) (end - start)];
+        for (int b = 0; b < bytes.length; b++) {
+            bytes[b] = names.getByte(start + b);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a double unordered linked list with the adjacent vertices, in O(degree) time.
+     *
+     * @param vertex the vertex whose neighbours are returned
+     * @return a double unordered linked list with all the adjacent vertices
+     * @throws IllegalArgumentException if the vertex is not found in the network
+     */
+    public DoubleUnorderedLinkedList<String> getAdjacentVertices(String vertex) {
+        int index = requireIndex(vertex);
+
+        DoubleUnorderedLinkedList<String> adjacentVertices = new DoubleUnorderedLinkedList<>();
+        long end = offsetAt(index + 1);
+        for (long k = offsetAt(index); k < end; k++) {
+            adjacentVertices.addToRear(getVertex(targetAt(k)));
+        }
+        return adjacentVertices;
+    }
+
+    /**
+     * Checks whether the network contains the specified vertex.
+     *
+     * @param vertex the vertex to check for existence in the network
+     * @return true if the network contains the vertex, false otherwise
+     */
+    public boolean contains(String vertex) {
+        return indexOf(vertex) != -1;
+    }
+
+    /**
+     * Returns the first position in the CSR sections of the neighbours of a vertex.
+     *
+     * @param index the index of the vertex, up to the number of vertices
+     * @return the row offset of the vertex
+     */
+    private long offsetAt(int index) {
+        return offsets.getLong((long) index * Long.BYTES);
+    }
+
+    /**
+     * Returns the neighbour stored at a position of the CSR sections.
+     *
+     * @param slot the position of the edge
+     * @return the index of the neighbour
+     */
+    private int targetAt(long slot) {
+        return targets.getInt(slot * Integer.BYTES);
+    }
+
+    /**
+     * Returns the weight stored at a position of the CSR sections.
+     *
+     * @param slot the position of the edge
+     * @return the weight of the edge
+     */
+    private double weightAt(long slot) {
+        if (weightSize == Float.BYTES) {
+            return weights.getFloat(slot * Float.BYTES);
+        }
+        return weights.getDouble(slot * Double.BYTES);
+    }
+
+    /**
+     * Returns the position in the CSR sections of the edge between two vertex indices.
+     *
+     * @param index1 the index of the first vertex
+     * @param index2 the index of the second vertex
+     * @return the position of the edge, or -1 if there is no such edge
+     */
+    private long edgeSlot(int index1, int index2) {
+        long end = offsetAt(index1 + 1);
+        for (long k = offsetAt(index1); k < end; k++) {
+            if (targetAt(k) == index2) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds a vertex in the hash table of the file, comparing the UTF-8 bytes of its name
+     * with the names stored for the indices in its probe sequence.
+     *
+     * @param vertex the vertex to find
+     * @return the index of the vertex, or -1 if it is not in the network
+     */
+    private int indexOf(String vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+
+        byte[] key = vertex.getBytes(StandardCharsets.UTF_8);
+        for (int slot = hash(vertex) & hashMask; ; slot = (slot + 1) & hashMask) {
+            int entry = hashTable.getInt((long) slot * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            if (nameEquals(entry - 1, key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the stored name of a vertex has the given UTF-8 bytes.
+     *
+     * @param index the index of the vertex
+     * @param key   the bytes to compare with
+     * @return true if the name has exactly those bytes, false otherwise
+     */
+    private boolean nameEquals(int index, byte[] key) {
+        long start = nameOffsets.getLong((long) index * Long.BYTES);
+        long end = nameOffsets.getLong((long) (index + 1) * Long.BYTES);
+        if (end - start != key.length) {
+            return false;
+        }
+        for (int b = 0; b < key.length; b++) {
+            if (names.getByte(start + b) != key[b]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of a vertex, translating a missing vertex into an
+     * IllegalArgumentException as the traversal methods of {@link Graph} do.
+     *
+     * @param vertex the vertex to find
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not found
+     */
+    private int requireIndex(String vertex) {
+        int index = indexOf(vertex);
+        if (index != -1) {
+            return index;
+        }
+        throw new IllegalArgumentException("Vertex not found in the network: " + vertex);
+    }
+
+    /**
+     * Checks that the given index is valid.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is invalid
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= numVertices) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    /**
+     * Spreads the hash code of a name over the low bits used by the hash table.
+     *
+     * @param name the name of a vertex
+     * @return the spread hash code
+     */
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Checks whether two byte arrays hold the same bytes.
+     *
+     * @param first  the first array
+     * @param second the second array
+     * @return true if the arrays are equal, false otherwise
+     */
+    private static boolean sameBytes(byte[] first, byte[] second) {
+        if (first.length != second.length) {
+            return false;
+        }
+        for (int b = 0; b < first.length; b++) {
+            if (first[b] != second[b]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rounds a length up to the 8 byte alignment of the sections.
+     *
+     * @param length the length in bytes
+     * @return the aligned length
+     */
+    private static long align(long length) {
+        return (length + 7) & ~7L;
+    }
+
+    /**
+     * MappedSection is one section of the file, mapped in read-only chunks of 1 GiB. The
+     * chunks are a multiple of 8 bytes, so no value of the section spans two of them.
+     */
+    private static final class MappedSection {
+        private final ByteBuffer[] chunks;
+
+        /**
+         * Maps a section of a file.
+         *
+         * @param channel  the open channel of the file
+         * @param position the position of the section in the file
+         * @param length   the length of the section in bytes
+         * @throws IOException if the section cannot be mapped
+         */
+        MappedSection(FileChannel channel, long position, long length) throws IOException {
+            chunks = new ByteBuffer[(int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT)];
+            for (int c = 0; c < chunks.length; c++) {
+                long start = (long) c << CHUNK_SHIFT;
+                long size = Math.min(CHUNK_MASK + 1, length - start);
+                chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position + start, size)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+
+        /**
+         * Reads a byte of the section.
+         *
+         * @param offset the offset of the byte in the section
+         * @return the byte
+         */
+        byte getByte(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].get((int) (offset & CHUNK_MASK));
+        }
+
+        /**
+         * Reads an int of the section.
+         *
+         * @param offset the offset of the int in the section
+         * @return the int
+         */
+        int getInt(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) (offset & CHUNK_MASK));
+        }
+
+        /**
+         * Reads a long of the section.
+         *
+         * @param offset the offset of the long in the section
+         * @return the long
+         */
+        long getLong(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) (offset & CHUNK_MASK));
+        }
+
+        /**
+         * Reads a float of the section.
+         *
+         * @param offset the offset of the float in the section
+         * @return the float
+         */
+        float getFloat(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getFloat((int) (offset & CHUNK_MASK));
+        }
+
+        /**
+         * Reads a double of the section.
+         *
+         * @param offset the offset of the double in the section
+         * @return the double
+         */
+        double getDouble(long offset) {
+            return chunks[(int) (offset >>> CHUNK_SHIFT)].getDouble((int) (offset & CHUNK_MASK));
+        }
+    }
+
+    /**
+     * SectionWriter writes little-endian values to a file through a buffer, keeping count
+     * of the bytes written so that sections can be padded to their alignment.
+     */
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long written;
+
+        /**
+         * Creates a writer at the start of a file.
+         *
+         * @param channel the channel of the file
+         */
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            this.written = 0;
+        }
+
+        /**
+         * Writes an int.
+         *
+         * @param value the value to write
+         * @throws IOException if the file cannot be written
+         */
+        void putInt(int value) throws IOException {
+            ensureRoom(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        /**
+         * Writes a long.
+         *
+         * @param value the value to write
+         * @throws IOException if the file cannot be written
+         */
+        void putLong(long value) throws IOException {
+            ensureRoom(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /**
+         * Writes a float.
+         *
+         * @param value the value to write
+         * @throws IOException if the file cannot be written
+         */
+        void putFloat(float value) throws IOException {
+            ensureRoom(Float.BYTES);
+            buffer.putFloat(value);
+        }
+
+        /**
+         * Writes a double.
+         *
+         * @param value the value to write
+         * @throws IOException if the file cannot be written
+         */
+        void putDouble(double value) throws IOException {
+            ensureRoom(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        /**
+         * Writes an array of bytes.
+         *
+         * @param bytes the bytes to write
+         * @throws IOException if the file cannot be written
+         */
+        void putBytes(byte[] bytes) throws IOException {
+            for (byte value : bytes) {
+                ensureRoom(1);
+                buffer.put(value);
+            }
+        }
+
+        /**
+         * Writes zeros up to the next multiple of 8 bytes.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        void align() throws IOException {
+            padTo(MappedNetwork.align(position()));
+        }
+
+        /**
+         * Writes zeros up to the given position of the file.
+         *
+         * @param position the position to reach
+         * @throws IOException if the file cannot be written
+         */
+        void padTo(long position) throws IOException {
+            while (position() < position) {
+                ensureRoom(1);
+                buffer.put((byte) 0);
+            }
+        }
+
+        /**
+         * Writes the buffered bytes to the file.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Returns the position of the next byte in the file.
+         *
+         * @return the number of bytes written so far, buffered or not
+         */
+        private long position() {
+            return written + buffer.position();
+        }
+
+        /**
+         * Flushes the buffer if it cannot hold the given number of bytes.
+         *
+         * @param bytes the number of bytes about to be written
+         * @throws IOException if the file cannot be written
+         */
+        private void ensureRoom(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -1,23 +1,38 @@
 package dataStructures.graphs;
 
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.heaps.IndexedMinHeap;
 import dataStructures.lists.DoubleUnorderedLinkedList;
 
 import java.util.Iterator;
 
 /**
- * Network represents an adjacency matrix implementation of a weighted graph.
+ * Network represents an adjacency matrix implementation of a weighted undirected graph.
+ * It is a {@link DirectedNetwork} that stores every edge in both directions with the
+ * same weight, so every edge can be crossed either way. A negative edge is therefore a
+ * negative cycle, which the searches that need non-negative weights report as such.
  *
  * @param <T> the type of elements stored in the vertices of the network
  */
-public class Network<T> extends Graph<T> implements NetworkADT<T> {
-    private double[][] weightMatrix;
+public class Network<T> extends DirectedNetwork<T> {
+    static final String NEGATIVE_WEIGHT_ERROR = "Negative weight in an undirected network forms a negative cycle";
+
+    private ShortestPathAlgorithm shortestPathAlgorithm;
+    private double[] potentials;
+    private int potentialsModCount;
+    private AllPairsShortestPaths<T> allPairs;
+    private ContractionHierarchy<T> hierarchy;
+    private CompactNetwork<T> snapshot;
+    private int snapshotModCount;
+    private int snapshotStructureModCount;
+    private DoubleUnorderedLinkedList<DynamicShortestPathTree<T>> dynamicTrees;
 
     /**
      * Creates an empty network.
      */
     public Network() {
-        super();
-        this.weightMatrix = new double[DEFAULT_CAPACITY][DEFAULT_CAPACITY];
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -27,12 +42,31 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      */
     public Network(int num) {
         super(num);
-        this.weightMatrix = new double[num][num];
-        for (int i = 0; i < num; i++) {
-            for (int j = 0; j < num; j++) {
-                weightMatrix[i][j] = Double.POSITIVE_INFINITY;
-            }
+        this.shortestPathAlgorithm = ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA;
+        this.dynamicTrees = new DoubleUnorderedLinkedList<>();
+    }
+
+    /**
+     * Returns the algorithm used by the shortest path queries of this network.
+     *
+     * @return the shortest path algorithm in use
+     */
+    public ShortestPathAlgorithm getShortestPathAlgorithm() {
+        return shortestPathAlgorithm;
+    }
+
+    /**
+     * Selects the algorithm used by {@link #shortestPathWeight(Object, Object)} and
+     * {@link #iteratorShortestPath(Object, Object)}.
+     *
+     * @param shortestPathAlgorithm the algorithm to use
+     * @throws IllegalArgumentException if the algorithm is null
+     */
+    public void setShortestPathAlgorithm(ShortestPathAlgorithm shortestPathAlgorithm) {
+        if (shortestPathAlgorithm == null) {
+            throw new IllegalArgumentException("Shortest path algorithm cannot be null");
         }
+        this.shortestPathAlgorithm = shortestPathAlgorithm;
     }
 
     /**
@@ -48,15 +82,59 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         int index2 = getIndex(vertex2);
 
         if (indexIsValid(index1) && indexIsValid(index2)) {
-            adjMatrix[index1][index2] = true;
-            adjMatrix[index2][index1] = true;
+            double oldWeight = hasEdge(index1, index2) ? weightMatrix[index1][index2] : Double.POSITIVE_INFINITY;
+            connect(index1, index2);
+            connect(index2, index1);
             weightMatrix[index1][index2] = weight;
             weightMatrix[index2][index1] = weight;
+            modCount++;
+            notifyWeightChanged(index1, index2, oldWeight, weight);
         }
     }
 
     /**
-     * Updates the weight of an edge.
+     * Removes the undirected edge between two vertices, in both directions.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @throws IllegalArgumentException if either vertex is invalid
+     */
+    @Override
+    public void removeEdge(T vertex1, T vertex2) {
+        super.removeEdge(vertex1, vertex2);
+        super.removeEdge(vertex2, vertex1);
+    }
+
+    /**
+     * Connects the given pairs of vertex indices in both directions and stores their
+     * weights both ways. A repeated edge keeps the weight added last.
+     *
+     * @param sources the first index of every edge
+     * @param targets the second index of every edge
+     * @param weights the weight of every edge
+     * @param count   the number of edges
+     */
+    @Override
+    void loadEdges(int[] sources, int[] targets, double[] weights, int count) {
+        super.loadEdges(sources, targets, weights, count);
+        for (int e = 0; e < count; e++) {
+            weightMatrix[targets[e]][sources[e]] = weights[e];
+        }
+    }
+
+    /**
+     * Checks whether the adjacency of this network is symmetric. Every edge of an
+     * undirected network is stored in both directions.
+     *
+     * @return true
+     */
+    @Override
+    boolean hasSymmetricAdjacency() {
+        return true;
+    }
+
+    /**
+     * Updates the weight of an edge. Nothing changes if the vertices are not adjacent.
      *
      * @param vertex1 the first vertex
      * @param vertex2 the second vertex
@@ -66,37 +144,92 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         int index1 = getIndex(vertex1);
         int index2 = getIndex(vertex2);
 
-        if (indexIsValid(index1) && indexIsValid(index2)) {
+        if (indexIsValid(index1) && indexIsValid(index2) && hasEdge(index1, index2)
+                && (weightMatrix[index1][index2] != newWeight || weightMatrix[index2][index1] != newWeight)) {
+            double oldWeight = weightMatrix[index1][index2];
             weightMatrix[index1][index2] = newWeight;
             weightMatrix[index2][index1] = newWeight;
+            modCount++;
+            notifyWeightChanged(index1, index2, oldWeight, newWeight);
         }
     }
 
     /**
-     * Returns the weight of the edge between two vertices.
+     * Returns a shortest path tree rooted at the given vertex that stays attached to this
+     * network and is repaired incrementally whenever an edge weight changes, instead of
+     * being searched again from scratch. Trees that are no longer needed should be
+     * detached, so that weight changes stop repairing them.
      *
-     * @param vertex1 the first vertex
-     * @param vertex2 the second vertex
-     * @return the weight of the edge
+     * @param root the root vertex
+     * @return the dynamic shortest path tree
+     * @throws java.util.NoSuchElementException if the root is not found
      */
-    public double getEdgeWeight(T vertex1, T vertex2) {
-        int index1 = getIndex(vertex1);
-        int index2 = getIndex(vertex2);
+    public DynamicShortestPathTree<T> dynamicShortestPathTree(T root) {
+        getIndex(root);
+        DynamicShortestPathTree<T> tree = new DynamicShortestPathTree<>(this, root);
+        dynamicTrees.addToRear(tree);
+        return tree;
+    }
 
-        if (indexIsValid(index1) && indexIsValid(index2)) {
-            return weightMatrix[index1][index2];
+    /**
+     * Stops notifying a dynamic shortest path tree of weight changes.
+     *
+     * @param tree the tree to detach
+     */
+    void detachDynamicTree(DynamicShortestPathTree<T> tree) {
+        if (dynamicTrees.contains(tree)) {
+            try {
+                dynamicTrees.remove(tree);
+            } catch (EmptyCollectionException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Tells every attached dynamic shortest path tree that the weight of an edge changed.
+     *
+     * @param index1    the index of one end of the edge
+     * @param index2    the index of the other end of the edge
+     * @param oldWeight the previous weight, Double.POSITIVE_INFINITY if the edge is new
+     * @param newWeight the new weight
+     */
+    private void notifyWeightChanged(int index1, int index2, double oldWeight, double newWeight) {
+        for (DynamicShortestPathTree<T> tree : dynamicTrees) {
+            tree.edgeWeightChanged(index1, index2, oldWeight, newWeight);
         }
-        return Double.POSITIVE_INFINITY;
     }
 
     /**
-     * Calculates the dijkstra algorithm.
+     * Calculates the dijkstra algorithm with the algorithm selected for this network.
      *
      * @param startIndex the start index
      * @param previousVertices the array of values of previous vertices.
      * @return and array of double with the distances.
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
      */
     protected double[] dijkstra(int startIndex, int[] previousVertices) {
+        switch (shortestPathAlgorithm) {
+            case LINEAR_SCAN_DIJKSTRA:
+                return linearScanDijkstra(startIndex, previousVertices);
+            case BELLMAN_FORD:
+                return bellmanFord(startIndex, previousVertices);
+            case JOHNSON:
+                return johnson(startIndex, previousVertices);
+            default:
+                return binaryHeapDijkstra(startIndex, previousVertices);
+        }
+    }
+
+    /**
+     * Calculates the dijkstra algorithm picking the next vertex with a linear scan
+     * over every vertex, which takes O(V^2) time.
+     *
+     * @param startIndex the start index
+     * @param previousVertices the array of values of previous vertices.
+     * @return and array of double with the distances.
+     */
+    protected double[] linearScanDijkstra(int startIndex, int[] previousVertices) {
         double[] distances = new double[numVertices];
         boolean[] tight = new boolean[numVertices];
 
@@ -106,6 +239,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
             previousVertices[i] = -1;
         }
         distances[startIndex] = 0;
+        settledCount = 0;
 
         while (true) {
             int u = -1;
@@ -121,9 +255,10 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
             if (u == -1) break;
 
             tight[u] = true;
+            settledCount++;
 
             for (int z = 0; z < numVertices; z++) {
-                if (adjMatrix[u][z] && !tight[z]) {
+                if (hasEdge(u, z) && !tight[z]) {
                     double newDistance = distances[u] + weightMatrix[u][z];
                     if (newDistance < distances[z]) {
                         distances[z] = newDistance;
@@ -136,6 +271,880 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         return distances;
     }
 
+    /**
+     * Calculates the dijkstra algorithm picking the next vertex from an indexed binary
+     * heap and relaxing only the real neighbours of each vertex, which takes
+     * O((V + E) log V) time.
+     *
+     * @param startIndex the start index
+     * @param previousVertices the array of values of previous vertices.
+     * @return and array of double with the distances.
+     */
+    protected double[] binaryHeapDijkstra(int startIndex, int[] previousVertices) {
+        return heapSearch(startIndex, -1, previousVertices, null, null);
+    }
+
+    /**
+     * Runs a binary heap search from the start vertex. See
+     * {@link #heapSearch(int[], int, int, double[], DistanceHeuristic, double[], int[], int[], boolean[], IndexedMinHeap)}.
+     *
+     * @param startIndex the start index
+     * @param targetIndex the target index, or -1 to settle every reachable vertex
+     * @param previousVertices the array of values of previous vertices.
+     * @param potentials the vertex potentials, or null to use the weights unchanged
+     * @param heuristic the consistent heuristic guiding the search, or null for none
+     * @return and array of double with the reweighted distances.
+     */
+    private double[] heapSearch(int startIndex, int targetIndex, int[] previousVertices,
+                                double[] potentials, DistanceHeuristic heuristic) {
+        double[] distances = new double[numVertices];
+        settledCount = heapSearch(new int[]{startIndex}, 1, targetIndex, potentials, heuristic, distances,
+                previousVertices, null, new boolean[numVertices], new IndexedMinHeap(numVertices));
+        return distances;
+    }
+
+    /**
+     * Runs a binary heap search from a set of source vertices over edges reweighted by the
+     * given vertex potentials. Without a target this is Dijkstra's algorithm; with one the
+     * search stops once the target is settled, and the heuristic, if any, turns it into A*.
+     *
+     * @param sourceIndices the indices of the sources
+     * @param sourceCount the number of sources in the array
+     * @param targetIndex the target index, or -1 to settle every reachable vertex
+     * @param potentials the vertex potentials, or null to use the weights unchanged
+     * @param heuristic the consistent heuristic guiding the search, or null for none
+     * @param distances filled with the reweighted distances
+     * @param previousVertices filled with the previous vertex of every vertex
+     * @param sourceOf filled with the source every vertex is closest to, or null if not needed
+     * @param tight a buffer of at least one entry per vertex
+     * @param frontier an empty heap able to hold every vertex
+     * @return the number of vertices settled
+     */
+    private int heapSearch(int[] sourceIndices, int sourceCount, int targetIndex, double[] potentials,
+                            DistanceHeuristic heuristic, double[] distances, int[] previousVertices,
+                            int[] sourceOf, boolean[] tight, IndexedMinHeap frontier) {
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            tight[i] = false;
+            previousVertices[i] = -1;
+            if (sourceOf != null) {
+                sourceOf[i] = -1;
+            }
+        }
+        for (int k = 0; k < sourceCount; k++) {
+            int source = sourceIndices[k];
+            double start = potentials == null ? 0 : -potentials[source];
+            if (start < distances[source]) {
+                distances[source] = start;
+                if (sourceOf != null) {
+                    sourceOf[source] = source;
+                }
+                frontier.addOrDecreaseKey(source, start + estimate(heuristic, source, targetIndex, potentials));
+            }
+        }
+        int settled = 0;
+
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            tight[u] = true;
+            settled++;
+
+            if (u == targetIndex) {
+                break;
+            }
+
+            int[] neighbours = adjList[u];
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!tight[z]) {
+                    double weight = weightMatrix[u][z];
+                    if (potentials != null) {
+                        weight = Math.max(0, weight + potentials[u] - potentials[z]);
+                    }
+                    double newDistance = distances[u] + weight;
+                    if (newDistance < distances[z]) {
+                        distances[z] = newDistance;
+                        previousVertices[z] = u;
+                        if (sourceOf != null) {
+                            sourceOf[z] = sourceOf[u];
+                        }
+                        frontier.addOrDecreaseKey(z, newDistance + estimate(heuristic, z, targetIndex, potentials));
+                    }
+                }
+            }
+        }
+
+        return settled;
+    }
+
+    /**
+     * Calculates the shortest paths from the closest of the sources added to the tree to
+     * every vertex, reusing the buffers of the tree.
+     *
+     * @param tree the tree whose sources have been added
+     * @throws NegativeCycleException if the network contains a negative cycle
+     */
+    protected void multiSourceDijkstra(ShortestPathTree<T> tree) {
+        double[] h = treePotentials();
+
+        tree.prepare(this);
+        double[] distances = tree.distances;
+        settledCount = heapSearch(tree.sourceIndices, tree.sourceCount, -1, h, null, distances, tree.previousVertices,
+                tree.sourceOf, tree.settled, tree.frontier);
+
+        if (h != null) {
+            for (int i = 0; i < numVertices; i++) {
+                if (distances[i] != Double.POSITIVE_INFINITY) {
+                    distances[i] += h[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the potentials used by searches that settle every vertex: the Johnson
+     * potentials for the Bellman-Ford and Johnson algorithms, which accept negative
+     * weights, and none for the others.
+     *
+     * @return the vertex potentials, or null if the weights are used unchanged
+     * @throws NegativeCycleException if the network contains a negative cycle
+     */
+    double[] treePotentials() {
+        if (shortestPathAlgorithm == ShortestPathAlgorithm.BELLMAN_FORD
+                || shortestPathAlgorithm == ShortestPathAlgorithm.JOHNSON) {
+            return johnsonPotentials();
+        }
+        return null;
+    }
+
+    /**
+     * Calculates the shortest paths from one source to every vertex into the given
+     * buffers, writing nothing else so that several threads can run it at once.
+     *
+     * @param sourceIndex the source index
+     * @param potentials the vertex potentials, or null to use the weights unchanged
+     * @param sourceBuffer a buffer of at least one entry
+     * @param distances filled with the real distances from the source
+     * @param previousVertices filled with the previous vertex of every vertex
+     * @param tight a buffer of at least one entry per vertex
+     * @param frontier an empty heap able to hold every vertex
+     */
+    void shortestPathRow(int sourceIndex, double[] potentials, int[] sourceBuffer, double[] distances,
+                         int[] previousVertices, boolean[] tight, IndexedMinHeap frontier) {
+        sourceBuffer[0] = sourceIndex;
+        heapSearch(sourceBuffer, 1, -1, potentials, null, distances, previousVertices, null, tight, frontier);
+
+        if (potentials != null) {
+            for (int i = 0; i < numVertices; i++) {
+                if (distances[i] != Double.POSITIVE_INFINITY) {
+                    distances[i] += potentials[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs a Dijkstra search from the spur vertex of a k-shortest paths search, stopping
+     * once the target is settled and skipping the blocked vertices and first hops.
+     *
+     * @param spurIndex the index of the vertex the search starts from
+     * @param targetIndex the index of the target vertex
+     * @param blockedVertices the vertices the search may not enter
+     * @param blockedFirstHops the neighbours the spur vertex may not move to
+     * @param distances filled with the distances from the spur vertex
+     * @param previousVertices filled with the previous vertex of every vertex
+     * @param tight a buffer of at least one entry per vertex
+     * @param frontier a heap able to hold every vertex
+     * @return the distance of the target, or Double.POSITIVE_INFINITY if it cannot be reached
+     */
+    double spurSearch(int spurIndex, int targetIndex, boolean[] blockedVertices, boolean[] blockedFirstHops,
+                      double[] distances, int[] previousVertices, boolean[] tight, IndexedMinHeap frontier) {
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            tight[i] = blockedVertices[i];
+            previousVertices[i] = -1;
+        }
+        frontier.clear();
+        distances[spurIndex] = 0;
+        frontier.addElement(spurIndex, 0);
+
+        while (!frontier.isEmpty()) {
+            int u = frontier.removeMin();
+            tight[u] = true;
+
+            if (u == targetIndex) {
+                break;
+            }
+
+            int[] neighbours = adjList[u];
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!tight[z] && !(u == spurIndex && blockedFirstHops[z])) {
+                    double newDistance = distances[u] + weightMatrix[u][z];
+                    if (newDistance < distances[z]) {
+                        distances[z] = newDistance;
+                        previousVertices[z] = u;
+                        frontier.addOrDecreaseKey(z, newDistance);
+                    }
+                }
+            }
+        }
+
+        return distances[targetIndex];
+    }
+
+    /**
+     * Returns the loopless paths from the start vertex to the target vertex in order of
+     * increasing weight, found lazily with Yen's algorithm: each call to
+     * {@code next()} searches only the spur paths of the path returned before it. Weights
+     * must be non-negative, whatever algorithm is selected.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the paths, cheapest first
+     * @throws IllegalArgumentException if either start or target vertex is invalid
+     */
+    public KShortestPaths<T> kShortestPaths(T startVertex, T targetVertex) {
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
+
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            throw new IllegalArgumentException("Invalid start or target vertex");
+        }
+
+        return new KShortestPaths<>(this, startIndex, targetIndex);
+    }
+
+    /**
+     * Returns a landmark index of this network, to pass as the heuristic of an A* search.
+     * It searches again the first time it is used after the network changes.
+     *
+     * @param landmarkCount the number of landmarks, at most the number of vertices
+     * @return the landmark index of this network
+     * @throws IllegalArgumentException if the number of landmarks is not positive
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public LandmarkIndex<T> landmarkIndex(int landmarkCount) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("The number of landmarks must be positive");
+        }
+        return new LandmarkIndex<>(this, landmarkCount);
+    }
+
+    /**
+     * Returns a contraction hierarchy of this network, cached until a vertex or an edge
+     * is added or removed. Weight changes only customise it again.
+     *
+     * @return the contraction hierarchy of the current network
+     */
+    public ContractionHierarchy<T> contractionHierarchy() {
+        if (hierarchy == null || !hierarchy.isCurrent()) {
+            hierarchy = new ContractionHierarchy<>(this);
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns a minimum spanning forest of this network found with Kruskal's algorithm,
+     * in O(E log V) time.
+     *
+     * @return a new network with every vertex of this one and the edges of the forest
+     */
+    public Network<T> kruskalSpanningForest() {
+        int edgeCount = 0;
+        for (int u = 0; u < numVertices; u++) {
+            edgeCount += degrees[u];
+        }
+
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        double[] weights = new double[edgeCount];
+        edgeCount = 0;
+        for (int u = 0; u < numVertices; u++) {
+            for (int k = 0; k < degrees[u]; k++) {
+                int v = adjList[u][k];
+                if (u < v) {
+                    sources[edgeCount] = u;
+                    targets[edgeCount] = v;
+                    weights[edgeCount] = weightMatrix[u][v];
+                    edgeCount++;
+                }
+            }
+        }
+
+        IndexedMinHeap edges = new IndexedMinHeap(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            edges.addElement(e, weights[e]);
+        }
+
+        DisjointSet trees = new DisjointSet(numVertices);
+        trees.reset(numVertices);
+        int[] treeSources = new int[Math.max(0, numVertices - 1)];
+        int[] treeTargets = new int[treeSources.length];
+        double[] treeWeights = new double[treeSources.length];
+        int treeEdges = 0;
+        while (!edges.isEmpty() && treeEdges < treeSources.length) {
+            int e = edges.removeMin();
+            if (trees.union(sources[e], targets[e])) {
+                treeSources[treeEdges] = sources[e];
+                treeTargets[treeEdges] = targets[e];
+                treeWeights[treeEdges] = weights[e];
+                treeEdges++;
+            }
+        }
+
+        return spanningForest(treeSources, treeTargets, treeWeights, treeEdges);
+    }
+
+    /**
+     * Returns a minimum spanning forest of this network found with the lazy version of
+     * Prim's algorithm, in O(E log V) time.
+     *
+     * @return a new network with every vertex of this one and the edges of the forest
+     */
+    public Network<T> primSpanningForest() {
+        int entryCount = 0;
+        for (int u = 0; u < numVertices; u++) {
+            entryCount += degrees[u];
+        }
+
+        int[] entrySources = new int[entryCount];
+        int[] entryTargets = new int[entryCount];
+        IndexedMinHeap frontier = new IndexedMinHeap(entryCount);
+        boolean[] inTree = new boolean[numVertices];
+        int[] sources = new int[Math.max(0, numVertices - 1)];
+        int[] targets = new int[sources.length];
+        double[] weights = new double[sources.length];
+        int treeEdges = 0;
+        int pushed = 0;
+
+        for (int root = 0; root < numVertices; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            inTree[root] = true;
+            pushed = pushLeavingEdges(root, inTree, frontier, entrySources, entryTargets, pushed);
+
+            while (!frontier.isEmpty()) {
+                int entry = frontier.removeMin();
+                int v = entryTargets[entry];
+                if (inTree[v]) {
+                    continue;
+                }
+
+                sources[treeEdges] = entrySources[entry];
+                targets[treeEdges] = v;
+                weights[treeEdges] = weightMatrix[entrySources[entry]][v];
+                treeEdges++;
+                inTree[v] = true;
+                pushed = pushLeavingEdges(v, inTree, frontier, entrySources, entryTargets, pushed);
+            }
+        }
+
+        return spanningForest(sources, targets, weights, treeEdges);
+    }
+
+    /**
+     * Adds to the heap of Prim's algorithm the edges from a vertex that just joined the
+     * tree to the vertices still outside it, each one as a new adjacency entry.
+     *
+     * @param u            the vertex that joined the tree
+     * @param inTree       whether each vertex is already in a tree
+     * @param frontier     the heap of adjacency entries by weight
+     * @param entrySources the source vertex of every entry
+     * @param entryTargets the target vertex of every entry
+     * @param pushed       the number of entries added so far
+     * @return the number of entries added, including those of this vertex
+     */
+    private int pushLeavingEdges(int u, boolean[] inTree, IndexedMinHeap frontier,
+                                 int[] entrySources, int[] entryTargets, int pushed) {
+        for (int k = 0; k < degrees[u]; k++) {
+            int v = adjList[u][k];
+            if (!inTree[v]) {
+                entrySources[pushed] = u;
+                entryTargets[pushed] = v;
+                frontier.addElement(pushed, weightMatrix[u][v]);
+                pushed++;
+            }
+        }
+        return pushed;
+    }
+
+    /**
+     * Creates the network of a spanning forest, with every vertex of this network in the
+     * same order and the given edges.
+     *
+     * @param sources the first index of every edge
+     * @param targets the second index of every edge
+     * @param weights the weight of every edge
+     * @param count   the number of edges
+     * @return the network of the forest
+     */
+    private Network<T> spanningForest(int[] sources, int[] targets, double[] weights, int count) {
+        Network<T> forest = new Network<>(Math.max(1, numVertices));
+        for (int i = 0; i < numVertices; i++) {
+            forest.addVertex(vertices[i]);
+        }
+        forest.loadEdges(sources, targets, weights, count);
+        return forest;
+    }
+
+    /**
+     * Returns an immutable snapshot of this network in compressed sparse row form, cached
+     * until the network changes. After weight changes only, the new snapshot shares the
+     * vertices and the edges of the previous one.
+     *
+     * @return a snapshot of the current network
+     */
+    public CompactNetwork<T> snapshot() {
+        if (snapshot != null && snapshotModCount == modCount) {
+            return snapshot;
+        }
+
+        int[] offsets = new int[numVertices + 1];
+        for (int i = 0; i < numVertices; i++) {
+            offsets[i + 1] = offsets[i] + degrees[i];
+        }
+        double[] weights = new double[offsets[numVertices]];
+        for (int i = 0; i < numVertices; i++) {
+            for (int k = 0; k < degrees[i]; k++) {
+                weights[offsets[i] + k] = weightMatrix[i][adjList[i][k]];
+            }
+        }
+
+        if (snapshot != null && snapshotStructureModCount == getStructureModCount()) {
+            snapshot = new CompactNetwork<>(snapshot, weights);
+        } else {
+            @SuppressWarnings("unchecked")
+            T[] snapshotVertices = (T[]) new Object[numVertices];
+            int[] targets = new int[offsets[numVertices]];
+            System.arraycopy(vertices, 0, snapshotVertices, 0, numVertices);
+            for (int i = 0; i < numVertices; i++) {
+                if (degrees[i] > 0) {
+                    System.arraycopy(adjList[i], 0, targets, offsets[i], degrees[i]);
+                }
+            }
+            snapshot = new CompactNetwork<>(snapshotVertices, offsets, targets, weights);
+        }
+        snapshotModCount = modCount;
+        snapshotStructureModCount = getStructureModCount();
+        return snapshot;
+    }
+
+    /**
+     * Returns the shortest paths between every pair of vertices of this network, cached
+     * until the network changes.
+     *
+     * @return the all-pairs shortest paths of the current network
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public AllPairsShortestPaths<T> allPairsShortestPaths() {
+        if (allPairs == null || !allPairs.isCurrent()) {
+            allPairs = new AllPairsShortestPaths<>(this, treePotentials());
+        }
+        return allPairs;
+    }
+
+    /**
+     * Returns the tree of shortest paths from a source vertex to every vertex of this
+     * network, which answers any number of distance and path queries from one search.
+     *
+     * @param source the source vertex
+     * @return the shortest path tree rooted at the source
+     * @throws java.util.NoSuchElementException if the source is not found
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public ShortestPathTree<T> shortestPathTree(T source) {
+        return shortestPathTree(source, new ShortestPathTree<>());
+    }
+
+    /**
+     * Computes the tree of shortest paths from a source vertex into the given tree,
+     * reusing its buffers so that repeated searches do not allocate.
+     *
+     * @param source the source vertex
+     * @param tree   the tree to compute, whose previous result is replaced
+     * @return the given tree
+     * @throws IllegalArgumentException if tree is null
+     * @throws java.util.NoSuchElementException if the source is not found
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public ShortestPathTree<T> shortestPathTree(T source, ShortestPathTree<T> tree) {
+        if (tree == null) {
+            throw new IllegalArgumentException("Tree cannot be null");
+        }
+
+        int index = getIndex(source);
+        tree.clearSources();
+        tree.addSource(index);
+        multiSourceDijkstra(tree);
+        return tree;
+    }
+
+    /**
+     * Returns the tree of shortest paths from the closest of several sources to every
+     * vertex of this network, computed in a single search.
+     *
+     * @param sources the source vertices
+     * @return the shortest path tree rooted at the sources
+     * @throws IllegalArgumentException if sources is null
+     * @throws java.util.NoSuchElementException if a source is not found
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public ShortestPathTree<T> shortestPathTree(Iterable<T> sources) {
+        return shortestPathTree(sources, new ShortestPathTree<>());
+    }
+
+    /**
+     * Computes the tree of shortest paths from the closest of several sources into the
+     * given tree, reusing its buffers so that repeated searches do not allocate.
+     *
+     * @param sources the source vertices
+     * @param tree    the tree to compute, whose previous result is replaced
+     * @return the given tree
+     * @throws IllegalArgumentException if sources or tree is null
+     * @throws java.util.NoSuchElementException if a source is not found
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public ShortestPathTree<T> shortestPathTree(Iterable<T> sources, ShortestPathTree<T> tree) {
+        if (sources == null || tree == null) {
+            throw new IllegalArgumentException("Sources and tree cannot be null");
+        }
+
+        tree.clearSources();
+        for (T source : sources) {
+            tree.addSource(getIndex(source));
+        }
+        multiSourceDijkstra(tree);
+        return tree;
+    }
+
+    /**
+     * Calculates the shortest path between two vertices with a bidirectional Dijkstra
+     * search, stopping once no shorter path can remain. Weights must be non-negative.
+     *
+     * @param startIndex the start index
+     * @param targetIndex the target index
+     * @param previousVertices filled with the previous vertex of every vertex on the path
+     * @return and array of double whose entry for the target is its distance.
+     */
+    protected double[] bidirectionalDijkstra(int startIndex, int targetIndex, int[] previousVertices) {
+        double[] forwardDistances = new double[numVertices];
+        double[] backwardDistances = new double[numVertices];
+        int[] backwardPrevious = new int[numVertices];
+        boolean[] forwardTight = new boolean[numVertices];
+        boolean[] backwardTight = new boolean[numVertices];
+        IndexedMinHeap forwardFrontier = new IndexedMinHeap(numVertices);
+        IndexedMinHeap backwardFrontier = new IndexedMinHeap(numVertices);
+
+        for (int i = 0; i < numVertices; i++) {
+            forwardDistances[i] = Double.POSITIVE_INFINITY;
+            backwardDistances[i] = Double.POSITIVE_INFINITY;
+            previousVertices[i] = -1;
+            backwardPrevious[i] = -1;
+        }
+        forwardDistances[startIndex] = 0;
+        backwardDistances[targetIndex] = 0;
+        forwardFrontier.addElement(startIndex, 0);
+        backwardFrontier.addElement(targetIndex, 0);
+
+        double best = startIndex == targetIndex ? 0 : Double.POSITIVE_INFINITY;
+        int meeting = startIndex == targetIndex ? startIndex : -1;
+        settledCount = 0;
+
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            double forwardMin = forwardFrontier.getKey(forwardFrontier.findMin());
+            double backwardMin = backwardFrontier.getKey(backwardFrontier.findMin());
+            if (forwardMin + backwardMin >= best) {
+                break;
+            }
+
+            boolean forward = forwardMin <= backwardMin;
+            IndexedMinHeap frontier = forward ? forwardFrontier : backwardFrontier;
+            double[] distances = forward ? forwardDistances : backwardDistances;
+            double[] otherDistances = forward ? backwardDistances : forwardDistances;
+            int[] previous = forward ? previousVertices : backwardPrevious;
+            boolean[] tight = forward ? forwardTight : backwardTight;
+
+            int u = frontier.removeMin();
+            tight[u] = true;
+            settledCount++;
+
+            int[] neighbours = adjList[u];
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = neighbours[k];
+                if (!tight[z]) {
+                    double newDistance = distances[u] + weightMatrix[u][z];
+                    if (newDistance < distances[z]) {
+                        distances[z] = newDistance;
+                        previous[z] = u;
+                        frontier.addOrDecreaseKey(z, newDistance);
+                    }
+                    if (distances[z] + otherDistances[z] < best) {
+                        best = distances[z] + otherDistances[z];
+                        meeting = z;
+                    }
+                }
+            }
+        }
+
+        if (meeting != -1) {
+            joinPaths(meeting, previousVertices, backwardPrevious);
+        }
+
+        double[] distances = new double[numVertices];
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+        }
+        distances[targetIndex] = best;
+        return distances;
+    }
+
+    /**
+     * Appends the backward path from the meeting vertex to the target onto the forward
+     * path, so that following the previous vertices from the target leads back to the
+     * start. With zero weight edges both paths may share vertices besides the meeting
+     * one, in which case the join is made at the shared vertex closest to the target.
+     *
+     * @param meeting the vertex where the forward and backward searches met
+     * @param previousVertices the previous vertices of the forward search, updated in place
+     * @param backwardPrevious the next vertices towards the target of the backward search
+     */
+    private void joinPaths(int meeting, int[] previousVertices, int[] backwardPrevious) {
+        boolean[] onForwardPath = new boolean[numVertices];
+        for (int at = meeting; at != -1; at = previousVertices[at]) {
+            onForwardPath[at] = true;
+        }
+
+        int join = meeting;
+        for (int at = backwardPrevious[meeting]; at != -1; at = backwardPrevious[at]) {
+            if (onForwardPath[at]) {
+                join = at;
+            }
+        }
+
+        for (int at = join; backwardPrevious[at] != -1; at = backwardPrevious[at]) {
+            previousVertices[backwardPrevious[at]] = at;
+        }
+    }
+
+    /**
+     * Returns the heuristic estimate from a vertex to the target, translated into the
+     * units of the reweighted edges when potentials are in use.
+     *
+     * @param heuristic the heuristic, or null for none
+     * @param vertexIndex the index of the vertex
+     * @param targetIndex the index of the target, or -1 if there is none
+     * @param potentials the vertex potentials, or null
+     * @return the estimate
+     */
+    private double estimate(DistanceHeuristic heuristic, int vertexIndex, int targetIndex, double[] potentials) {
+        if (heuristic == null || targetIndex == -1) {
+            return 0;
+        }
+
+        double estimate = heuristic.estimate(vertexIndex, targetIndex);
+        if (potentials != null) {
+            estimate += potentials[vertexIndex] - potentials[targetIndex];
+        }
+        return estimate;
+    }
+
+    /**
+     * Calculates the shortest path from the start vertex to a single target, running A*
+     * when a heuristic is given. Bellman-Ford runs A* over the Johnson reweighted edges.
+     *
+     * @param startIndex the start index
+     * @param targetIndex the target index
+     * @param previousVertices the array of values of previous vertices.
+     * @param heuristic the consistent heuristic guiding the search, or null for none
+     * @return and array of double whose entry for the target is its distance.
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    protected double[] shortestPathTo(int startIndex, int targetIndex, int[] previousVertices,
+                                      DistanceHeuristic heuristic) {
+        if (shortestPathAlgorithm == ShortestPathAlgorithm.JOHNSON
+                || (heuristic != null && shortestPathAlgorithm == ShortestPathAlgorithm.BELLMAN_FORD)) {
+            double[] h = johnsonPotentials();
+            double[] distances = heapSearch(startIndex, targetIndex, previousVertices, h, heuristic);
+            if (distances[targetIndex] != Double.POSITIVE_INFINITY) {
+                distances[targetIndex] += h[targetIndex];
+            }
+            return distances;
+        }
+
+        if (heuristic == null && shortestPathAlgorithm == ShortestPathAlgorithm.BIDIRECTIONAL_DIJKSTRA) {
+            return bidirectionalDijkstra(startIndex, targetIndex, previousVertices);
+        }
+        if (heuristic == null && shortestPathAlgorithm != ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA) {
+            return dijkstra(startIndex, previousVertices);
+        }
+        return heapSearch(startIndex, targetIndex, previousVertices, null, heuristic);
+    }
+
+    /**
+     * Returns a heuristic bounding the distance to the given target by its fewest-edges
+     * distance times the smallest edge weight, or zero when some weight is negative.
+     *
+     * @param targetVertex the target vertex
+     * @return the hop distance heuristic for the target
+     * @throws java.util.NoSuchElementException if the target vertex is not found
+     */
+    public DistanceHeuristic hopDistanceHeuristic(T targetVertex) {
+        int targetIndex = getIndex(targetVertex);
+        int[] hops = new int[numVertices];
+        int[] queue = new int[numVertices];
+        int head = 0;
+        int tail = 0;
+        double minWeight = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < numVertices; i++) {
+            hops[i] = -1;
+            for (int k = 0; k < degrees[i]; k++) {
+                minWeight = Math.min(minWeight, weightMatrix[i][adjList[i][k]]);
+            }
+        }
+
+        queue[tail++] = targetIndex;
+        hops[targetIndex] = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = adjList[u][k];
+                if (hops[z] == -1) {
+                    hops[z] = hops[u] + 1;
+                    queue[tail++] = z;
+                }
+            }
+        }
+
+        double scale = minWeight > 0 && minWeight != Double.POSITIVE_INFINITY ? minWeight : 0;
+        return (vertexIndex, index) -> index == targetIndex && hops[vertexIndex] > 0 ? hops[vertexIndex] * scale : 0;
+    }
+
+    /**
+     * Calculates the Bellman-Ford algorithm, which accepts negative weights. Rounds of
+     * relaxation over every edge stop as soon as a round changes nothing.
+     *
+     * @param startIndex the start index
+     * @param previousVertices the array of values of previous vertices.
+     * @return and array of double with the distances.
+     * @throws NegativeCycleException if a negative cycle is reachable from the start vertex
+     */
+    protected double[] bellmanFord(int startIndex, int[] previousVertices) {
+        double[] distances = new double[numVertices];
+
+        for (int i = 0; i < numVertices; i++) {
+            distances[i] = Double.POSITIVE_INFINITY;
+            previousVertices[i] = -1;
+        }
+        distances[startIndex] = 0;
+
+        relaxUntilStable(distances, previousVertices);
+        return distances;
+    }
+
+    /**
+     * Calculates the shortest paths with Johnson reweighting. The vertex potentials are
+     * computed with Bellman-Ford only when the network changed since the last query; the
+     * search itself is the binary heap dijkstra over non-negative reweighted edges.
+     *
+     * @param startIndex the start index
+     * @param previousVertices the array of values of previous vertices.
+     * @return and array of double with the distances.
+     * @throws NegativeCycleException if the network contains a negative cycle
+     */
+    protected double[] johnson(int startIndex, int[] previousVertices) {
+        double[] h = johnsonPotentials();
+        double[] distances = heapSearch(startIndex, -1, previousVertices, h, null);
+
+        for (int i = 0; i < numVertices; i++) {
+            if (distances[i] != Double.POSITIVE_INFINITY) {
+                distances[i] += h[i];
+            }
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns the Johnson vertex potentials, recomputing them if the network changed.
+     * The potentials are the distances from a virtual vertex joined to every vertex by
+     * an edge of weight zero, which is why every distance starts at zero.
+     *
+     * @return the vertex potentials
+     * @throws NegativeCycleException if the network contains a negative cycle
+     */
+    private double[] johnsonPotentials() {
+        if (potentials == null || potentialsModCount != modCount || potentials.length != numVertices) {
+            double[] h = new double[numVertices];
+            int[] previousVertices = new int[numVertices];
+
+            for (int i = 0; i < numVertices; i++) {
+                previousVertices[i] = -1;
+            }
+
+            relaxUntilStable(h, previousVertices);
+            potentials = h;
+            potentialsModCount = modCount;
+        }
+
+        return potentials;
+    }
+
+    /**
+     * Relaxes every edge in rounds until a round changes nothing. Without negative cycles
+     * this happens within V rounds; a change in round V + 1 proves a negative cycle.
+     *
+     * @param distances the distances, updated in place
+     * @param previousVertices the array of values of previous vertices, updated in place
+     * @throws NegativeCycleException if the relaxation does not stabilise
+     */
+    private void relaxUntilStable(double[] distances, int[] previousVertices) {
+        int changedVertex = -1;
+
+        for (int round = 0; round <= numVertices; round++) {
+            changedVertex = relaxAllEdges(distances, previousVertices);
+            if (changedVertex == -1) {
+                return;
+            }
+        }
+
+        for (int i = 0; i < numVertices && previousVertices[changedVertex] != -1; i++) {
+            changedVertex = previousVertices[changedVertex];
+        }
+        throw new NegativeCycleException("Negative cycle detected through vertex: " + vertices[changedVertex]);
+    }
+
+    /**
+     * Relaxes every edge of the network once.
+     *
+     * @param distances the distances, updated in place
+     * @param previousVertices the array of values of previous vertices, updated in place
+     * @return the last vertex whose distance decreased, or -1 if none did
+     */
+    private int relaxAllEdges(double[] distances, int[] previousVertices) {
+        int changedVertex = -1;
+
+        for (int u = 0; u < numVertices; u++) {
+            if (distances[u] == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+
+            int[] neighbours = adjList[u];
+            for (int k = 0; k < degrees[u]; k++) {
+                int z = neighbours[k];
+                double newDistance = distances[u] + weightMatrix[u][z];
+                if (newDistance < distances[z]) {
+                    distances[z] = newDistance;
+                    previousVertices[z] = u;
+                    changedVertex = z;
+                }
+            }
+        }
+
+        return changedVertex;
+    }
 
     /**
      * Returns the weight of the shortest path in this network.
@@ -143,6 +1152,7 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
      * @param vertex1 the first vertex
      * @param vertex2 the second vertex
      * @return the weight of the shortest path in this network
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
      */
     @Override
     public double shortestPathWeight(T vertex1, T vertex2) {
@@ -154,46 +1164,96 @@ public class Network<T> extends Graph<T> implements NetworkADT<T> {
         }
 
         int[] previousVertices = new int[numVertices];
-        double[] distances = dijkstra(startIndex, previousVertices);
+        double[] distances = shortestPathTo(startIndex, targetIndex, previousVertices, null);
 
         return distances[targetIndex];
     }
 
-
     /**
-     * Returns the weight of the edge between two vertices, given their indices.
+     * Returns the weight of the shortest path in this network, found with an A* search
+     * guided by the given heuristic.
      *
-     * @param index1 the index of the first vertex
-     * @param index2 the index of the second vertex
-     * @return the weight of the edge, or Double.POSITIVE_INFINITY if no edge exists
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @param heuristic a consistent estimate of the remaining distance
+     * @return the weight of the shortest path in this network
+     * @throws IllegalArgumentException if the heuristic is null
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
      */
-    public double getWeightMatrixValue(int index1, int index2) {
-        if (indexIsValid(index1) && indexIsValid(index2)) {
-            return weightMatrix[index1][index2];
+    public double shortestPathWeight(T vertex1, T vertex2, DistanceHeuristic heuristic) {
+        int startIndex = getIndex(vertex1);
+        int targetIndex = getIndex(vertex2);
+
+        if (heuristic == null) {
+            throw new IllegalArgumentException("Heuristic cannot be null");
         }
-        return Double.POSITIVE_INFINITY;
+
+        return shortestPathTo(startIndex, targetIndex, new int[numVertices], heuristic)[targetIndex];
     }
 
+
     /**
      * Returns an iterator over the vertices in the shortest path from startVertex to targetVertex.
      *
      * @param startVertex  the starting vertex
      * @param targetVertex the target vertex
-     * @return an iterator over the vertices in the shortest path
+     * @return an iterator over the vertices in the shortest path, empty if there is none
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
      */
     @Override
     public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex) {
+        return iteratorShortestPath(startVertex, targetVertex, null);
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest path from startVertex to
+     * targetVertex, found with a bidirectional Dijkstra search whatever algorithm is
+     * selected. Weights must be non-negative.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @return an iterator over the vertices in the shortest path, empty if there is none
+     * @throws IllegalArgumentException if either start or target vertex is invalid
+     */
+    @Override
+    public Iterator<T> iteratorBidirectionalShortestPath(T startVertex, T targetVertex) {
         int startIndex = getIndex(startVertex);
         int targetIndex = getIndex(targetVertex);
 
+        if (!indexIsValid(startIndex) || !indexIsValid(targetIndex)) {
+            throw new IllegalArgumentException("Invalid start or target vertex");
+        }
+
         int[] previousVertices = new int[numVertices];
-        dijkstra(startIndex, previousVertices);
+        double[] distances = bidirectionalDijkstra(startIndex, targetIndex, previousVertices);
 
-        DoubleUnorderedLinkedList<T> path = new DoubleUnorderedLinkedList<>();
-        for (int at = targetIndex; at != -1; at = previousVertices[at]) {
-            path.addToFront(vertices[at]);
+        if (distances[targetIndex] == Double.POSITIVE_INFINITY) {
+            return pathIterator(previousVertices, -1);
         }
+        return pathIterator(previousVertices, targetIndex);
+    }
+
+    /**
+     * Returns an iterator over the vertices in the shortest path from startVertex to
+     * targetVertex, found with an A* search guided by the given heuristic. The search
+     * stops as soon as the target is settled.
+     *
+     * @param startVertex  the starting vertex
+     * @param targetVertex the target vertex
+     * @param heuristic    a consistent estimate of the remaining distance, or null for none
+     * @return an iterator over the vertices in the shortest path, empty if there is none
+     * @throws NegativeCycleException if the selected algorithm detects a negative cycle
+     */
+    public Iterator<T> iteratorShortestPath(T startVertex, T targetVertex, DistanceHeuristic heuristic) {
+        int startIndex = getIndex(startVertex);
+        int targetIndex = getIndex(targetVertex);
 
-        return path.iterator();
+        int[] previousVertices = new int[numVertices];
+        double[] distances = shortestPathTo(startIndex, targetIndex, previousVertices, heuristic);
+
+        if (distances[targetIndex] == Double.POSITIVE_INFINITY) {
+            return pathIterator(previousVertices, -1);
+        }
+        return pathIterator(previousVertices, targetIndex);
     }
 }
@@ -0,0 +1,329 @@
+package dataStructures.graphs;
+
+/**
+ * NetworkBuilder collects vertices and weighted edges in growable primitive arrays and
+ * freezes them into a {@link CompactNetwork} or builds them into a graph sized for its
+ * final number of vertices.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class NetworkBuilder<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int DEFAULT_MULTIPLIER = 2;
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private T[] vertices;
+    private VertexIndexMap<T> vertexIndex;
+    private int numVertices;
+    private int[] edgeSources;
+    private int[] edgeTargets;
+    private double[] edgeWeights;
+    private int numEdges;
+
+    /**
+     * Creates an empty builder with the default capacity.
+     */
+    public NetworkBuilder() {
+        this(DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty builder sized for the expected number of vertices and edges.
+     *
+     * @param vertexCapacity the expected number of vertices
+     * @param edgeCapacity   the expected number of undirected edges
+     */
+    public NetworkBuilder(int vertexCapacity, int edgeCapacity) {
+        this.vertices = newVertexArray(Math.max(1, vertexCapacity));
+        this.vertexIndex = new VertexIndexMap<>(vertexCapacity);
+        this.edgeSources = new int[Math.max(1, edgeCapacity)];
+        this.edgeTargets = new int[Math.max(1, edgeCapacity)];
+        this.edgeWeights = new double[Math.max(1, edgeCapacity)];
+        this.numVertices = 0;
+        this.numEdges = 0;
+    }
+
+    /**
+     * Adds a vertex to the network being built.
+     *
+     * @param vertex the vertex to add
+     * @return this builder
+     * @throws IllegalArgumentException if the vertex is null or already exists
+     */
+    public NetworkBuilder<T> addVertex(T vertex) {
+        if (vertex == null) {
+            throw new IllegalArgumentException("Vertex cannot be null");
+        }
+        if (indexOf(vertex) != -1) {
+            throw new IllegalArgumentException("Vertex already exists in the network: " + vertex);
+        }
+
+        if (numVertices == vertices.length) {
+            T[] newVertices = newVertexArray(vertices.length * DEFAULT_MULTIPLIER);
+            System.arraycopy(vertices, 0, newVertices, 0, numVertices);
+            vertices = newVertices;
+        }
+
+        vertices[numVertices] = vertex;
+        vertexIndex.put(vertex, numVertices);
+        numVertices++;
+        return this;
+    }
+
+    /**
+     * Adds every vertex of a collection to the network being built.
+     *
+     * @param vertices the vertices to add
+     * @return this builder
+     * @throws IllegalArgumentException if a vertex is null or already exists
+     */
+    public NetworkBuilder<T> addVertices(Iterable<? extends T> vertices) {
+        for (T vertex : vertices) {
+            addVertex(vertex);
+        }
+        return this;
+    }
+
+    /**
+     * Adds an undirected edge with the default weight of 1.0.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @return this builder
+     * @throws IllegalArgumentException if either vertex has not been added
+     */
+    public NetworkBuilder<T> addEdge(T vertex1, T vertex2) {
+        return addEdge(vertex1, vertex2, DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Adds an undirected weighted edge. If the same edge is added more than once,
+     * the last weight wins, as it does in {@link Network}.
+     *
+     * @param vertex1 the first vertex
+     * @param vertex2 the second vertex
+     * @param weight  the weight of the edge
+     * @return this builder
+     * @throws IllegalArgumentException if either vertex has not been added
+     */
+    public NetworkBuilder<T> addEdge(T vertex1, T vertex2, double weight) {
+        int index1 = indexOf(vertex1);
+        int index2 = indexOf(vertex2);
+
+        if (index1 == -1 || index2 == -1) {
+            throw new IllegalArgumentException("Invalid vertex: " + vertex1 + " or " + vertex2);
+        }
+
+        if (numEdges == edgeSources.length) {
+            expandEdgeCapacity();
+        }
+
+        edgeSources[numEdges] = index1;
+        edgeTargets[numEdges] = index2;
+        edgeWeights[numEdges] = weight;
+        numEdges++;
+        return this;
+    }
+
+    /**
+     * Returns the number of vertices added so far.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount() {
+        return numVertices;
+    }
+
+    /**
+     * Checks whether a vertex has already been added to this builder.
+     *
+     * @param vertex the vertex to look for
+     * @return true if the vertex has been added, false otherwise
+     */
+    public boolean contains(T vertex) {
+        return indexOf(vertex) != -1;
+    }
+
+    /**
+     * Returns a vertex added to this builder, by the order in which it was added.
+     *
+     * @param index the index of the vertex
+     * @return the vertex
+     * @throws IndexOutOfBoundsException if no vertex has that index
+     */
+    public T getVertex(int index) {
+        if (index < 0 || index >= numVertices) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+        return vertices[index];
+    }
+
+    /**
+     * Returns the number of undirected edges added so far, counting repeated edges.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount() {
+        return numEdges;
+    }
+
+    /**
+     * Freezes the collected vertices and edges into an immutable compressed sparse
+     * row network. Each undirected edge is stored once in each direction. The builder
+     * can keep being used afterwards without affecting the frozen network.
+     *
+     * @return the compact network
+     */
+    public CompactNetwork<T> freeze() {
+        int[] offsets = new int[numVertices + 1];
+
+        for (int e = 0; e < numEdges; e++) {
+            offsets[edgeSources[e] + 1]++;
+            if (edgeSources[e] != edgeTargets[e]) {
+                offsets[edgeTargets[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < numVertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = new int[numVertices];
+        System.arraycopy(offsets, 0, cursor, 0, numVertices);
+        int[] targets = new int[offsets[numVertices]];
+        double[] weights = new double[offsets[numVertices]];
+
+        for (int e = 0; e < numEdges; e++) {
+            int u = edgeSources[e];
+            int v = edgeTargets[e];
+            targets[cursor[u]] = v;
+            weights[cursor[u]] = edgeWeights[e];
+            cursor[u]++;
+            if (u != v) {
+                targets[cursor[v]] = u;
+                weights[cursor[v]] = edgeWeights[e];
+                cursor[v]++;
+            }
+        }
+
+        return removeRepeatedEdges(offsets, targets, weights);
+    }
+
+    /**
+     * Builds the collected vertices and edges into a new mutable network, created
+     * with room for exactly the vertices added so far.
+     *
+     * @return the network
+     */
+    public Network<T> build() {
+        return buildInto(new Network<>(Math.max(1, numVertices)));
+    }
+
+    /**
+     * Adds the collected vertices and edges to an empty graph, in the order they were
+     * added to this builder. Networks are filled with the weights, plain graphs only
+     * with the edges, and a {@link DirectedNetwork} takes every edge from its first
+     * vertex to its second only. The builder can keep being used afterwards.
+     *
+     * @param graph the empty graph to fill
+     * @param <G>   the type of the graph
+     * @return the filled graph
+     * @throws IllegalArgumentException if the graph is not empty
+     */
+    public <G extends Graph<T>> G buildInto(G graph) {
+        if (graph.size() != 0) {
+            throw new IllegalArgumentException("Graph must be empty to be built into");
+        }
+
+        for (int v = 0; v < numVertices; v++) {
+            graph.addVertex(vertices[v]);
+        }
+        graph.loadEdges(edgeSources, edgeTargets, edgeWeights, numEdges);
+        return graph;
+    }
+
+    /**
+     * Collapses repeated edges inside each row, keeping the weight of the last one added,
+     * and builds the compact network from the resulting arrays.
+     *
+     * @param offsets the row offsets
+     * @param targets the edge targets grouped by row, in insertion order
+     * @param weights the edge weights grouped by row
+     * @return the compact network
+     */
+    private CompactNetwork<T> removeRepeatedEdges(int[] offsets, int[] targets, double[] weights) {
+        int[] slotOf = new int[numVertices];
+        int[] rowOf = new int[numVertices];
+        for (int v = 0; v < numVertices; v++) {
+            rowOf[v] = -1;
+        }
+
+        int[] newOffsets = new int[numVertices + 1];
+        int size = 0;
+
+        for (int u = 0; u < numVertices; u++) {
+            newOffsets[u] = size;
+            for (int k = offsets[u]; k < offsets[u + 1]; k++) {
+                int v = targets[k];
+                if (rowOf[v] == u) {
+                    weights[slotOf[v]] = weights[k];
+                } else {
+                    rowOf[v] = u;
+                    slotOf[v] = size;
+                    targets[size] = v;
+                    weights[size] = weights[k];
+                    size++;
+                }
+            }
+        }
+        newOffsets[numVertices] = size;
+
+        int[] compactTargets = new int[size];
+        double[] compactWeights = new double[size];
+        System.arraycopy(targets, 0, compactTargets, 0, size);
+        System.arraycopy(weights, 0, compactWeights, 0, size);
+
+        T[] compactVertices = newVertexArray(numVertices);
+        System.arraycopy(vertices, 0, compactVertices, 0, numVertices);
+
+        return new CompactNetwork<>(compactVertices, newOffsets, compactTargets, compactWeights);
+    }
+
+    /**
+     * Expands the capacity of the edge arrays.
+     */
+    private void expandEdgeCapacity() {
+        int newCapacity = edgeSources.length * DEFAULT_MULTIPLIER;
+
+        int[] newSources = new int[newCapacity];
+        int[] newTargets = new int[newCapacity];
+        double[] newWeights = new double[newCapacity];
+        System.arraycopy(edgeSources, 0, newSources, 0, numEdges);
+        System.arraycopy(edgeTargets, 0, newTargets, 0, numEdges);
+        System.arraycopy(edgeWeights, 0, newWeights, 0, numEdges);
+
+        edgeSources = newSources;
+        edgeTargets = newTargets;
+        edgeWeights = newWeights;
+    }
+
+    /**
+     * Creates an array for vertices of the element type.
+     *
+     * @param capacity the length of the array
+     * @return the new array
+     */
+    @SuppressWarnings("unchecked")
+    private T[] newVertexArray(int capacity) {
+        return (T[]) new Object[capacity];
+    }
+
+    /**
+     * Returns the index of a vertex already added to this builder.
+     *
+     * @param vertex the vertex to look for
+     * @return the index of the vertex, or -1 if it has not been added
+     */
+    private int indexOf(T vertex) {
+        return vertexIndex.get(vertex);
+    }
+}
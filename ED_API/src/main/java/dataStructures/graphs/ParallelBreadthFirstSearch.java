@@ -0,0 +1,399 @@
+package dataStructures.graphs;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ParallelBreadthFirstSearch computes the breadth-first levels and parents of every
+ * vertex reachable from a start vertex, spreading each level over a fork/join pool.
+ * Each level is expanded top-down or bottom-up, as proposed by Beamer et al.; a
+ * {@link DirectedNetwork} is searched top-down only.
+ */
+public class ParallelBreadthFirstSearch {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int WORD_SHIFT = 6;
+    private static final int CHUNK_SIZE = 1024;
+    private static final int DEFAULT_BUFFER_CAPACITY = 64;
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final int[][] adjList;
+    private final int[] degrees;
+    private final int size;
+    private final boolean bottomUpAllowed;
+    private final int[] levels;
+    private final int[] parents;
+    private final AtomicLongArray visited;
+    private int levelCount;
+    private int reachedCount;
+    private int topDownSteps;
+    private int bottomUpSteps;
+
+    private final int[] frontier;
+    private int frontierSize;
+    private long[] frontierBits;
+    private long[] nextBits;
+    private final int[][] chunkBuffers;
+    private final int[] chunkCounts;
+    private final long[] chunkEdges;
+
+    /**
+     * Searches a graph from a start vertex on the given pool.
+     *
+     * @param graph      the graph to search, which must not change meanwhile
+     * @param startIndex the index of the start vertex
+     * @param pool       the pool the levels are spread over
+     */
+    ParallelBreadthFirstSearch(Graph<?> graph, int startIndex, ForkJoinPool pool) {
+        this.adjList = graph.adjList;
+        this.degrees = graph.degrees;
+        this.size = graph.size();
+        this.bottomUpAllowed = graph.hasSymmetricAdjacency();
+        this.levels = new int[size];
+        this.parents = new int[size];
+        this.visited = new AtomicLongArray(words(size));
+
+        int chunks = Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        this.chunkBuffers = new int[chunks][];
+        this.chunkCounts = new int[chunks];
+        this.chunkEdges = new long[chunks];
+        this.frontier = new int[Math.max(size, 1)];
+
+        search(startIndex, pool);
+    }
+
+    /**
+     * Returns the breadth-first level of every vertex, its number of edges from the start,
+     * or -1 for the vertices that cannot be reached. The array is not copied.
+     *
+     * @return the level of every vertex
+     */
+    public int[] getLevels() {
+        return levels;
+    }
+
+    /**
+     * Returns the parent of every vertex in the breadth-first tree, a neighbour one level
+     * closer to the start, or -1 for the start and the vertices that cannot be reached.
+     * The array is not copied.
+     *
+     * @return the parent of every vertex
+     */
+    public int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * Returns the number of levels, the start vertex being the only vertex of the first one.
+     *
+     * @return the number of levels
+     */
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    /**
+     * Returns the number of vertices reached, the start vertex included.
+     *
+     * @return the number of vertices reached
+     */
+    public int getReachedCount() {
+        return reachedCount;
+    }
+
+    /**
+     * Returns the number of levels expanded top-down.
+     *
+     * @return the number of top-down steps
+     */
+    public int getTopDownSteps() {
+        return topDownSteps;
+    }
+
+    /**
+     * Returns the number of levels expanded bottom-up.
+     *
+     * @return the number of bottom-up steps
+     */
+    public int getBottomUpSteps() {
+        return bottomUpSteps;
+    }
+
+    /**
+     * Runs the search, choosing the direction of every level from the size of the
+     * frontier and the edges still unexplored.
+     *
+     * @param startIndex the index of the start vertex
+     * @param pool       the pool the levels are spread over
+     */
+    private void search(int startIndex, ForkJoinPool pool) {
+        long unexploredEdges = 0;
+        for (int v = 0; v < size; v++) {
+            levels[v] = -1;
+            parents[v] = -1;
+            unexploredEdges += degrees[v];
+        }
+
+        levels[startIndex] = 0;
+        visited.set(startIndex >>> WORD_SHIFT, 1L << startIndex);
+        frontier[0] = startIndex;
+        frontierSize = 1;
+        long frontierEdges = degrees[startIndex];
+        unexploredEdges -= frontierEdges;
+        reachedCount = 1;
+        levelCount = 1;
+        boolean bottomUp = false;
+
+        while (frontierSize > 0) {
+            if (!bottomUp && bottomUpAllowed && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+                toBits();
+            } else if (bottomUp && frontierSize < size / BETA) {
+                bottomUp = false;
+                toArray();
+            }
+
+            int level = levelCount;
+            if (bottomUp) {
+                int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                pool.invoke(new BottomUpTask(level, 0, chunks));
+                long[] swap = frontierBits;
+                frontierBits = nextBits;
+                nextBits = swap;
+                bottomUpSteps++;
+            } else {
+                int chunks = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                pool.invoke(new TopDownTask(level, 0, chunks));
+                joinBuffers(chunks);
+                topDownSteps++;
+            }
+
+            frontierSize = 0;
+            frontierEdges = 0;
+            for (int c = 0; c < chunkCounts.length; c++) {
+                frontierSize += chunkCounts[c];
+                frontierEdges += chunkEdges[c];
+                chunkCounts[c] = 0;
+                chunkEdges[c] = 0;
+            }
+            unexploredEdges -= frontierEdges;
+            reachedCount += frontierSize;
+            if (frontierSize > 0) {
+                levelCount++;
+            }
+        }
+    }
+
+    /**
+     * Joins the buffers filled by the chunks of a top-down step into the next frontier.
+     * The counts are left in place so the caller can add them up.
+     *
+     * @param chunks the number of chunks of the step
+     */
+    private void joinBuffers(int chunks) {
+        int position = 0;
+        for (int c = 0; c < chunks; c++) {
+            if (chunkCounts[c] > 0) {
+                System.arraycopy(chunkBuffers[c], 0, frontier, position, chunkCounts[c]);
+                position += chunkCounts[c];
+            }
+        }
+    }
+
+    /**
+     * Turns the frontier array into the frontier bitset used by bottom-up steps.
+     */
+    private void toBits() {
+        if (frontierBits == null) {
+            frontierBits = new long[words(size)];
+            nextBits = new long[words(size)];
+        }
+        for (int w = 0; w < frontierBits.length; w++) {
+            frontierBits[w] = 0L;
+        }
+        for (int i = 0; i < frontierSize; i++) {
+            frontierBits[frontier[i] >>> WORD_SHIFT] |= 1L << frontier[i];
+        }
+    }
+
+    /**
+     * Turns the frontier bitset back into the frontier array used by top-down steps.
+     */
+    private void toArray() {
+        frontierSize = 0;
+        for (int w = 0; w < frontierBits.length; w++) {
+            long bits = frontierBits[w];
+            while (bits != 0) {
+                frontier[frontierSize++] = (w << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of 64-bit words needed to hold one bit per vertex.
+     *
+     * @param size the number of vertices
+     * @return the number of words
+     */
+    private static int words(int size) {
+        return Math.max(1, (size + (1 << WORD_SHIFT) - 1) >>> WORD_SHIFT);
+    }
+
+    /**
+     * Claims an unvisited vertex for the calling task.
+     *
+     * @param vertex the index of the vertex
+     * @return true if this call marked the vertex as visited, false if it already was
+     */
+    private boolean claim(int vertex) {
+        int word = vertex >>> WORD_SHIFT;
+        long bit = 1L << vertex;
+
+        while (true) {
+            long current = visited.get(word);
+            if ((current & bit) != 0) {
+                return false;
+            }
+            if (visited.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Appends a vertex to the buffer of a chunk, expanding the buffer when needed.
+     *
+     * @param chunk  the chunk
+     * @param vertex the index of the vertex
+     */
+    private void addToChunk(int chunk, int vertex) {
+        int[] buffer = chunkBuffers[chunk];
+        if (buffer == null) {
+            buffer = new int[DEFAULT_BUFFER_CAPACITY];
+            chunkBuffers[chunk] = buffer;
+        } else if (chunkCounts[chunk] == buffer.length) {
+            int[] larger = new int[buffer.length * DEFAULT_MULTIPLIER];
+            System.arraycopy(buffer, 0, larger, 0, buffer.length);
+            buffer = larger;
+            chunkBuffers[chunk] = buffer;
+        }
+        buffer[chunkCounts[chunk]++] = vertex;
+        chunkEdges[chunk] += degrees[vertex];
+    }
+
+    /**
+     * TopDownTask expands a range of chunks of the frontier, splitting it in halves run in
+     * parallel until a single chunk is left.
+     */
+    private class TopDownTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int level;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the chunks in {@code [from, to)}.
+         *
+         * @param level the level of the vertices found
+         * @param from  the first chunk
+         * @param to    the chunk after the last one
+         */
+        TopDownTask(int level, int from, int to) {
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Expands the chunks of this task.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TopDownTask(level, from, middle), new TopDownTask(level, middle, to));
+                return;
+            }
+
+            int end = Math.min(frontierSize, (from + 1) * CHUNK_SIZE);
+            for (int i = from * CHUNK_SIZE; i < end; i++) {
+                int u = frontier[i];
+                int[] neighbours = adjList[u];
+                for (int k = 0; k < degrees[u]; k++) {
+                    int z = neighbours[k];
+                    if (claim(z)) {
+                        levels[z] = level;
+                        parents[z] = u;
+                        addToChunk(from, z);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * BottomUpTask looks for the parents of the unvisited vertices of a range of chunks of
+     * vertices, splitting it in halves run in parallel until a single chunk is left. A
+     * chunk covers whole words of the bitsets, so no other task writes them.
+     */
+    private class BottomUpTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int level;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task for the chunks in {@code [from, to)}.
+         *
+         * @param level the level of the vertices found
+         * @param from  the first chunk
+         * @param to    the chunk after the last one
+         */
+        BottomUpTask(int level, int from, int to) {
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Looks for the parents of the vertices of the chunks of this task.
+         */
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BottomUpTask(level, from, middle), new BottomUpTask(level, middle, to));
+                return;
+            }
+
+            int start = from * CHUNK_SIZE;
+            int end = Math.min(size, start + CHUNK_SIZE);
+            for (int w = start >>> WORD_SHIFT; w < words(end); w++) {
+                nextBits[w] = 0L;
+            }
+
+            for (int v = start; v < end; v++) {
+                int word = v >>> WORD_SHIFT;
+                long bit = 1L << v;
+                if ((visited.get(word) & bit) != 0) {
+                    continue;
+                }
+                int[] neighbours = adjList[v];
+                for (int k = 0; k < degrees[v]; k++) {
+                    int u = neighbours[k];
+                    if ((frontierBits[u >>> WORD_SHIFT] & (1L << u)) != 0) {
+                        visited.set(word, visited.get(word) | bit);
+                        nextBits[word] |= bit;
+                        levels[v] = level;
+                        parents[v] = u;
+                        chunkCounts[from]++;
+                        chunkEdges[from] += degrees[v];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dataStructures.graphs;
+
+/**
+ * ShortestPathAlgorithm enumerates the algorithms a {@link Network} can use to
+ * answer its shortest path queries.
+ */
+public enum ShortestPathAlgorithm {
+    /**
+     * Dijkstra's algorithm choosing the next vertex with a linear scan, O(V^2).
+     */
+    LINEAR_SCAN_DIJKSTRA,
+
+    /**
+     * Dijkstra's algorithm choosing the next vertex from an indexed binary heap
+     * and visiting only real neighbours, O((V + E) log V).
+     */
+    BINARY_HEAP_DIJKSTRA,
+
+    /**
+     * Bidirectional Dijkstra: point-to-point queries grow one binary heap search from
+     * each end and stop once no shorter path can pass between them. Single-source
+     * queries use the binary heap Dijkstra. Requires non-negative weights.
+     */
+    BIDIRECTIONAL_DIJKSTRA,
+
+    /**
+     * Bellman-Ford with early exit, O(V * E). Accepts negative weights and reports
+     * negative cycles reachable from the start vertex.
+     */
+    BELLMAN_FORD,
+
+    /**
+     * Johnson reweighting: Bellman-Ford computes vertex potentials once per change of
+     * the network, after which every query runs the binary heap Dijkstra on the
+     * reweighted, non-negative edges. Reports any negative cycle in the network.
+     */
+    JOHNSON
+}
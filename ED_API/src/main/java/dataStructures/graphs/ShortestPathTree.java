@@ -0,0 +1,178 @@
+package dataStructures.graphs;
+
+import dataStructures.heaps.IndexedMinHeap;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+/**
+ * ShortestPathTree holds the result of one search from one or more sources, so that
+ * distance and path queries can be answered without searching again. It refuses to
+ * answer once the graph has been changed.
+ *
+ * <p>Passing a tree back to a search method of {@link Graph} or {@link Network} reuses
+ * its buffers, which only grow when the graph does.</p>
+ *
+ * @param <T> the type of elements stored in the vertices of the graph
+ */
+public class ShortestPathTree<T> {
+    private Graph<T> graph;
+    private int modCount;
+    double[] distances;
+    int[] previousVertices;
+    int[] sourceOf;
+    boolean[] settled;
+    int[] queue;
+    IndexedMinHeap frontier;
+    int[] sourceIndices;
+    int sourceCount;
+
+    /**
+     * Creates an empty tree, to be computed by one of the search methods of a graph.
+     */
+    public ShortestPathTree() {
+        this.distances = new double[0];
+        this.previousVertices = new int[0];
+        this.sourceOf = new int[0];
+        this.settled = new boolean[0];
+        this.queue = new int[0];
+        this.frontier = new IndexedMinHeap(0);
+        this.sourceIndices = new int[1];
+        this.sourceCount = 0;
+    }
+
+    /**
+     * Forgets the sources of the previous search, so the ones of the next search can be added.
+     */
+    void clearSources() {
+        sourceCount = 0;
+    }
+
+    /**
+     * Adds the index of a source of the next search.
+     *
+     * @param index the index of the source
+     */
+    void addSource(int index) {
+        if (sourceCount == sourceIndices.length) {
+            int[] newSourceIndices = new int[sourceIndices.length * 2];
+            System.arraycopy(sourceIndices, 0, newSourceIndices, 0, sourceCount);
+            sourceIndices = newSourceIndices;
+        }
+        sourceIndices[sourceCount++] = index;
+    }
+
+    /**
+     * Prepares the tree for a new search of the given graph, growing its buffers if
+     * needed. Called only once the search can no longer fail.
+     *
+     * @param graph the graph about to be searched
+     */
+    void prepare(Graph<T> graph) {
+        int size = graph.size();
+
+        if (distances.length < size) {
+            distances = new double[size];
+            previousVertices = new int[size];
+            sourceOf = new int[size];
+            settled = new boolean[size];
+            queue = new int[size];
+        }
+        frontier.ensureCapacity(size);
+        frontier.clear();
+
+        this.graph = graph;
+        this.modCount = graph.getModCount();
+    }
+
+    /**
+     * Returns the distance of a vertex from its closest source.
+     *
+     * @param vertex the vertex
+     * @return the distance, or Double.POSITIVE_INFINITY if the vertex is unreachable
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    public double distanceTo(T vertex) {
+        return distances[indexOf(vertex)];
+    }
+
+    /**
+     * Checks whether a vertex can be reached from any of the sources.
+     *
+     * @param vertex the vertex
+     * @return true if there is a path to the vertex, false otherwise
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    public boolean hasPathTo(T vertex) {
+        return sourceOf[indexOf(vertex)] != -1;
+    }
+
+    /**
+     * Returns the source a vertex is closest to, which is where its path starts.
+     *
+     * @param vertex the vertex
+     * @return the closest source, or null if the vertex is unreachable
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    public T sourceOf(T vertex) {
+        int source = sourceOf[indexOf(vertex)];
+        return source == -1 ? null : graph.getVertex(source);
+    }
+
+    /**
+     * Returns the vertex that comes before the given one on its path from the closest source.
+     *
+     * @param vertex the vertex
+     * @return the previous vertex, or null if the vertex is a source or unreachable
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    public T previousVertex(T vertex) {
+        int previous = previousVertices[indexOf(vertex)];
+        return previous == -1 ? null : graph.getVertex(previous);
+    }
+
+    /**
+     * Returns an iterator over the vertices of the shortest path from the closest source
+     * to a vertex.
+     *
+     * @param vertex the vertex where the path ends
+     * @return an iterator over the path, empty if the vertex is unreachable
+     * @throws java.util.NoSuchElementException if the vertex is not found
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    public Iterator<T> iteratorPathTo(T vertex) {
+        int index = indexOf(vertex);
+        DoubleUnorderedLinkedList<T> path = new DoubleUnorderedLinkedList<>();
+
+        if (sourceOf[index] != -1) {
+            for (int at = index; at != -1; at = previousVertices[at]) {
+                path.addToFront(graph.getVertex(at));
+            }
+        }
+
+        return path.iterator();
+    }
+
+    /**
+     * Returns the index of a vertex in the graph, making sure the graph has not changed.
+     *
+     * @param vertex the vertex
+     * @return the index of the vertex
+     * @throws IllegalStateException if the tree has not been computed
+     * @throws ConcurrentModificationException if the graph changed after the tree was built
+     */
+    private int indexOf(T vertex) {
+        if (graph == null) {
+            throw new IllegalStateException("The tree has not been computed");
+        }
+        if (graph.getModCount() != modCount) {
+            throw new ConcurrentModificationException("The graph changed after the tree was built");
+        }
+        return graph.getIndex(vertex);
+    }
+}
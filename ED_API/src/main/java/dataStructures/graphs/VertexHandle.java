@@ -0,0 +1,63 @@
+package dataStructures.graphs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * VertexHandle keeps track of the index of one vertex of a graph while other vertices
+ * are removed, looking the vertex up again only after a removal.
+ *
+ * @param <T> the type of elements stored in the vertices of the graph
+ */
+public class VertexHandle<T> {
+    private final Graph<T> graph;
+    private final T vertex;
+    private int index;
+    private int epoch;
+
+    /**
+     * Creates a handle for a vertex found at the given index.
+     *
+     * @param graph  the graph the vertex belongs to
+     * @param vertex the vertex
+     * @param index  the current index of the vertex
+     */
+    VertexHandle(Graph<T> graph, T vertex, int index) {
+        this.graph = graph;
+        this.vertex = vertex;
+        this.index = index;
+        this.epoch = graph.getRemovalEpoch();
+    }
+
+    /**
+     * Returns the vertex of this handle.
+     *
+     * @return the vertex
+     */
+    public T getVertex() {
+        return vertex;
+    }
+
+    /**
+     * Returns the current index of the vertex, looking it up again only if vertices
+     * were removed since the last call.
+     *
+     * @return the current index of the vertex
+     * @throws NoSuchElementException if the vertex was removed from the graph
+     */
+    public int getIndex() {
+        if (epoch != graph.getRemovalEpoch()) {
+            index = graph.getIndex(vertex);
+            epoch = graph.getRemovalEpoch();
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether the vertex is still in the graph.
+     *
+     * @return true if the vertex has not been removed, false otherwise
+     */
+    public boolean isValid() {
+        return epoch == graph.getRemovalEpoch() || graph.contains(vertex);
+    }
+}
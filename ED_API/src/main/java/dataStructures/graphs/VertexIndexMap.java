@@ -0,0 +1,192 @@
+package dataStructures.graphs;
+
+/**
+ * VertexIndexMap maps vertices to their indices in a graph using open addressing with
+ * linear probing, so lookups, insertions and removals take expected O(1) time.
+ * Removals shift the following entries of the probe sequence back instead of leaving
+ * tombstones, which keeps lookups fast after many removals.
+ *
+ * @param <T> the type of the vertices
+ */
+public class VertexIndexMap<T> {
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int NOT_FOUND = -1;
+
+    private Object[] keys;
+    private int[] values;
+    private int size;
+
+    /**
+     * Creates an empty map sized for the expected number of vertices.
+     *
+     * @param expectedSize the expected number of vertices
+     */
+    public VertexIndexMap(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        keys = new Object[capacity];
+        values = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Returns the index associated with a vertex.
+     *
+     * @param vertex the vertex to look up
+     * @return the index of the vertex, or -1 if the vertex is not in the map
+     */
+    public int get(Object vertex) {
+        if (vertex == null) {
+            return NOT_FOUND;
+        }
+
+        int mask = keys.length - 1;
+        for (int slot = hash(vertex) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(vertex)) {
+                return values[slot];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Associates an index with a vertex, replacing any previous index.
+     *
+     * @param vertex the vertex
+     * @param index  the index of the vertex
+     * @throws IllegalArgumentException if the vertex is null
+     */
+    public void put(T vertex, int index) {
+        if (vertex == null) {
+            throw new IllegalArgumentException("Vertex cannot be null");
+        }
+
+        if (2 * (size + 1) > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(vertex) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(vertex)) {
+                values[slot] = index;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = vertex;
+        values[slot] = index;
+        size++;
+    }
+
+    /**
+     * Removes a vertex from the map.
+     *
+     * @param vertex the vertex to remove
+     * @return the index the vertex had, or -1 if it was not in the map
+     */
+    public int remove(Object vertex) {
+        if (vertex == null) {
+            return NOT_FOUND;
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(vertex) & mask;
+        while (keys[slot] != null && !keys[slot].equals(vertex)) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == null) {
+            return NOT_FOUND;
+        }
+
+        int removed = values[slot];
+        keys[slot] = null;
+        size--;
+
+        int next = (slot + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                keys[next] = null;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Makes sure the map can hold the given number of vertices without resizing.
+     *
+     * @param expectedSize the expected number of vertices
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = tableSizeFor(expectedSize);
+        if (capacity > keys.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * Returns the number of vertices in the map.
+     *
+     * @return the number of vertices
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Rehashes every entry into a table of the given capacity.
+     *
+     * @param capacity the new capacity, a power of two
+     */
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new Object[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of the hash code so that vertices with similar hash codes
+     * do not cluster in the table.
+     *
+     * @param vertex the vertex
+     * @return the spread hash code
+     */
+    private static int hash(Object vertex) {
+        int h = vertex.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the power of two table size that keeps the load factor at most one half.
+     *
+     * @param expectedSize the expected number of vertices
+     * @return the table size
+     */
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < 2 * expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,19 @@
+package dataStructures.graphs;
+
+/**
+ * VertexRemovalMode enumerates the ways a {@link Graph} can close the gap left in its
+ * vertex indices when a vertex is removed.
+ */
+public enum VertexRemovalMode {
+    /**
+     * Every following vertex moves down one index, keeping the insertion order of the
+     * vertices. Rewrites the whole adjacency matrix, O(V^2).
+     */
+    SHIFT_FOLLOWING,
+
+    /**
+     * The last vertex moves into the freed index, so only its row and column change.
+     * The insertion order is lost, but a removal takes O(V).
+     */
+    SWAP_WITH_LAST
+}
@@ -0,0 +1,147 @@
+package dataStructures.graphs;
+
+import java.util.NoSuchElementException;
+
+/**
+ * WeightOverlay is a view of a {@link CompactNetwork} with weights of its own, which
+ * copies the weights in blocks of {@value #BLOCK_SIZE} edge entries the first time an edge
+ * of the block is changed. Overlays of the same network can be used by different threads;
+ * an overlay itself is not synchronised.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class WeightOverlay<T> extends CompactNetwork<T> {
+    private static final int BLOCK_SHIFT = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    private final double[] baseWeights;
+    private final double[][] blocks;
+    private final boolean[] owned;
+    private int copiedBlocks;
+
+    /**
+     * Creates an overlay with no changes over the weights of a network.
+     *
+     * @param network     the network whose vertices and edges are shared
+     * @param baseWeights the weights the overlay starts with
+     */
+    WeightOverlay(CompactNetwork<T> network, double[] baseWeights) {
+        super(network, baseWeights);
+        this.baseWeights = baseWeights;
+        this.blocks = new double[(baseWeights.length + BLOCK_MASK) >>> BLOCK_SHIFT][];
+        this.owned = new boolean[blocks.length];
+        this.copiedBlocks = 0;
+    }
+
+    /**
+     * Creates an overlay that starts with the weights of another overlay and shares its
+     * copied blocks until either of them changes them.
+     *
+     * @param overlay the overlay to start from
+     */
+    private WeightOverlay(WeightOverlay<T> overlay) {
+        super(overlay, overlay.baseWeights);
+        this.baseWeights = overlay.baseWeights;
+        this.blocks = overlay.blocks.clone();
+        this.owned = new boolean[blocks.length];
+        this.copiedBlocks = 0;
+    }
+
+    /**
+     * Changes the weight of the edge between two vertices in this overlay only.
+     *
+     * @param vertex1   the first vertex
+     * @param vertex2   the second vertex
+     * @param newWeight the new weight for the edge
+     * @throws NoSuchElementException   if either vertex is not found
+     * @throws IllegalArgumentException if there is no edge between the vertices
+     */
+    public void updateEdgeWeight(T vertex1, T vertex2, double newWeight) {
+        int index1 = getIndex(vertex1);
+        int index2 = getIndex(vertex2);
+        int slot = edgeSlot(index1, index2);
+
+        if (slot == -1) {
+            throw new IllegalArgumentException("No edge between " + vertex1 + " and " + vertex2);
+        }
+        setWeight(slot, newWeight);
+        if (index1 != index2) {
+            setWeight(edgeSlot(index2, index1), newWeight);
+        }
+    }
+
+    /**
+     * Drops every change of this overlay, going back to the weights of the network.
+     */
+    public void reset() {
+        for (int b = 0; b < blocks.length; b++) {
+            blocks[b] = null;
+            owned[b] = false;
+        }
+        copiedBlocks = 0;
+    }
+
+    /**
+     * Returns a new overlay that starts with the weights of this one, sharing its copied
+     * blocks until either of them changes them.
+     *
+     * @return a new overlay with the current weights of this one
+     */
+    @Override
+    public WeightOverlay<T> overlay() {
+        for (int b = 0; b < owned.length; b++) {
+            owned[b] = false;
+        }
+        copiedBlocks = 0;
+        return new WeightOverlay<>(this);
+    }
+
+    /**
+     * Returns the number of blocks of weights this overlay has copied for itself, which
+     * is the memory it uses beyond its table of blocks.
+     *
+     * @return the number of copied blocks
+     */
+    public int getCopiedBlockCount() {
+        return copiedBlocks;
+    }
+
+    /**
+     * Returns the weight at a position of the CSR arrays, from the copied block when
+     * there is one and from the network otherwise.
+     *
+     * @param slot the position of the edge
+     * @return the weight of the edge in this overlay
+     */
+    @Override
+    double weightAt(int slot) {
+        double[] block = blocks[slot >>> BLOCK_SHIFT];
+        return block == null ? baseWeights[slot] : block[slot & BLOCK_MASK];
+    }
+
+    /**
+     * Stores a weight at a position of the CSR arrays, copying its block first unless
+     * this overlay already owns it.
+     *
+     * @param slot   the position of the edge
+     * @param weight the new weight
+     */
+    private void setWeight(int slot, double weight) {
+        int b = slot >>> BLOCK_SHIFT;
+
+        if (!owned[b]) {
+            int start = b << BLOCK_SHIFT;
+            double[] copy = new double[Math.min(BLOCK_SIZE, baseWeights.length - start)];
+            if (blocks[b] == null) {
+                System.arraycopy(baseWeights, start, copy, 0, copy.length);
+            } else {
+                System.arraycopy(blocks[b], 0, copy, 0, copy.length);
+            }
+            blocks[b] = copy;
+            owned[b] = true;
+            copiedBlocks++;
+        }
+        blocks[b][slot & BLOCK_MASK] = weight;
+    }
+}
@@ -0,0 +1,155 @@
+package dataStructures.graphs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * WeightedPath is one path between two vertices of a network together with its total
+ * weight, as returned by {@link KShortestPaths}. Paths are ordered by weight.
+ *
+ * @param <T> the type of elements stored in the vertices of the network
+ */
+public class WeightedPath<T> implements Iterable<T>, Comparable<WeightedPath<T>> {
+    private final Network<T> network;
+    private final int modCount;
+    final int[] indices;
+    final double weight;
+    final int deviation;
+
+    /**
+     * Creates a path over the given vertex indices.
+     *
+     * @param network   the network the path belongs to
+     * @param indices   the indices of the vertices, from the start to the target
+     * @param weight    the sum of the weights of the edges of the path
+     * @param deviation the position where the path leaves the path it was derived from
+     */
+    WeightedPath(Network<T> network, int[] indices, double weight, int deviation) {
+        this.network = network;
+        this.modCount = network.getModCount();
+        this.indices = indices;
+        this.weight = weight;
+        this.deviation = deviation;
+    }
+
+    /**
+     * Returns the total weight of this path.
+     *
+     * @return the sum of the weights of the edges of the path
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    /**
+     * Returns the number of vertices in this path, the start and the target included.
+     *
+     * @return the number of vertices in the path
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Returns the vertex at the given position of this path.
+     *
+     * @param position the position, where 0 is the start vertex
+     * @return the vertex at that position
+     * @throws IndexOutOfBoundsException if the position is not in the path
+     * @throws ConcurrentModificationException if the network changed after the path was found
+     */
+    public T getVertex(int position) {
+        if (position < 0 || position >= indices.length) {
+            throw new IndexOutOfBoundsException("Invalid position: " + position);
+        }
+        checkCurrent();
+        return network.getVertex(indices[position]);
+    }
+
+    /**
+     * Returns an iterator over the vertices of this path, from the start to the target.
+     *
+     * @return an iterator over the path
+     * @throws ConcurrentModificationException if the network changed after the path was found
+     */
+    @Override
+    public Iterator<T> iterator() {
+        checkCurrent();
+        return new PathIterator();
+    }
+
+    /**
+     * Compares the weight of this path with the weight of another one.
+     *
+     * @param other the other path
+     * @return a negative number, zero or a positive number as this path is lighter than,
+     * as heavy as or heavier than the other one
+     */
+    @Override
+    public int compareTo(WeightedPath<T> other) {
+        return Double.compare(weight, other.weight);
+    }
+
+    /**
+     * Checks whether this path visits the same vertices as another one.
+     *
+     * @param other the other path
+     * @return true if both paths visit the same vertices in the same order, false otherwise
+     */
+    boolean sameVertices(WeightedPath<T> other) {
+        if (indices.length != other.indices.length) {
+            return false;
+        }
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] != other.indices[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes sure the network has not changed since this path was found.
+     *
+     * @throws ConcurrentModificationException if the network changed after the path was found
+     */
+    private void checkCurrent() {
+        if (network.getModCount() != modCount) {
+            throw new ConcurrentModificationException("The network changed after the path was found");
+        }
+    }
+
+    /**
+     * PathIterator walks the vertex indices of the path, looking each vertex up as it goes.
+     */
+    private class PathIterator implements Iterator<T> {
+        private int position = 0;
+
+        /**
+         * Checks whether the path has more vertices.
+         *
+         * @return true if the path has more vertices, false otherwise
+         */
+        @Override
+        public boolean hasNext() {
+            return position < indices.length;
+        }
+
+        /**
+         * Returns the next vertex of the path.
+         *
+         * @return the next vertex
+         * @throws NoSuchElementException if the path is over
+         * @throws ConcurrentModificationException if the network changed after the path was found
+         */
+        @Override
+        public T next() {
+            if (position == indices.length) {
+                throw new NoSuchElementException("The path is over");
+            }
+            checkCurrent();
+            return network.getVertex(indices[position++]);
+        }
+    }
+}
@@ -63,8 +63,9 @@ public class ArrayHeap<T> extends ArrayBinaryTree<T> implements HeapADT<T> {
             throw new EmptyCollectionException(EMPTY_ERROR);
         T minElement = tree[0];
         tree[0] = tree[count - 1];
-        heapifyRemove();
+        tree[count - 1] = null;
         count--;
+        heapifyRemove();
 
         return minElement;
     }
@@ -75,40 +76,37 @@ public class ArrayHeap<T> extends ArrayBinaryTree<T> implements HeapADT<T> {
     private void heapifyRemove() {
         T temp;
         int node = 0;
-        int left = 1;
-        int right = 2;
-        int next;
+        int next = smallerChild(node);
 
-        if ((tree[left] == null) && (tree[right] == null))
-            next = count;
-        else if (tree[left] == null)
-            next = right;
-        else if (tree[right] == null)
-            next = left;
-        else if (((Comparable) tree[left]).compareTo(tree[right]) < 0)
-            next = left;
-        else
-            next = right;
         temp = tree[node];
         while ((next < count) && (((Comparable) tree[next]).compareTo(temp) < 0)) {
             tree[node] = tree[next];
             node = next;
-            left = 2 * node + 1;
-            right = 2 * (node + 1);
-            if ((tree[left] == null) && (tree[right] == null))
-                next = count;
-            else if (tree[left] == null)
-                next = right;
-            else if (tree[right] == null)
-                next = left;
-            else if (((Comparable) tree[left]).compareTo(tree[right]) < 0)
-                next = left;
-            else
-                next = right;
+            next = smallerChild(node);
         }
         tree[node] = temp;
     }
 
+    /**
+     * Returns the index of the child of a node with the lowest value. Only the first
+     * count positions of the array belong to the heap.
+     *
+     * @param node the index of the node
+     * @return the index of its smaller child, or count if the node is a leaf
+     */
+    private int smallerChild(int node) {
+        int left = 2 * node + 1;
+        int right = 2 * (node + 1);
+
+        if (left >= count)
+            return count;
+        if (right >= count)
+            return left;
+        if (((Comparable) tree[left]).compareTo(tree[right]) < 0)
+            return left;
+        return right;
+    }
+
     /**
      * Returns the element with the minimum value in the heap.
      *
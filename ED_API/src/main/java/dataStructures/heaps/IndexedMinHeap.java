@@ -0,0 +1,292 @@
+package dataStructures.heaps;
+
+import java.util.NoSuchElementException;
+
+/**
+ * IndexedMinHeap provides an array implementation of a minheap whose elements
+ * are the integers {@code 0..capacity-1}, each one associated with a double key.
+ * Because the position of every element is tracked, the key of an element already
+ * in the heap can be decreased in logarithmic time, which is what graph algorithms
+ * such as Dijkstra need.
+ */
+public class IndexedMinHeap {
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final String EMPTY_ERROR = "This heap is empty";
+
+    private int[] heap;
+    private int[] positions;
+    private double[] keys;
+    private int count;
+
+    /**
+     * Creates an empty heap able to hold the elements {@code 0..capacity-1}.
+     *
+     * @param capacity the number of distinct elements the heap can hold
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new double[capacity];
+        count = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            positions[i] = -1;
+        }
+    }
+
+    /**
+     * Adds the specified element to this heap with the given key.
+     *
+     * @param element the element to be added to this heap
+     * @param key     the key of the element
+     * @throws IllegalArgumentException if the element is out of range or already in the heap
+     */
+    public void addElement(int element, double key) {
+        if (element < 0 || element >= positions.length) {
+            throw new IllegalArgumentException("Invalid element: " + element);
+        }
+        if (positions[element] != -1) {
+            throw new IllegalArgumentException("Element already in the heap: " + element);
+        }
+
+        heap[count] = element;
+        positions[element] = count;
+        keys[element] = key;
+        count++;
+        heapifyUp(count - 1);
+    }
+
+    /**
+     * Decreases the key of an element already in this heap.
+     *
+     * @param element the element whose key is decreased
+     * @param key     the new key, which must not be greater than the current one
+     * @throws NoSuchElementException   if the element is not in the heap
+     * @throws IllegalArgumentException if the new key is greater than the current one
+     */
+    public void decreaseKey(int element, double key) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("Element not in the heap: " + element);
+        }
+        if (key > keys[element]) {
+            throw new IllegalArgumentException("New key is greater than the current key");
+        }
+
+        keys[element] = key;
+        heapifyUp(positions[element]);
+    }
+
+    /**
+     * Changes the key of an element already in this heap to any value, moving the
+     * element up or down as needed.
+     *
+     * @param element the element whose key is changed
+     * @param key     the new key
+     * @throws NoSuchElementException if the element is not in the heap
+     */
+    public void updateKey(int element, double key) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("Element not in the heap: " + element);
+        }
+
+        double oldKey = keys[element];
+        keys[element] = key;
+        if (key < oldKey) {
+            heapifyUp(positions[element]);
+        } else {
+            heapifyDown(positions[element]);
+        }
+    }
+
+    /**
+     * Adds the element if it is not in this heap, otherwise decreases its key
+     * when the given key is smaller than the current one.
+     *
+     * @param element the element to add or update
+     * @param key     the key of the element
+     * @return true if the heap was changed, false otherwise
+     */
+    public boolean addOrDecreaseKey(int element, double key) {
+        if (!contains(element)) {
+            addElement(element, key);
+            return true;
+        }
+        if (key < keys[element]) {
+            decreaseKey(element, key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element with the lowest key in this heap and returns it.
+     *
+     * @return the element with the lowest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+
+        int minElement = heap[0];
+        count--;
+        positions[minElement] = -1;
+
+        if (count > 0) {
+            heap[0] = heap[count];
+            positions[heap[0]] = 0;
+            heapifyDown(0);
+        }
+
+        return minElement;
+    }
+
+    /**
+     * Returns the element with the lowest key in this heap without removing it.
+     *
+     * @return the element with the lowest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the key currently associated with an element of this heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     * @throws NoSuchElementException if the element is not in the heap
+     */
+    public double getKey(int element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("Element not in the heap: " + element);
+        }
+        return keys[element];
+    }
+
+    /**
+     * Checks whether the element is currently in this heap.
+     *
+     * @param element the element to check
+     * @return true if the element is in the heap, false otherwise
+     */
+    public boolean contains(int element) {
+        return element >= 0 && element < positions.length && positions[element] != -1;
+    }
+
+    /**
+     * Removes every element from this heap, keeping its capacity.
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            positions[heap[i]] = -1;
+        }
+        count = 0;
+    }
+
+    /**
+     * Makes sure this heap can hold the elements {@code 0..capacity-1}.
+     *
+     * @param capacity the required capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= positions.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, positions.length * DEFAULT_MULTIPLIER);
+        int[] newHeap = new int[newCapacity];
+        int[] newPositions = new int[newCapacity];
+        double[] newKeys = new double[newCapacity];
+
+        System.arraycopy(heap, 0, newHeap, 0, count);
+        System.arraycopy(positions, 0, newPositions, 0, positions.length);
+        System.arraycopy(keys, 0, newKeys, 0, keys.length);
+        for (int i = positions.length; i < newCapacity; i++) {
+            newPositions[i] = -1;
+        }
+
+        heap = newHeap;
+        positions = newPositions;
+        keys = newKeys;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Moves the element at the given position up until the ordering property holds.
+     *
+     * @param next the heap position to start from
+     */
+    private void heapifyUp(int next) {
+        int element = heap[next];
+        double key = keys[element];
+
+        while (next != 0 && key < keys[heap[(next - 1) / 2]]) {
+            int parent = heap[(next - 1) / 2];
+            heap[next] = parent;
+            positions[parent] = next;
+            next = (next - 1) / 2;
+        }
+
+        heap[next] = element;
+        positions[element] = next;
+    }
+
+    /**
+     * Moves the element at the given position down until the ordering property holds.
+     *
+     * @param node the heap position to start from
+     */
+    private void heapifyDown(int node) {
+        int element = heap[node];
+        double key = keys[element];
+
+        while (true) {
+            int left = 2 * node + 1;
+            int right = left + 1;
+            int next;
+
+            if (left >= count) {
+                break;
+            } else if (right >= count || keys[heap[left]] <= keys[heap[right]]) {
+                next = left;
+            } else {
+                next = right;
+            }
+
+            if (keys[heap[next]] >= key) {
+                break;
+            }
+
+            heap[node] = heap[next];
+            positions[heap[node]] = node;
+            node = next;
+        }
+
+        heap[node] = element;
+        positions[element] = node;
+    }
+}
@@ -0,0 +1,157 @@
+package dataStructures.queues;
+
+import java.util.NoSuchElementException;
+
+/**
+ * IntArrayQueue represents a circular array implementation of a queue of primitive
+ * {@code int} values. Unlike a {@code QueueADT<Integer>}, it neither boxes the values
+ * nor allocates a node per element, so graph and tree traversals can queue vertex
+ * indices without producing garbage. The capacity is kept a power of two, so wrapping
+ * around the array is a bit mask instead of a division.
+ */
+public class IntArrayQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final String EMPTY_ERROR = "This queue is empty";
+
+    private int[] queue;
+    private int front;
+    private int rear;
+    private int size;
+
+    /**
+     * Creates an empty queue able to hold at least the specified number of values
+     * before growing.
+     *
+     * @param num the initial capacity of the queue
+     */
+    public IntArrayQueue(int num) {
+        int capacity = 1;
+        while (capacity < num) {
+            capacity <<= 1;
+        }
+        queue = new int[capacity];
+        front = 0;
+        rear = 0;
+        size = 0;
+    }
+
+    /**
+     * Creates an empty queue with the default capacity.
+     */
+    public IntArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Expands the capacity of the queue, moving the values to the start of the new array.
+     */
+    private void expandCapacity() {
+        int[] newQueue = new int[queue.length * DEFAULT_MULTIPLIER];
+        int mask = queue.length - 1;
+
+        for (int i = 0; i < size; i++) {
+            newQueue[i] = queue[(front + i) & mask];
+        }
+
+        queue = newQueue;
+        front = 0;
+        rear = size;
+    }
+
+    /**
+     * Adds the specified value to the rear of the queue.
+     *
+     * @param element the value to be added to the queue
+     */
+    public void enqueue(int element) {
+        if (size == queue.length) {
+            expandCapacity();
+        }
+
+        queue[rear] = element;
+        rear = (rear + 1) & (queue.length - 1);
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     *
+     * @return the value removed from the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+
+        int element = queue[front];
+        front = (front + 1) & (queue.length - 1);
+        size--;
+
+        return element;
+    }
+
+    /**
+     * Returns the value at the front of the queue without removing it.
+     *
+     * @return the value at the front of the queue
+     * @throws NoSuchElementException if the queue is empty
+     */
+    public int first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+
+        return queue[front];
+    }
+
+    /**
+     * Removes every value from the queue, keeping its capacity.
+     */
+    public void clear() {
+        front = 0;
+        rear = 0;
+        size = 0;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in the queue.
+     *
+     * @return the number of values in the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a string representation of the queue, from front to rear.
+     *
+     * @return a string representation of the queue
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("IntArrayQueue{");
+        sb.append("queue=[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(queue[(front + i) & (queue.length - 1)]);
+        }
+        sb.append("], size=").append(size);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package dataStructures.stacks;
+
+import java.util.NoSuchElementException;
+
+/**
+ * IntArrayStack represents a growable array implementation of a stack of primitive
+ * {@code int} values. Unlike a {@code StackADT<Integer>}, it neither boxes the values
+ * nor allocates a node per element, so depth-first traversals can stack vertex
+ * indices without producing garbage.
+ */
+public class IntArrayStack {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_MULTIPLIER = 2;
+
+    private final String EMPTY_ERROR = "This stack is empty";
+
+    private int[] stack;
+    private int top;
+
+    /**
+     * Creates an empty stack with the specified capacity.
+     *
+     * @param num the initial capacity of the stack
+     */
+    public IntArrayStack(int num) {
+        stack = new int[Math.max(1, num)];
+        top = 0;
+    }
+
+    /**
+     * Creates an empty stack with the default capacity.
+     */
+    public IntArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Adds the specified value to the top of the stack.
+     *
+     * @param element the value to be pushed onto the stack
+     */
+    public void push(int element) {
+        if (top == stack.length) {
+            int[] newStack = new int[stack.length * DEFAULT_MULTIPLIER];
+            System.arraycopy(stack, 0, newStack, 0, top);
+            stack = newStack;
+        }
+        stack[top++] = element;
+    }
+
+    /**
+     * Removes and returns the value at the top of the stack.
+     *
+     * @return the value at the top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        return stack[--top];
+    }
+
+    /**
+     * Returns the value at the top of the stack without removing it.
+     *
+     * @return the value at the top of the stack
+     * @throws NoSuchElementException if the stack is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException(EMPTY_ERROR);
+        }
+        return stack[top - 1];
+    }
+
+    /**
+     * Removes every value from the stack, keeping its capacity.
+     */
+    public void clear() {
+        top = 0;
+    }
+
+    /**
+     * Checks if the stack is empty.
+     *
+     * @return true if the stack is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return top == 0;
+    }
+
+    /**
+     * Returns the number of values in the stack.
+     *
+     * @return the number of values in the stack
+     */
+    public int size() {
+        return top;
+    }
+
+    /**
+     * Returns a string representation of the stack, from bottom to top.
+     *
+     * @return a string representation of the stack
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("IntArrayStack{");
+        sb.append("stack=[");
+        for (int i = 0; i < top; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(stack[i]);
+        }
+        sb.append("], size=").append(top);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -1,7 +1,7 @@
 package dataStructures.trees;
 
 import dataStructures.lists.DoubleUnorderedLinkedList;
-import dataStructures.queues.CircularArrayQueue;
+import dataStructures.queues.IntArrayQueue;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -243,7 +243,7 @@ public class ArrayBinaryTree<T> implements BinaryTreeADT<T> {
      * @param tempList the temporary list used in the traversal
      */
     protected void levelOrder(int node, DoubleUnorderedLinkedList<T> tempList) {
-        CircularArrayQueue<Integer> queue = new CircularArrayQueue<>();
+        IntArrayQueue queue = new IntArrayQueue();
         if (node < count && tree[node] != null) {
             queue.enqueue(node);
         }
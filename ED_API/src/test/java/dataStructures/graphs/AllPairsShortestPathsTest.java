@@ -0,0 +1,101 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllPairsShortestPathsTest {
+
+    private Network<Integer> createNetwork(int size) {
+        Network<Integer> network = new Network<>();
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 7));
+            network.addEdge(i, (i * 13 + 5) % size, 2.0 + (i % 3));
+        }
+        return network;
+    }
+
+    @Test
+    void testMatchesShortestPathWeight() {
+        Network<Integer> network = createNetwork(70);
+
+        for (ShortestPathAlgorithm algorithm : ShortestPathAlgorithm.values()) {
+            network.setShortestPathAlgorithm(algorithm);
+            AllPairsShortestPaths<Integer> allPairs = network.allPairsShortestPaths();
+
+            for (int start = 0; start < 70; start += 3) {
+                for (int target = 0; target < 70; target++) {
+                    double expected = network.shortestPathWeight(start, target);
+                    assertEquals(expected, allPairs.distance(start, target), 1e-9);
+
+                    Iterator<Integer> path = allPairs.iteratorPath(start, target);
+                    double weight = 0;
+                    int previous = path.next();
+                    assertEquals(start, previous);
+                    while (path.hasNext()) {
+                        int current = path.next();
+                        weight += network.getWeightMatrixValue(previous, current);
+                        previous = current;
+                    }
+                    assertEquals(target, previous);
+                    assertEquals(expected, weight, 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNextHop() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addVertex("D");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+        network.addEdge("A", "C", 5.0);
+
+        AllPairsShortestPaths<String> allPairs = network.allPairsShortestPaths();
+
+        assertEquals("B", allPairs.nextHop("A", "C"));
+        assertEquals("B", allPairs.nextHop("C", "A"));
+        assertNull(allPairs.nextHop("A", "A"));
+        assertNull(allPairs.nextHop("A", "D"));
+        assertEquals(Double.POSITIVE_INFINITY, allPairs.distance("A", "D"));
+        assertFalse(allPairs.iteratorPath("A", "D").hasNext());
+    }
+
+    @Test
+    void testCachedUntilWeightChanges() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+        network.addEdge("A", "C", 5.0);
+
+        AllPairsShortestPaths<String> allPairs = network.allPairsShortestPaths();
+        network.updateEdgeWeight("A", "C", 5.0);
+        assertSame(allPairs, network.allPairsShortestPaths());
+
+        Iterator<String> path = allPairs.iteratorPath("A", "C");
+        assertEquals("A", path.next());
+        network.updateEdgeWeight("A", "C", 1.5);
+        assertFalse(allPairs.isCurrent());
+        assertThrows(ConcurrentModificationException.class, path::next);
+        assertThrows(ConcurrentModificationException.class, () -> allPairs.distance("A", "C"));
+
+        AllPairsShortestPaths<String> updated = network.allPairsShortestPaths();
+        assertNotSame(allPairs, updated);
+        assertEquals(1.5, updated.distance("A", "C"));
+        assertEquals("C", updated.nextHop("A", "C"));
+    }
+}
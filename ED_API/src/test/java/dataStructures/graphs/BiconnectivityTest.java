@@ -0,0 +1,143 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BiconnectivityTest {
+
+    private Graph<Integer> createRandomGraph(int size, int edges, long seed) {
+        Graph<Integer> graph = new Graph<>();
+        Random random = new Random(seed);
+
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int e = 0; e < edges; e++) {
+            graph.addEdge(random.nextInt(size), random.nextInt(size));
+        }
+        return graph;
+    }
+
+    private int countComponents(Graph<Integer> graph, int skippedVertex, int skipped1, int skipped2) {
+        int size = graph.size();
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int components = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (visited[root] || root == skippedVertex) {
+                continue;
+            }
+            components++;
+            int top = 0;
+            stack[top++] = root;
+            visited[root] = true;
+            while (top > 0) {
+                int u = stack[--top];
+                for (int v = 0; v < size; v++) {
+                    boolean skippedEdge = (u == skipped1 && v == skipped2) || (u == skipped2 && v == skipped1);
+                    if (!visited[v] && v != skippedVertex && !skippedEdge && graph.isAdjacent(u, v)) {
+                        visited[v] = true;
+                        stack[top++] = v;
+                    }
+                }
+            }
+        }
+        return components;
+    }
+
+    @Test
+    void testMatchesRemovingEveryEdgeAndVertex() {
+        for (long seed = 1; seed <= 8; seed++) {
+            Graph<Integer> graph = createRandomGraph(25, 30, seed);
+            Biconnectivity<Integer> result = graph.biconnectivity();
+            int components = countComponents(graph, -1, -1, -1);
+            int bridges = 0;
+            int points = 0;
+
+            for (int u = 0; u < graph.size(); u++) {
+                boolean expectedPoint = countComponents(graph, u, -1, -1) > components;
+                assertEquals(expectedPoint, result.isArticulationPoint(u), "vertex " + u);
+                points += expectedPoint ? 1 : 0;
+
+                for (int v = u + 1; v < graph.size(); v++) {
+                    if (graph.isAdjacent(u, v)) {
+                        boolean expectedBridge = countComponents(graph, -1, u, v) > components;
+                        assertEquals(expectedBridge, result.isBridge(u, v), "edge " + u + "-" + v);
+                        assertEquals(expectedBridge, result.isBridge(v, u));
+                        bridges += expectedBridge ? 1 : 0;
+                    } else {
+                        assertFalse(result.isBridge(u, v));
+                    }
+                }
+            }
+            assertEquals(bridges, result.getBridgeCount());
+            assertEquals(points, result.getArticulationPointCount());
+        }
+    }
+
+    @Test
+    void testBridgesOfTwoRoomsJoinedByACorridor() throws EmptyCollectionException {
+        Graph<String> graph = new Graph<>();
+        String[] rooms = {"A", "B", "C", "D", "E", "F"};
+        for (String room : rooms) {
+            graph.addVertex(room);
+        }
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("C", "A");
+        graph.addEdge("C", "D");
+        graph.addEdge("D", "E");
+        graph.addEdge("E", "F");
+        graph.addEdge("F", "D");
+
+        Biconnectivity<String> result = graph.biconnectivity();
+
+        assertEquals(1, result.getBridgeCount());
+        assertTrue(result.isBridge("D", "C"));
+        assertFalse(result.isBridge("A", "B"));
+        assertEquals("C", result.getBridgeStart(0));
+        assertEquals("D", result.getBridgeEnd(0));
+        assertEquals(2, result.getArticulationPointCount());
+        assertTrue(result.isArticulationPoint("C"));
+        assertTrue(result.isArticulationPoint("D"));
+        assertFalse(result.isArticulationPoint("A"));
+        assertEquals("C", result.getArticulationPoints().first());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getBridgeEnd(1));
+        assertThrows(NoSuchElementException.class, () -> result.isArticulationPoint("Z"));
+    }
+
+    @Test
+    void testDeepPathDoesNotOverflow() {
+        Graph<Integer> graph = new Graph<>();
+        int size = 20000;
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 1; i < size; i++) {
+            graph.addEdge(i - 1, i);
+        }
+
+        Biconnectivity<Integer> result = graph.biconnectivity();
+
+        assertEquals(size - 1, result.getBridgeCount());
+        assertEquals(size - 2, result.getArticulationPointCount());
+        assertFalse(result.isArticulationPoint(0));
+    }
+
+    @Test
+    void testChangedGraphIsRefused() {
+        Graph<Integer> graph = createRandomGraph(6, 8, 3);
+        Biconnectivity<Integer> result = graph.biconnectivity();
+
+        graph.addVertex(6);
+        assertFalse(result.isCurrent());
+        assertThrows(ConcurrentModificationException.class, result::getBridgeCount);
+    }
+}
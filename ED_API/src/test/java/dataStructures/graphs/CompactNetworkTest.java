@@ -0,0 +1,153 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactNetworkTest {
+
+    private CompactNetwork<String> buildLine() {
+        return new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .addVertex("C")
+                .addVertex("D")
+                .addEdge("A", "B", 1.0)
+                .addEdge("B", "C", 1.0)
+                .addEdge("C", "D", 1.0)
+                .addEdge("A", "D", 10.0)
+                .freeze();
+    }
+
+    @Test
+    void testFreeze() {
+        CompactNetwork<String> network = buildLine();
+
+        assertEquals(4, network.size());
+        assertEquals(8, network.edgeEntryCount());
+        assertTrue(network.isAdjacent("A", "B"));
+        assertTrue(network.isAdjacent("B", "A"));
+        assertFalse(network.isAdjacent("A", "C"));
+        assertEquals(10.0, network.getEdgeWeight("D", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("A", "C"));
+    }
+
+    @Test
+    void testRepeatedEdgeKeepsLastWeight() {
+        CompactNetwork<String> network = new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .addEdge("A", "B", 5.0)
+                .addEdge("B", "A", 3.0)
+                .freeze();
+
+        assertEquals(2, network.edgeEntryCount());
+        assertEquals(3.0, network.getEdgeWeight("A", "B"));
+        assertEquals(1, network.degree(network.getIndex("A")));
+    }
+
+    @Test
+    void testBuilderRejectsInvalidInput() {
+        NetworkBuilder<String> builder = new NetworkBuilder<String>().addVertex("A");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addVertex("A"));
+        assertThrows(IllegalArgumentException.class, () -> builder.addEdge("A", "B", 1.0));
+    }
+
+    @Test
+    void testIsImmutable() {
+        CompactNetwork<String> network = buildLine();
+
+        assertThrows(UnsupportedOperationException.class, () -> network.addVertex("E"));
+        assertThrows(UnsupportedOperationException.class, () -> network.addEdge("A", "C", 1.0));
+        assertThrows(UnsupportedOperationException.class, () -> network.removeEdge("A", "B"));
+    }
+
+    @Test
+    void testIteratorBFS() {
+        Iterator<String> iterator = buildLine().iteratorBFS("A");
+
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("D", iterator.next());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testIteratorDFS() {
+        Iterator<String> iterator = buildLine().iteratorDFS("A");
+
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("C", iterator.next());
+        assertEquals("D", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testShortestPath() {
+        CompactNetwork<String> network = buildLine();
+
+        assertEquals(3.0, network.shortestPathWeight("A", "D"));
+
+        Iterator<String> iterator = network.iteratorShortestPath("A", "D");
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("C", iterator.next());
+        assertEquals("D", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testMatchesNetwork() {
+        int size = 30;
+        Network<Integer> network = new Network<>(size);
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 2 * size);
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+            builder.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 5));
+            builder.addEdge(i, (i + 1) % size, 1.0 + (i % 5));
+            network.addEdge(i, (i * 7 + 3) % size, 3.0);
+            builder.addEdge(i, (i * 7 + 3) % size, 3.0);
+        }
+
+        CompactNetwork<Integer> compact = builder.freeze();
+        for (int target = 0; target < size; target++) {
+            assertEquals(network.shortestPathWeight(0, target), compact.shortestPathWeight(0, target));
+        }
+    }
+
+    @Test
+    void testIsConnected() {
+        assertTrue(buildLine().isConnected());
+
+        CompactNetwork<String> disconnected = new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .freeze();
+        assertFalse(disconnected.isConnected());
+        assertThrows(NoSuchElementException.class, () -> disconnected.getIndex("C"));
+    }
+
+    @Test
+    void testNegativeWeightIsRefused() {
+        CompactNetwork<String> network = new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .addVertex("C")
+                .addEdge("A", "B", 1.0)
+                .addEdge("B", "C", -1.0)
+                .freeze();
+
+        assertThrows(NegativeCycleException.class, () -> network.shortestPathWeight("A", "C"));
+    }
+}
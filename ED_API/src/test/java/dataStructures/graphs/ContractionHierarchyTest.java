@@ -0,0 +1,168 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContractionHierarchyTest {
+
+    private Network<Integer> createRandomNetwork(int size, long seed) {
+        Network<Integer> network = new Network<>();
+        Random random = new Random(seed);
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 1; i < size; i++) {
+            network.addEdge(i, random.nextInt(i), 1 + random.nextInt(20));
+        }
+        for (int e = 0; e < size; e++) {
+            network.addEdge(random.nextInt(size), random.nextInt(size), 1 + random.nextInt(20));
+        }
+        return network;
+    }
+
+    private void assertValidPath(Network<Integer> network, WeightedPath<Integer> path, int start, int target) {
+        double weight = 0;
+
+        assertEquals(Integer.valueOf(start), path.getVertex(0));
+        assertEquals(Integer.valueOf(target), path.getVertex(path.size() - 1));
+        for (int i = 1; i < path.size(); i++) {
+            double edge = network.getWeightMatrixValue(path.getVertex(i - 1), path.getVertex(i));
+            assertNotEquals(Double.POSITIVE_INFINITY, edge);
+            weight += edge;
+        }
+        assertEquals(path.getWeight(), weight, 1e-9);
+    }
+
+    private void assertMatchesDijkstra(Network<Integer> network, ContractionHierarchy<Integer> hierarchy,
+                                       Random random) {
+        for (int query = 0; query < 60; query++) {
+            int start = random.nextInt(network.size());
+            int target = random.nextInt(network.size());
+            double expected = network.shortestPathWeight(start, target);
+
+            assertEquals(expected, hierarchy.distance(start, target), 1e-9);
+            WeightedPath<Integer> path = hierarchy.shortestPath(start, target);
+            assertEquals(expected, path.getWeight(), 1e-9);
+            assertValidPath(network, path, start, target);
+        }
+    }
+
+    @Test
+    void testQueriesMatchDijkstra() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Network<Integer> network = createRandomNetwork(200, seed);
+            assertMatchesDijkstra(network, network.contractionHierarchy(), new Random(seed));
+        }
+    }
+
+    @Test
+    void testGridQueriesMatchDijkstra() {
+        int side = 20;
+        Network<Integer> network = new Network<>();
+        Random random = new Random(5);
+
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    network.addEdge(index, index + 1, 1 + random.nextInt(9));
+                }
+                if (row + 1 < side) {
+                    network.addEdge(index, index + side, 1 + random.nextInt(9));
+                }
+            }
+        }
+        assertMatchesDijkstra(network, network.contractionHierarchy(), random);
+    }
+
+    @Test
+    void testWeightChangesCustomiseWithoutContractingAgain() {
+        Network<Integer> network = createRandomNetwork(150, 8);
+        ContractionHierarchy<Integer> hierarchy = network.contractionHierarchy();
+        int arcs = hierarchy.getArcCount();
+        Random random = new Random(8);
+
+        for (int round = 0; round < 5; round++) {
+            for (int change = 0; change < 30; change++) {
+                int vertex = random.nextInt(network.size() - 1) + 1;
+                for (int other = 0; other < network.size(); other++) {
+                    if (network.getWeightMatrixValue(vertex, other) != Double.POSITIVE_INFINITY) {
+                        network.updateEdgeWeight(vertex, other, 1 + random.nextInt(40));
+                        break;
+                    }
+                }
+            }
+            assertSame(hierarchy, network.contractionHierarchy());
+            assertEquals(arcs, hierarchy.getArcCount());
+            assertMatchesDijkstra(network, hierarchy, random);
+        }
+    }
+
+    @Test
+    void testTopologyChangeNeedsNewHierarchy() {
+        Network<Integer> network = createRandomNetwork(30, 4);
+        ContractionHierarchy<Integer> hierarchy = network.contractionHierarchy();
+
+        network.addVertex(30);
+        network.addEdge(29, 30, 3.0);
+        assertFalse(hierarchy.isCurrent());
+        assertThrows(ConcurrentModificationException.class, () -> hierarchy.distance(0, 1));
+
+        ContractionHierarchy<Integer> rebuilt = network.contractionHierarchy();
+        assertNotSame(hierarchy, rebuilt);
+        assertEquals(network.shortestPathWeight(0, 30), rebuilt.distance(0, 30), 1e-9);
+    }
+
+    @Test
+    void testUnreachableSameVertexAndNegativeWeights() {
+        Network<Integer> network = new Network<>();
+        for (int i = 0; i < 4; i++) {
+            network.addVertex(i);
+        }
+        network.addEdge(0, 1, 2.0);
+        network.addEdge(2, 3, 1.0);
+        ContractionHierarchy<Integer> hierarchy = network.contractionHierarchy();
+
+        assertEquals(Double.POSITIVE_INFINITY, hierarchy.distance(0, 3));
+        assertEquals(0, hierarchy.shortestPath(0, 3).size());
+        assertEquals(0.0, hierarchy.distance(2, 2));
+        assertEquals(1, hierarchy.shortestPath(2, 2).size());
+
+        network.updateEdgeWeight(2, 3, -1.0);
+        assertThrows(NegativeCycleException.class, () -> hierarchy.distance(0, 1));
+    }
+
+    @Test
+    void testShortcutIgnoresWeightOfMissingEdge() {
+        Network<String> network = new Network<>();
+        String[] names = {"A", "B", "C", "X", "Y", "Z", "W"};
+        for (String name : names) {
+            network.addVertex(name);
+        }
+        String[][] edges = {{"A", "B"}, {"B", "C"}, {"A", "X"}, {"A", "Y"}, {"C", "Z"}, {"C", "W"}, {"X", "Y"}, {"Z", "W"}};
+        for (String[] edge : edges) {
+            network.addEdge(edge[0], edge[1], 1.0);
+        }
+        ContractionHierarchy<String> hierarchy = network.contractionHierarchy();
+        int a = network.getIndex("A");
+        int c = network.getIndex("C");
+        network.weightMatrix[a][c] = 0.5;
+        network.weightMatrix[c][a] = 0.5;
+
+        hierarchy.customize();
+
+        assertEquals(2.0, hierarchy.distance("A", "C"));
+        WeightedPath<String> path = hierarchy.shortestPath("A", "C");
+        assertEquals(3, path.size());
+        assertEquals("B", path.getVertex(1));
+    }
+}
@@ -0,0 +1,217 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectedNetworkTest {
+
+    @Test
+    void testEdgesGoOneWay() throws EmptyCollectionException {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        network.addEdge("B", "C");
+
+        assertTrue(network.isAdjacent("A", "B"));
+        assertFalse(network.isAdjacent("B", "A"));
+        assertEquals(2.0, network.getEdgeWeight("A", "B"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("B", "A"));
+        assertEquals(3.0, network.shortestPathWeight("A", "C"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("C", "A"));
+        assertFalse(network.iteratorShortestPath("C", "A").hasNext());
+        assertTrue(network.isConnected());
+
+        Iterator<String> bfs = network.iteratorBFS("B");
+        assertEquals("B", bfs.next());
+        assertEquals("C", bfs.next());
+        assertFalse(bfs.hasNext());
+    }
+
+    @Test
+    void testComponentsIgnoreDirection() throws EmptyCollectionException {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B");
+        network.addEdge("C", "B");
+
+        assertTrue(network.isConnected());
+        assertEquals(1, network.componentCount());
+        assertTrue(network.isConnected("A", "C"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+    }
+
+    @Test
+    void testRemoveEdgeKeepsTheReverseEdge() {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "A", 4.0);
+        network.removeEdge("A", "B");
+
+        assertFalse(network.isAdjacent("A", "B"));
+        assertTrue(network.isAdjacent("B", "A"));
+        assertEquals(4.0, network.getEdgeWeight("B", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "B"));
+    }
+
+    @Test
+    void testUpdateWeightOfMissingEdgeIsIgnored() {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 1.0);
+        network.updateEdgeWeight("B", "A", 0.5);
+
+        assertFalse(network.isAdjacent("B", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("B", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("B", "A"));
+    }
+
+    @Test
+    void testIncomingVertices() {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "C", 1.0);
+        network.addEdge("B", "C", 1.0);
+        network.addEdge("C", "A", 1.0);
+
+        DoubleUnorderedLinkedList<String> incoming = network.getIncomingVertices("C");
+        assertEquals(2, incoming.size());
+        assertTrue(incoming.contains("A"));
+        assertTrue(incoming.contains("B"));
+        assertTrue(network.getIncomingVertices("B").isEmpty());
+
+        network.removeEdge("B", "C");
+        assertEquals(1, network.getIncomingVertices("C").size());
+    }
+
+    @Test
+    void testIncomingVerticesAfterVertexRemoval() {
+        for (VertexRemovalMode mode : VertexRemovalMode.values()) {
+            DirectedNetwork<Integer> network = new DirectedNetwork<>();
+            network.setVertexRemovalMode(mode);
+            for (int i = 0; i < 5; i++) {
+                network.addVertex(i);
+            }
+            network.addEdge(0, 4, 1.0);
+            network.addEdge(1, 4, 1.0);
+            network.addEdge(4, 3, 1.0);
+            network.addEdge(2, 3, 1.0);
+            network.getIncomingVertices(3);
+
+            network.removeVertex(1);
+
+            DoubleUnorderedLinkedList<Integer> intoFour = network.getIncomingVertices(4);
+            assertEquals(1, intoFour.size(), mode.toString());
+            assertTrue(intoFour.contains(0), mode.toString());
+            DoubleUnorderedLinkedList<Integer> intoThree = network.getIncomingVertices(3);
+            assertEquals(2, intoThree.size(), mode.toString());
+            assertTrue(intoThree.contains(4), mode.toString());
+            assertTrue(intoThree.contains(2), mode.toString());
+            assertEquals(2.0, network.reverseShortestPathTree(3).distanceTo(0));
+        }
+    }
+
+    @Test
+    void testReverseShortestPathTreeMatchesForwardSearches() {
+        Random random = new Random(7);
+        DirectedNetwork<Integer> network = new DirectedNetwork<>();
+        int size = 40;
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int e = 0; e < 120; e++) {
+            network.addEdge(random.nextInt(size), random.nextInt(size), 1 + random.nextInt(20));
+        }
+
+        for (int target = 0; target < size; target += 7) {
+            ShortestPathTree<Integer> reverse = network.reverseShortestPathTree(target);
+            for (int v = 0; v < size; v++) {
+                double expected = network.shortestPathTree(v).distanceTo(target);
+                assertEquals(expected, reverse.distanceTo(v), 1e-9);
+                assertEquals(expected, network.shortestPathWeight(v, target), 1e-9);
+
+                if (v != target && reverse.hasPathTo(v)) {
+                    int next = reverse.previousVertex(v);
+                    assertTrue(network.isAdjacent(v, next));
+                    assertEquals(expected, network.getEdgeWeight(v, next) + reverse.distanceTo(next), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNegativeWeights() {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 4.0);
+        network.addEdge("A", "C", 5.0);
+        network.addEdge("C", "B", -3.0);
+
+        assertEquals(2.0, network.shortestPathWeight("A", "B"));
+        assertEquals(2.0, network.reverseShortestPathTree("B").distanceTo("A"));
+        Iterator<String> path = network.iteratorShortestPath("A", "B");
+        assertEquals("A", path.next());
+        assertEquals("C", path.next());
+        assertEquals("B", path.next());
+        assertFalse(path.hasNext());
+
+        network.addEdge("B", "C", 1.0);
+        assertThrows(NegativeCycleException.class, () -> network.shortestPathWeight("A", "B"));
+        assertThrows(NegativeCycleException.class, () -> network.reverseShortestPathTree("B"));
+    }
+
+    @Test
+    void testDirectedNetworkIsRefusedByBiconnectivity() {
+        DirectedNetwork<String> network = new DirectedNetwork<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 1.0);
+
+        assertThrows(UnsupportedOperationException.class, network::biconnectivity);
+    }
+
+    @Test
+    void testParallelBreadthFirstSearchFollowsDirection() {
+        DirectedNetwork<Integer> network = new DirectedNetwork<>();
+        int size = 2000;
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 1; i < size; i++) {
+            network.addEdge(0, i, 1.0);
+            network.addEdge(i, (i % (size - 1)) + 1, 1.0);
+        }
+
+        ParallelBreadthFirstSearch search = network.parallelBreadthFirstSearch(0);
+        assertEquals(0, search.getBottomUpSteps());
+        assertEquals(size, search.getReachedCount());
+        for (int i = 1; i < size; i++) {
+            assertEquals(1, search.getLevels()[i]);
+            assertEquals(0, search.getParents()[i]);
+        }
+    }
+}
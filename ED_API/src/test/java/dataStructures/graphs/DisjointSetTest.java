@@ -0,0 +1,55 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DisjointSetTest {
+
+    @Test
+    void testUnionAndFind() {
+        DisjointSet set = new DisjointSet(2);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, set.add());
+        }
+        assertEquals(10, set.setCount());
+
+        assertTrue(set.union(0, 1));
+        assertTrue(set.union(2, 3));
+        assertTrue(set.union(1, 3));
+        assertFalse(set.union(0, 2));
+        assertTrue(set.union(7, 8));
+
+        assertEquals(6, set.setCount());
+        assertTrue(set.connected(0, 3));
+        assertEquals(set.find(0), set.find(2));
+        assertFalse(set.connected(3, 7));
+        assertEquals(10, set.size());
+    }
+
+    @Test
+    void testLongChainStaysShallow() {
+        int size = 100000;
+        DisjointSet set = new DisjointSet(size);
+        set.reset(size);
+        for (int i = 1; i < size; i++) {
+            set.union(i - 1, i);
+        }
+
+        assertEquals(1, set.setCount());
+        assertTrue(set.connected(0, size - 1));
+    }
+
+    @Test
+    void testResetAndInvalidElements() {
+        DisjointSet set = new DisjointSet(4);
+        set.reset(3);
+        set.union(0, 2);
+        set.reset(3);
+
+        assertEquals(3, set.setCount());
+        assertFalse(set.connected(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> set.find(3));
+        assertThrows(IllegalArgumentException.class, () -> set.union(-1, 0));
+    }
+}
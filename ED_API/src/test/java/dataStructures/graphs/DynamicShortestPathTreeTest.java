@@ -0,0 +1,184 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicShortestPathTreeTest {
+
+    private Network<Integer> createGrid(int side) {
+        Network<Integer> network = new Network<>();
+
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    network.addEdge(index, index + 1, 1.0 + (index % 3));
+                }
+                if (row + 1 < side) {
+                    network.addEdge(index, index + side, 1.0 + (index % 2));
+                }
+            }
+        }
+        return network;
+    }
+
+    private void assertMatchesFreshSearch(Network<Integer> network, DynamicShortestPathTree<Integer> tree) {
+        ShortestPathTree<Integer> expected = network.shortestPathTree(tree.getRoot());
+
+        for (int vertex = 0; vertex < network.size(); vertex++) {
+            assertEquals(expected.distanceTo(vertex), tree.distanceTo(vertex), 1e-9);
+
+            Iterator<Integer> path = tree.iteratorPathTo(vertex);
+            if (path.hasNext()) {
+                double weight = 0;
+                int previous = path.next();
+                assertEquals(tree.getRoot(), Integer.valueOf(previous));
+                while (path.hasNext()) {
+                    int current = path.next();
+                    weight += network.getWeightMatrixValue(previous, current);
+                    previous = current;
+                }
+                assertEquals(vertex, previous);
+                assertEquals(expected.distanceTo(vertex), weight, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testRepairsMatchFreshSearchAfterRandomUpdates() {
+        int side = 8;
+        Network<Integer> network = createGrid(side);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(0);
+        Random random = new Random(7);
+
+        assertMatchesFreshSearch(network, tree);
+        for (int step = 0; step < 200; step++) {
+            int row = random.nextInt(side);
+            int col = random.nextInt(side - 1);
+            int index = row * side + col;
+            double weight = random.nextInt(4) == 0 ? Double.POSITIVE_INFINITY : 0.5 + random.nextInt(10);
+
+            if (random.nextBoolean()) {
+                network.updateEdgeWeight(index, index + 1, weight);
+            } else {
+                network.updateEdgeWeight(col * side + row, (col + 1) * side + row, weight);
+            }
+            assertMatchesFreshSearch(network, tree);
+        }
+    }
+
+    @Test
+    void testRepairTouchesOnlyAffectedVertices() {
+        int side = 20;
+        Network<Integer> network = createGrid(side);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(0);
+
+        tree.distanceTo(0);
+        assertEquals(side * side, tree.getLastRepairSize());
+
+        int corner = side * side - 1;
+        network.updateEdgeWeight(corner - 1, corner, 0.5);
+        assertMatchesFreshSearch(network, tree);
+        assertTrue(tree.getLastRepairSize() < 10);
+
+        network.addEdge(corner - side, corner, 100.0);
+        network.updateEdgeWeight(corner - 1, corner, 50.0);
+        assertMatchesFreshSearch(network, tree);
+        assertTrue(tree.getLastRepairSize() < 10);
+    }
+
+    @Test
+    void testStructuralChangesAndDetachedTreesSearchAgain() {
+        Network<Integer> network = createGrid(4);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(5);
+
+        tree.distanceTo(0);
+        network.addVertex(16);
+        network.addEdge(15, 16, 2.0);
+        assertMatchesFreshSearch(network, tree);
+
+        tree.detach();
+        network.updateEdgeWeight(5, 6, 9.0);
+        assertMatchesFreshSearch(network, tree);
+        assertEquals(network.size(), tree.getLastRepairSize());
+        assertEquals(Integer.valueOf(15), tree.previousVertex(16));
+        assertNull(tree.previousVertex(5));
+    }
+
+    @Test
+    void testNegativeEdgeIsReportedUntilRemoved() {
+        Network<Integer> network = createGrid(3);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(0);
+
+        tree.distanceTo(8);
+        network.updateEdgeWeight(4, 5, -1.0);
+        assertThrows(NegativeCycleException.class, () -> tree.distanceTo(8));
+
+        network.updateEdgeWeight(4, 5, 1.0);
+        assertMatchesFreshSearch(network, tree);
+    }
+
+    @Test
+    void testNegativeEdgesAreTrackedWhileReported() {
+        Network<Integer> network = createGrid(3);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(0);
+
+        tree.distanceTo(8);
+        network.updateEdgeWeight(4, 5, -1.0);
+        network.updateEdgeWeight(0, 1, -2.0);
+        assertThrows(NegativeCycleException.class, () -> tree.distanceTo(8));
+
+        network.updateEdgeWeight(4, 5, 1.0);
+        assertThrows(NegativeCycleException.class, () -> tree.distanceTo(8));
+
+        network.addVertex(9);
+        assertThrows(NegativeCycleException.class, () -> tree.distanceTo(8));
+
+        network.updateEdgeWeight(0, 1, 3.0);
+        assertMatchesFreshSearch(network, tree);
+        assertEquals(network.size(), tree.getLastRepairSize());
+
+        network.updateEdgeWeight(4, 5, 0.5);
+        assertMatchesFreshSearch(network, tree);
+    }
+
+    @Test
+    void testWeightOfMissingEdgeIsIgnored() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+        DynamicShortestPathTree<String> tree = network.dynamicShortestPathTree("A");
+        tree.distanceTo("C");
+
+        network.updateEdgeWeight("A", "C", 0.5);
+
+        assertFalse(network.isAdjacent("A", "C"));
+        assertEquals(2.0, network.shortestPathWeight("A", "C"));
+        assertEquals(2.0, tree.distanceTo("C"));
+        assertEquals("B", tree.previousVertex("C"));
+    }
+
+    @Test
+    void testNotificationForMissingEdgeChangesNoPath() {
+        Network<Integer> network = createGrid(3);
+        DynamicShortestPathTree<Integer> tree = network.dynamicShortestPathTree(0);
+        tree.distanceTo(8);
+        int repairSize = tree.getLastRepairSize();
+
+        network.modCount++;
+        tree.edgeWeightChanged(0, 8, Double.POSITIVE_INFINITY, 0.5);
+        assertMatchesFreshSearch(network, tree);
+        assertEquals(repairSize, tree.getLastRepairSize());
+    }
+}
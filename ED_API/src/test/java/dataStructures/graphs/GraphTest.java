@@ -3,6 +3,7 @@ package dataStructures.graphs;
 import dataStructures.exceptions.EmptyCollectionException;
 import org.junit.jupiter.api.Test;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -59,6 +60,31 @@ class GraphTest {
 
         graph.removeEdge("A", "B");
         assertFalse(graph.isAdjacent("A", "B"));
+        assertFalse(graph.isAdjacent("B", "A"));
+        assertEquals(2, graph.componentCount());
+    }
+
+    @Test
+    void testRemoveEdgeGivenInReverse() throws EmptyCollectionException {
+        Graph<String> graph = new Graph<>();
+
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+
+        graph.removeEdge("B", "A");
+        assertFalse(graph.isAdjacent("A", "B"));
+        assertFalse(graph.isAdjacent("B", "A"));
+        assertTrue(graph.isAdjacent("C", "B"));
+        assertFalse(graph.iteratorShortestPath("A", "C").hasNext());
+        assertFalse(graph.isConnected());
+
+        Iterator<String> bfs = graph.iteratorBFS("C");
+        assertEquals("C", bfs.next());
+        assertEquals("B", bfs.next());
+        assertFalse(bfs.hasNext());
     }
 
     @Test
@@ -147,4 +173,307 @@ class GraphTest {
         assertTrue(adjacent.contains("C"));
         assertFalse(adjacent.contains("D"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testIndicesAfterRemoveVertex() {
+        Graph<String> graph = new Graph<>(2);
+
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("B", "D");
+
+        graph.removeVertex("B");
+
+        assertEquals(0, graph.getIndex("A"));
+        assertEquals(1, graph.getIndex("C"));
+        assertEquals(2, graph.getIndex("D"));
+        assertFalse(graph.contains("B"));
+        assertThrows(NoSuchElementException.class, () -> graph.getIndex("B"));
+        assertThrows(IllegalArgumentException.class, () -> graph.addVertex("A"));
+
+        graph.addVertex("B");
+        assertEquals(3, graph.getIndex("B"));
+    }
+
+    @Test
+    void testBidirectionalShortestPathMatchesBreadthFirstSearch() throws EmptyCollectionException {
+        Graph<Integer> graph = new Graph<>();
+        int side = 41;
+
+        for (int i = 0; i < side * side; i++) {
+            graph.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    graph.addEdge(index, index + 1);
+                }
+                if (row + 1 < side) {
+                    graph.addEdge(index, index + side);
+                }
+            }
+        }
+
+        int start = 20 * side + 10;
+        int target = 20 * side + 30;
+
+        int forwardLength = countVertices(graph.iteratorFewestEdgesPath(start, target));
+        int forwardSettled = graph.getLastSettledCount();
+
+        Iterator<Integer> path = graph.iteratorBidirectionalShortestPath(start, target);
+        int bidirectionalSettled = graph.getLastSettledCount();
+
+        int previous = path.next();
+        int length = 1;
+        assertEquals(start, previous);
+        while (path.hasNext()) {
+            int current = path.next();
+            assertTrue(graph.isAdjacent(previous, current));
+            previous = current;
+            length++;
+        }
+        assertEquals(target, previous);
+        assertEquals(forwardLength, length);
+        assertTrue(bidirectionalSettled < forwardSettled,
+                "bidirectional settled " + bidirectionalSettled + ", forward settled " + forwardSettled);
+    }
+
+    @Test
+    void testBidirectionalShortestPathWithoutPath() throws EmptyCollectionException {
+        Graph<String> graph = new Graph<>();
+
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addEdge("A", "B");
+
+        assertFalse(graph.iteratorBidirectionalShortestPath("A", "C").hasNext());
+
+        Iterator<String> self = graph.iteratorBidirectionalShortestPath("A", "A");
+        assertEquals("A", self.next());
+        assertFalse(self.hasNext());
+    }
+
+    @Test
+    void testAdjacencyAcrossWordBoundariesAfterRemovals() throws EmptyCollectionException {
+        int size = 150;
+        Graph<Integer> graph = new Graph<>();
+        boolean[][] expected = new boolean[size][size];
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (j - i <= 2 || (i * j + i + j) % 13 == 0) {
+                    graph.addEdge(i, j);
+                    expected[i][j] = true;
+                    expected[j][i] = true;
+                }
+            }
+        }
+
+        int[] removed = {64, 0, 127, 63, 100};
+        boolean[] gone = new boolean[size];
+        for (int vertex : removed) {
+            graph.removeVertex(vertex);
+            gone[vertex] = true;
+        }
+
+        assertEquals(size - removed.length, graph.size());
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (!gone[i] && !gone[j]) {
+                    assertEquals(expected[i][j], graph.isAdjacent(i, j));
+                }
+            }
+        }
+        assertEquals(graph.size(), countVertices(graph.iteratorBFS(1)));
+        assertEquals(graph.size(), countVertices(graph.iteratorDFS(1)));
+        assertTrue(graph.isConnected());
+
+        graph.addVertex(size);
+        assertFalse(graph.isConnected());
+        assertFalse(graph.getAdjacentVertices(size).iterator().hasNext());
+    }
+
+    @Test
+    void testBreadthFirstOrderOnDenseGraph() throws EmptyCollectionException {
+        Graph<Integer> graph = new Graph<>();
+        for (int i = 0; i < 70; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(69, 3);
+        graph.addEdge(69, 65);
+        graph.addEdge(69, 1);
+        graph.addEdge(65, 0);
+        graph.addEdge(3, 2);
+
+        Iterator<Integer> bfs = graph.iteratorBFS(69);
+        int[] expectedOrder = {69, 1, 3, 65, 2, 0};
+        for (int vertex : expectedOrder) {
+            assertEquals(vertex, bfs.next());
+        }
+        assertFalse(bfs.hasNext());
+    }
+
+    @Test
+    void testRemovalModesKeepTheSameEdges() {
+        for (VertexRemovalMode mode : VertexRemovalMode.values()) {
+            int size = 100;
+            Graph<Integer> graph = new Graph<>();
+            graph.setVertexRemovalMode(mode);
+            boolean[][] expected = new boolean[size][size];
+            for (int i = 0; i < size; i++) {
+                graph.addVertex(i);
+            }
+            for (int i = 0; i < size; i++) {
+                for (int j = i; j < size; j++) {
+                    if (j - i == 1 || (i * 7 + j * 5) % 9 == 0) {
+                        graph.addEdge(i, j);
+                        expected[i][j] = true;
+                        expected[j][i] = true;
+                    }
+                }
+            }
+
+            boolean[] gone = new boolean[size];
+            for (int vertex : new int[]{99, 10, 64, 0, 63, 98, 50}) {
+                graph.removeVertex(vertex);
+                gone[vertex] = true;
+            }
+
+            assertEquals(size - 7, graph.size());
+            for (int i = 0; i < size; i++) {
+                if (gone[i]) {
+                    assertFalse(graph.contains(i));
+                    continue;
+                }
+                assertEquals(Integer.valueOf(i), graph.getVertex(graph.getIndex(i)));
+                for (int j = 0; j < size; j++) {
+                    if (!gone[j]) {
+                        assertEquals(expected[i][j], graph.isAdjacent(i, j));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSwapWithLastMovesOnlyTheLastVertex() {
+        Graph<String> graph = new Graph<>();
+        graph.setVertexRemovalMode(VertexRemovalMode.SWAP_WITH_LAST);
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("B", "D");
+        graph.addEdge("D", "D");
+
+        VertexHandle<String> handle = graph.handleOf("D");
+        graph.removeVertex("B");
+
+        assertEquals(0, graph.getIndex("A"));
+        assertEquals(1, graph.getIndex("D"));
+        assertEquals(2, graph.getIndex("C"));
+        assertEquals(1, handle.getIndex());
+        assertTrue(graph.isAdjacent("D", "D"));
+        assertFalse(graph.isAdjacent("D", "C"));
+        assertThrows(IllegalArgumentException.class, () -> graph.setVertexRemovalMode(null));
+    }
+
+    @Test
+    void testComponentsFollowChanges() throws EmptyCollectionException {
+        Graph<Integer> graph = new Graph<>();
+        for (int i = 0; i < 6; i++) {
+            graph.addVertex(i);
+        }
+        assertEquals(6, graph.componentCount());
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+        assertEquals(3, graph.componentCount());
+        assertTrue(graph.isConnected(0, 2));
+        assertFalse(graph.isConnected(2, 3));
+        assertEquals(graph.componentOf(0), graph.componentOf(2));
+        assertEquals(Integer.valueOf(5), graph.componentOf(5));
+
+        graph.removeEdge(1, 2);
+        graph.removeEdge(2, 1);
+        assertEquals(4, graph.componentCount());
+        assertFalse(graph.isConnected(0, 2));
+
+        graph.addEdge(2, 3);
+        graph.addEdge(5, 0);
+        graph.removeVertex(1);
+        assertEquals(2, graph.componentCount());
+        assertTrue(graph.isConnected(2, 4));
+        assertFalse(graph.isConnected(0, 4));
+
+        graph.addEdge(0, 4);
+        assertTrue(graph.isConnected());
+        assertThrows(NoSuchElementException.class, () -> graph.componentOf(1));
+    }
+
+    @Test
+    void testTraversalsAreLazyAndFailFast() throws EmptyCollectionException {
+        Graph<String> graph = new Graph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "C");
+        graph.addEdge("A", "D");
+
+        Iterator<String> dfs = graph.iteratorDFS("A");
+        assertEquals("A", dfs.next());
+        assertEquals("B", dfs.next());
+        assertEquals("C", dfs.next());
+        assertEquals("D", dfs.next());
+        assertFalse(dfs.hasNext());
+        assertThrows(NoSuchElementException.class, dfs::next);
+
+        Iterator<String> bfs = graph.iteratorBFS("A");
+        Iterator<String> path = graph.iteratorFewestEdgesPath("D", "C");
+        assertEquals("A", bfs.next());
+        assertEquals("D", path.next());
+        graph.addEdge("C", "D");
+        assertThrows(ConcurrentModificationException.class, bfs::next);
+        assertThrows(ConcurrentModificationException.class, path::next);
+
+        graph.addVertex("E");
+        assertFalse(graph.iteratorFewestEdgesPath("A", "E").hasNext());
+        assertFalse(graph.iteratorBidirectionalShortestPath("A", "E").hasNext());
+    }
+
+    private int countVertices(Iterator<?> iterator) {
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    void testStructureModCountIgnoresWeightChanges() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        int afterVertices = network.getStructureModCount();
+
+        network.addEdge("A", "B", 1.0);
+        int afterEdge = network.getStructureModCount();
+        assertNotEquals(afterVertices, afterEdge);
+
+        network.updateEdgeWeight("A", "B", 5.0);
+        assertEquals(afterEdge, network.getStructureModCount());
+
+        network.removeEdge("A", "B");
+        assertNotEquals(afterEdge, network.getStructureModCount());
+    }
+}
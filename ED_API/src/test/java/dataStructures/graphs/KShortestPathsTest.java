@@ -0,0 +1,157 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KShortestPathsTest {
+
+    private Network<Integer> createRandomNetwork(int size, long seed) {
+        Network<Integer> network = new Network<>();
+        Random random = new Random(seed);
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (random.nextInt(3) != 0) {
+                    network.addEdge(i, j, 1 + random.nextInt(9));
+                }
+            }
+        }
+        return network;
+    }
+
+    private int countSimplePaths(Network<Integer> network, int at, int target, boolean[] visited,
+                                 double weight, double[] weights, int count) {
+        if (at == target) {
+            weights[count] = weight;
+            return count + 1;
+        }
+        visited[at] = true;
+        for (int next = 0; next < network.size(); next++) {
+            double edge = network.getWeightMatrixValue(at, next);
+            if (!visited[next] && edge != Double.POSITIVE_INFINITY) {
+                count = countSimplePaths(network, next, target, visited, weight + edge, weights, count);
+            }
+        }
+        visited[at] = false;
+        return count;
+    }
+
+    private void assertValidPath(Network<Integer> network, WeightedPath<Integer> path, int start, int target) {
+        boolean[] seen = new boolean[network.size()];
+        double weight = 0;
+
+        assertEquals(Integer.valueOf(start), path.getVertex(0));
+        assertEquals(Integer.valueOf(target), path.getVertex(path.size() - 1));
+        for (int i = 0; i < path.size(); i++) {
+            int vertex = path.getVertex(i);
+            assertFalse(seen[vertex]);
+            seen[vertex] = true;
+            if (i > 0) {
+                weight += network.getWeightMatrixValue(path.getVertex(i - 1), vertex);
+            }
+        }
+        assertEquals(path.getWeight(), weight, 1e-9);
+    }
+
+    @Test
+    void testMatchesEveryLooplessPathInOrder() {
+        for (long seed = 1; seed <= 6; seed++) {
+            Network<Integer> network = createRandomNetwork(7, seed);
+            double[] expected = new double[10000];
+            int count = countSimplePaths(network, 0, 6, new boolean[7], 0, expected, 0);
+            Arrays.sort(expected, 0, count);
+
+            KShortestPaths<Integer> paths = network.kShortestPaths(0, 6);
+            WeightedPath<Integer>[] found = new WeightedPath[count];
+            for (int k = 0; k < count; k++) {
+                assertTrue(paths.hasNext());
+                found[k] = paths.next();
+                assertValidPath(network, found[k], 0, 6);
+                assertEquals(expected[k], found[k].getWeight(), 1e-9);
+                for (int other = 0; other < k; other++) {
+                    assertFalse(found[k].sameVertices(found[other]));
+                }
+            }
+            assertFalse(paths.hasNext());
+            assertEquals(count, paths.getReturnedCount());
+        }
+    }
+
+    @Test
+    void testFirstPathIsTheShortestPath() {
+        Network<Integer> network = createRandomNetwork(40, 11);
+
+        for (int target = 1; target < 40; target += 5) {
+            WeightedPath<Integer> first = network.kShortestPaths(0, target).next();
+            assertEquals(network.shortestPathWeight(0, target), first.getWeight(), 1e-9);
+        }
+    }
+
+    @Test
+    void testAlternativeAvoidsBlockedRoute() {
+        Network<String> network = new Network<>();
+        network.addVertex("entry");
+        network.addVertex("hall");
+        network.addVertex("stairs");
+        network.addVertex("target");
+        network.addEdge("entry", "hall", 1.0);
+        network.addEdge("hall", "target", 1.0);
+        network.addEdge("entry", "stairs", 2.0);
+        network.addEdge("stairs", "target", 2.0);
+
+        KShortestPaths<String> paths = network.kShortestPaths("entry", "target");
+        WeightedPath<String> best = paths.next();
+        WeightedPath<String> second = paths.next();
+
+        assertEquals(2.0, best.getWeight());
+        assertEquals("hall", best.getVertex(1));
+        assertEquals(4.0, second.getWeight());
+        assertEquals("stairs", second.getVertex(1));
+        assertFalse(paths.hasNext());
+        assertThrows(NoSuchElementException.class, paths::next);
+    }
+
+    @Test
+    void testUnreachableAndSameVertex() {
+        Network<Integer> network = new Network<>();
+        network.addVertex(0);
+        network.addVertex(1);
+        network.addVertex(2);
+        network.addEdge(0, 1, 1.0);
+
+        assertFalse(network.kShortestPaths(0, 2).hasNext());
+
+        KShortestPaths<Integer> paths = network.kShortestPaths(1, 1);
+        WeightedPath<Integer> path = paths.next();
+        assertEquals(1, path.size());
+        assertEquals(0.0, path.getWeight());
+        assertFalse(paths.hasNext());
+    }
+
+    @Test
+    void testChangedNetworkIsRefused() {
+        Network<Integer> network = createRandomNetwork(6, 3);
+        KShortestPaths<Integer> paths = network.kShortestPaths(0, 5);
+        WeightedPath<Integer> first = paths.next();
+
+        network.addVertex(6);
+        assertThrows(ConcurrentModificationException.class, paths::hasNext);
+        assertThrows(ConcurrentModificationException.class, () -> first.getVertex(0));
+    }
+
+    @Test
+    void testInvalidVertices() {
+        Network<Integer> network = createRandomNetwork(3, 5);
+
+        assertThrows(NoSuchElementException.class, () -> network.kShortestPaths(0, 9));
+    }
+}
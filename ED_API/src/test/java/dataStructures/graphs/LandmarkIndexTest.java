@@ -0,0 +1,140 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LandmarkIndexTest {
+
+    private Network<Integer> createGrid(int side) {
+        Network<Integer> network = new Network<>();
+
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    network.addEdge(index, index + 1, 1.0 + (index % 3));
+                }
+                if (row + 1 < side) {
+                    network.addEdge(index, index + side, 1.0 + (index % 2));
+                }
+            }
+        }
+        return network;
+    }
+
+    private void assertMatchesDijkstra(Network<Integer> network, LandmarkIndex<Integer> index, Random random) {
+        for (int query = 0; query < 40; query++) {
+            int start = random.nextInt(network.size());
+            int target = random.nextInt(network.size());
+            double expected = network.shortestPathWeight(start, target);
+
+            assertEquals(expected, network.shortestPathWeight(start, target, index), 1e-9);
+        }
+    }
+
+    @Test
+    void testQueriesMatchDijkstra() {
+        Network<Integer> network = createGrid(15);
+        LandmarkIndex<Integer> index = network.landmarkIndex(4);
+
+        assertEquals(4, index.getLandmarkCount());
+        assertMatchesDijkstra(network, index, new Random(3));
+    }
+
+    @Test
+    void testEstimateIsConsistent() {
+        Network<Integer> network = createGrid(10);
+        LandmarkIndex<Integer> index = network.landmarkIndex(3);
+
+        for (int target = 0; target < network.size(); target += 7) {
+            assertEquals(0.0, index.estimate(target, target));
+            for (int u = 0; u < network.size(); u++) {
+                for (int z = 0; z < network.size(); z++) {
+                    double weight = network.getWeightMatrixValue(u, z);
+                    if (weight != Double.POSITIVE_INFINITY) {
+                        assertTrue(index.estimate(u, target) <= weight + index.estimate(z, target) + 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSettlesFewerVerticesThanDijkstra() {
+        int side = 30;
+        Network<Integer> network = createGrid(side);
+        LandmarkIndex<Integer> index = network.landmarkIndex(4);
+
+        network.shortestPathWeight(0, side * side - 1, DistanceHeuristic.ZERO);
+        int dijkstraSettled = network.getLastSettledCount();
+        network.shortestPathWeight(0, side * side - 1, index);
+        int landmarkSettled = network.getLastSettledCount();
+
+        assertTrue(landmarkSettled < dijkstraSettled / 2);
+    }
+
+    @Test
+    void testLandmarksAreSpreadOut() {
+        int side = 12;
+        Network<Integer> network = createGrid(side);
+        LandmarkIndex<Integer> index = network.landmarkIndex(4);
+        int first = index.getLandmark(0);
+        int second = index.getLandmark(1);
+
+        assertEquals(side * side - 1, first + second);
+        assertTrue(first == 0 || first == side * side - 1);
+        for (int l = 2; l < index.getLandmarkCount(); l++) {
+            assertNotEquals(first, index.getLandmark(l));
+            assertNotEquals(second, index.getLandmark(l));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getLandmark(4));
+    }
+
+    @Test
+    void testRefreshesAfterWeightsAndVerticesChange() {
+        Network<Integer> network = createGrid(8);
+        LandmarkIndex<Integer> index = network.landmarkIndex(3);
+        Random random = new Random(9);
+        int firstLandmark = index.getLandmark(0);
+
+        for (int step = 0; step < 20; step++) {
+            int vertex = random.nextInt(network.size() - 1);
+            if (network.getWeightMatrixValue(vertex, vertex + 1) != Double.POSITIVE_INFINITY) {
+                network.updateEdgeWeight(vertex, vertex + 1, 1 + random.nextInt(20));
+            }
+        }
+        assertFalse(index.isCurrent());
+        assertMatchesDijkstra(network, index, random);
+        assertTrue(index.isCurrent());
+        assertEquals(firstLandmark, index.getLandmark(0));
+
+        network.addVertex(64);
+        network.addEdge(63, 64, 5.0);
+        assertMatchesDijkstra(network, index, random);
+        assertEquals(5.0 + network.shortestPathWeight(0, 63), network.shortestPathWeight(0, 64, index), 1e-9);
+    }
+
+    @Test
+    void testDisconnectedNetwork() {
+        Network<Integer> network = new Network<>();
+        for (int i = 0; i < 6; i++) {
+            network.addVertex(i);
+        }
+        network.addEdge(0, 1, 1.0);
+        network.addEdge(1, 2, 1.0);
+        network.addEdge(3, 4, 2.0);
+        network.addEdge(4, 5, 2.0);
+        LandmarkIndex<Integer> index = network.landmarkIndex(2);
+
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight(0, 5, index));
+        assertEquals(4.0, network.shortestPathWeight(3, 5, index), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, index.estimate(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> network.landmarkIndex(0));
+    }
+}
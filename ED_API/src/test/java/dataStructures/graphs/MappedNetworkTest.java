@@ -0,0 +1,168 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.NegativeCycleException;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedNetworkTest {
+
+    private String createTempFile() throws IOException {
+        File file = File.createTempFile("network", ".edn");
+        file.deleteOnExit();
+        return file.getPath();
+    }
+
+    private MappedNetwork writeAndOpen(CompactNetwork<?> network, boolean singlePrecision) throws IOException {
+        String file = createTempFile();
+        MappedNetwork.write(network, file, singlePrecision);
+        return MappedNetwork.open(file);
+    }
+
+    private CompactNetwork<String> buildLine() {
+        return new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .addVertex("C")
+                .addVertex("D")
+                .addEdge("A", "B", 1.0)
+                .addEdge("B", "C", 1.0)
+                .addEdge("C", "D", 1.0)
+                .addEdge("A", "D", 10.0)
+                .freeze();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        MappedNetwork network = writeAndOpen(buildLine(), false);
+
+        assertEquals(4, network.size());
+        assertEquals(8, network.edgeEntryCount());
+        assertFalse(network.isSinglePrecision());
+        assertEquals("C", network.getVertex(2));
+        assertEquals(3, network.getIndex("D"));
+        assertEquals(2, network.degree(0));
+        assertTrue(network.isAdjacent("B", "A"));
+        assertFalse(network.isAdjacent("A", "C"));
+        assertEquals(10.0, network.getEdgeWeight("D", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("A", "C"));
+        assertEquals(3.0, network.shortestPathWeight("A", "D"));
+        assertTrue(network.isConnected());
+
+        Iterator<String> path = network.iteratorShortestPath("A", "D");
+        assertEquals("A", path.next());
+        assertEquals("B", path.next());
+        assertEquals("C", path.next());
+        assertEquals("D", path.next());
+        assertFalse(path.hasNext());
+    }
+
+    @Test
+    void testMatchesCompactNetwork() throws IOException {
+        int size = 300;
+        Random random = new Random(17);
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>();
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+        }
+        for (int e = 0; e < 3 * size; e++) {
+            builder.addEdge(random.nextInt(size), random.nextInt(size), 0.5 * (1 + random.nextInt(20)));
+        }
+        CompactNetwork<Integer> compact = builder.freeze();
+        MappedNetwork mapped = writeAndOpen(compact, true);
+
+        assertTrue(mapped.isSinglePrecision());
+        assertEquals(compact.edgeEntryCount(), mapped.edgeEntryCount());
+        for (int target = 0; target < size; target++) {
+            assertEquals(compact.shortestPathWeight(0, target), mapped.shortestPathWeight("0", String.valueOf(target)));
+            assertEquals(compact.degree(target), mapped.degree(target));
+        }
+
+        Iterator<Integer> expected = compact.iteratorBFS(5);
+        Iterator<String> actual = mapped.iteratorBFS("5");
+        while (expected.hasNext()) {
+            assertEquals(String.valueOf(expected.next()), actual.next());
+        }
+        assertFalse(actual.hasNext());
+
+        expected = compact.iteratorDFS(5);
+        actual = mapped.iteratorDFS("5");
+        while (expected.hasNext()) {
+            assertEquals(String.valueOf(expected.next()), actual.next());
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    void testNamesAreFoundByTheirBytes() throws IOException {
+        MappedNetwork network = writeAndOpen(new NetworkBuilder<String>()
+                .addVertex("Sala de operações")
+                .addVertex("Átrio")
+                .addVertex("")
+                .addEdge("Átrio", "", 2.0)
+                .freeze(), false);
+
+        assertEquals(1, network.getIndex("Átrio"));
+        assertEquals("Sala de operações", network.getVertex(0));
+        assertEquals(2.0, network.getEdgeWeight("", "Átrio"));
+        assertTrue(network.contains(""));
+        assertFalse(network.contains("Atrio"));
+        assertFalse(network.contains(null));
+        assertFalse(network.isConnected());
+        assertThrows(NoSuchElementException.class, () -> network.getIndex("Cave"));
+        assertThrows(IllegalArgumentException.class, () -> network.iteratorBFS("Cave"));
+    }
+
+    @Test
+    void testEmptyNetwork() throws IOException {
+        MappedNetwork network = writeAndOpen(new NetworkBuilder<String>().freeze(), false);
+
+        assertTrue(network.isEmpty());
+        assertTrue(network.isConnected());
+        assertEquals(0, network.edgeEntryCount());
+    }
+
+    @Test
+    void testNegativeWeightIsRefused() throws IOException {
+        MappedNetwork network = writeAndOpen(new NetworkBuilder<String>()
+                .addVertex("A")
+                .addVertex("B")
+                .addEdge("A", "B", -1.0)
+                .freeze(), false);
+
+        assertThrows(NegativeCycleException.class, () -> network.shortestPathWeight("A", "B"));
+    }
+
+    @Test
+    void testIsReadOnly() throws IOException {
+        MappedNetwork network = writeAndOpen(buildLine(), false);
+
+        assertThrows(UnsupportedOperationException.class, () -> network.addVertex("E"));
+        assertThrows(UnsupportedOperationException.class, () -> network.addEdge("A", "C", 1.0));
+        assertThrows(UnsupportedOperationException.class, () -> network.removeVertex("A"));
+    }
+
+    @Test
+    void testInvalidFilesAreRefused() throws IOException {
+        String garbage = createTempFile();
+        try (FileOutputStream out = new FileOutputStream(garbage)) {
+            out.write(new byte[]{1, 2, 3, 4});
+        }
+        assertThrows(IOException.class, () -> MappedNetwork.open(garbage));
+
+        String truncated = createTempFile();
+        MappedNetwork.write(buildLine(), truncated, false);
+        try (RandomAccessFile file = new RandomAccessFile(truncated, "rw")) {
+            file.setLength(file.length() - 8);
+        }
+        assertThrows(IOException.class, () -> MappedNetwork.open(truncated));
+    }
+}
@@ -0,0 +1,92 @@
+package dataStructures.graphs;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetworkBuilderTest {
+
+    @Test
+    void testBuildMatchesAddingOneByOne() {
+        int size = 300;
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, 3 * size);
+        Network<Integer> expected = new Network<>();
+
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+            expected.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            int j = (i * 17 + 3) % size;
+            int k = (i + 1) % size;
+            builder.addEdge(i, j, 1.0 + i % 5).addEdge(i, k, 2.0);
+            expected.addEdge(i, j, 1.0 + i % 5);
+            expected.addEdge(i, k, 2.0);
+        }
+        builder.addEdge(7, 8, 0.5);
+        expected.addEdge(7, 8, 0.5);
+
+        Network<Integer> network = builder.build();
+
+        assertEquals(size, network.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected.getIndex(i), network.getIndex(i));
+            for (int j = 0; j < size; j++) {
+                assertEquals(expected.isAdjacent(i, j), network.isAdjacent(i, j));
+                assertEquals(expected.getEdgeWeight(i, j), network.getEdgeWeight(i, j));
+            }
+        }
+        assertEquals(expected.shortestPathWeight(0, size / 2), network.shortestPathWeight(0, size / 2));
+
+        network.addVertex(size);
+        network.addEdge(size, 0, 1.0);
+        assertTrue(network.isAdjacent(0, size));
+    }
+
+    @Test
+    void testBuildIntoGraph() throws EmptyCollectionException {
+        Graph<String> graph = new NetworkBuilder<String>()
+                .addVertices(Arrays.asList("A", "B", "C", "D"))
+                .addEdge("A", "B")
+                .addEdge("B", "C")
+                .buildInto(new Graph<>());
+
+        assertEquals(4, graph.size());
+        assertTrue(graph.isAdjacent("A", "B"));
+        assertTrue(graph.isAdjacent("C", "B"));
+        assertFalse(graph.isAdjacent("A", "C"));
+        assertFalse(graph.isConnected());
+    }
+
+    @Test
+    void testBuildIntoDirectedNetwork() {
+        DirectedNetwork<String> network = new NetworkBuilder<String>()
+                .addVertices(Arrays.asList("A", "B", "C"))
+                .addEdge("A", "B", 2.0)
+                .addEdge("C", "B", 3.0)
+                .buildInto(new DirectedNetwork<>());
+
+        assertTrue(network.isAdjacent("A", "B"));
+        assertFalse(network.isAdjacent("B", "A"));
+        assertEquals(3.0, network.getEdgeWeight("C", "B"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("B", "C"));
+        assertEquals(2, network.getIncomingVertices("B").size());
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("B", "A"));
+    }
+
+    @Test
+    void testBuildRejectsInvalidInput() {
+        NetworkBuilder<String> builder = new NetworkBuilder<String>().addVertex("A");
+        Network<String> network = new Network<>();
+        network.addVertex("X");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.addVertices(Arrays.asList("B", "A")));
+        assertThrows(IllegalArgumentException.class, () -> builder.buildInto(network));
+        assertEquals(2, builder.build().size());
+        assertTrue(builder.contains("B"));
+        assertFalse(builder.contains("X"));
+    }
+}
@@ -1,8 +1,11 @@
 package dataStructures.graphs;
 
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.exceptions.NegativeCycleException;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +36,21 @@ class NetworkTest {
         assertEquals(5.0, network.getWeightMatrixValue(network.getIndex("A"), network.getIndex("B")));
     }
 
+    @Test
+    void testRemoveEdgeClearsBothDirections() {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 5.0);
+        network.removeEdge("B", "A");
+
+        assertFalse(network.isAdjacent("A", "B"));
+        assertFalse(network.isAdjacent("B", "A"));
+        assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("A", "B"));
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "B"));
+    }
+
     @Test
     void testShortestPathWeight() {
         Network<String> network = new Network<>();
@@ -87,4 +105,495 @@ class NetworkTest {
 
         assertThrows(IllegalArgumentException.class, () -> network.shortestPathWeight("A", "C"));
     }
+
+    @Test
+    void testBinaryHeapDijkstraMatchesLinearScan() {
+        Network<Integer> network = new Network<>();
+        int size = 40;
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 7));
+            network.addEdge(i, (i * 13 + 5) % size, 2.0 + (i % 3));
+        }
+
+        for (int target = 0; target < size; target++) {
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.LINEAR_SCAN_DIJKSTRA);
+            double expected = network.shortestPathWeight(0, target);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA);
+            assertEquals(expected, network.shortestPathWeight(0, target));
+        }
+    }
+
+    @Test
+    void testShortestPathAfterExpandingCapacity() {
+        Network<Integer> network = new Network<>(2);
+
+        for (int i = 0; i < 12; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < 11; i++) {
+            network.addEdge(i, i + 1, 1.0);
+        }
+
+        assertEquals(11.0, network.shortestPathWeight(0, 11));
+        assertEquals(Double.POSITIVE_INFINITY, network.getWeightMatrixValue(0, 11));
+    }
+
+    @Test
+    void testBellmanFordAndJohnsonMatchDijkstra() {
+        Network<Integer> network = new Network<>();
+        int size = 25;
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 4));
+            network.addEdge(i, (i * 11 + 2) % size, 0.5 + (i % 6));
+        }
+
+        for (int target = 0; target < size; target++) {
+            double expected = network.shortestPathWeight(3, target);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BELLMAN_FORD);
+            assertEquals(expected, network.shortestPathWeight(3, target), 1e-9);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.JOHNSON);
+            assertEquals(expected, network.shortestPathWeight(3, target), 1e-9);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA);
+        }
+    }
+
+    @Test
+    void testNegativeEdgeIsReportedAsNegativeCycle() {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        network.addEdge("B", "C", -1.0);
+
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.BELLMAN_FORD);
+        assertThrows(NegativeCycleException.class, () -> network.shortestPathWeight("A", "C"));
+
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.JOHNSON);
+        assertThrows(NegativeCycleException.class, () -> network.iteratorShortestPath("A", "C"));
+    }
+
+    @Test
+    void testBellmanFordWithHeuristicReportsDistantNegativeCycle() {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addVertex("D");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 5.0);
+        network.addEdge("C", "D", -1.0);
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.BELLMAN_FORD);
+
+        assertThrows(NegativeCycleException.class,
+                () -> network.shortestPathWeight("A", "B", DistanceHeuristic.ZERO));
+        assertThrows(NegativeCycleException.class,
+                () -> network.iteratorShortestPath("A", "B", DistanceHeuristic.ZERO));
+    }
+
+    @Test
+    void testJohnsonFollowsWeightUpdates() {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        network.addEdge("B", "C", 2.0);
+        network.addEdge("A", "C", 5.0);
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.JOHNSON);
+
+        assertEquals(4.0, network.shortestPathWeight("A", "C"));
+
+        network.updateEdgeWeight("A", "B", -3.0);
+        assertThrows(NegativeCycleException.class, () -> network.shortestPathWeight("A", "C"));
+
+        network.updateEdgeWeight("A", "B", 4.0);
+        assertEquals(5.0, network.shortestPathWeight("A", "C"));
+    }
+
+    @Test
+    void testIteratorFewestEdgesPathIgnoresWeights() throws EmptyCollectionException {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+        network.addEdge("A", "C", 10.0);
+
+        Iterator<String> iterator = network.iteratorFewestEdgesPath("A", "C");
+
+        assertEquals("A", iterator.next());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testAStarWithHopDistanceHeuristicMatchesDijkstra() {
+        Network<Integer> network = new Network<>();
+        int size = 40;
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 7));
+            network.addEdge(i, (i * 13 + 5) % size, 2.0 + (i % 3));
+        }
+
+        for (int target = 0; target < size; target++) {
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.LINEAR_SCAN_DIJKSTRA);
+            double expected = network.shortestPathWeight(0, target);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA);
+            DistanceHeuristic heuristic = network.hopDistanceHeuristic(target);
+            assertEquals(expected, network.shortestPathWeight(0, target, heuristic));
+            assertEquals(expected, network.shortestPathWeight(0, target));
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.JOHNSON);
+            assertEquals(expected, network.shortestPathWeight(0, target, heuristic));
+        }
+    }
+
+    @Test
+    void testAStarWithGridHeuristic() {
+        Network<Integer> network = new Network<>();
+        int side = 6;
+
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    network.addEdge(index, index + 1, 1.0 + (index % 3));
+                }
+                if (row + 1 < side) {
+                    network.addEdge(index, index + side, 1.0 + (index % 2));
+                }
+            }
+        }
+
+        DistanceHeuristic manhattan = (vertex, target) ->
+                Math.abs(vertex / side - target / side) + Math.abs(vertex % side - target % side);
+        int target = side * side - 1;
+
+        double expected = network.shortestPathWeight(0, target);
+        assertEquals(expected, network.shortestPathWeight(0, target, manhattan));
+
+        Iterator<Integer> path = network.iteratorShortestPath(0, target, manhattan);
+        double weight = 0;
+        int previous = path.next();
+        while (path.hasNext()) {
+            int current = path.next();
+            weight += network.getWeightMatrixValue(previous, current);
+            previous = current;
+        }
+        assertEquals(target, previous);
+        assertEquals(expected, weight);
+
+        assertThrows(IllegalArgumentException.class, () -> network.shortestPathWeight(0, target, null));
+    }
+
+    @Test
+    void testBidirectionalDijkstraMatchesDijkstra() {
+        Network<Integer> network = new Network<>();
+        int size = 40;
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 7));
+            network.addEdge(i, (i * 13 + 5) % size, 2.0 + (i % 3));
+        }
+
+        for (int target = 0; target < size; target++) {
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA);
+            double expected = network.shortestPathWeight(0, target);
+
+            network.setShortestPathAlgorithm(ShortestPathAlgorithm.BIDIRECTIONAL_DIJKSTRA);
+            assertEquals(expected, network.shortestPathWeight(0, target));
+
+            Iterator<Integer> path = network.iteratorBidirectionalShortestPath(0, target);
+            double weight = 0;
+            int previous = path.next();
+            while (path.hasNext()) {
+                int current = path.next();
+                weight += network.getWeightMatrixValue(previous, current);
+                previous = current;
+            }
+            assertEquals(target, previous);
+            assertEquals(expected, weight, 1e-9);
+        }
+    }
+
+    @Test
+    void testBidirectionalDijkstraSettlesFewerVertices() {
+        Network<Integer> network = new Network<>();
+        int side = 41;
+
+        for (int i = 0; i < side * side; i++) {
+            network.addVertex(i);
+        }
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int index = row * side + col;
+                if (col + 1 < side) {
+                    network.addEdge(index, index + 1, 1.0 + (index % 3) * 0.5);
+                }
+                if (row + 1 < side) {
+                    network.addEdge(index, index + side, 1.0 + (index % 2) * 0.5);
+                }
+            }
+        }
+
+        int start = 20 * side + 10;
+        int target = 20 * side + 30;
+
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.BINARY_HEAP_DIJKSTRA);
+        double expected = network.shortestPathWeight(start, target);
+        int forwardSettled = network.getLastSettledCount();
+
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.BIDIRECTIONAL_DIJKSTRA);
+        assertEquals(expected, network.shortestPathWeight(start, target), 1e-9);
+        int bidirectionalSettled = network.getLastSettledCount();
+
+        assertTrue(bidirectionalSettled < forwardSettled,
+                "bidirectional settled " + bidirectionalSettled + ", forward settled " + forwardSettled);
+    }
+
+    @Test
+    void testBidirectionalDijkstraWithoutPath() {
+        Network<String> network = new Network<>();
+
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+        network.setShortestPathAlgorithm(ShortestPathAlgorithm.BIDIRECTIONAL_DIJKSTRA);
+
+        assertEquals(Double.POSITIVE_INFINITY, network.shortestPathWeight("A", "C"));
+        assertFalse(network.iteratorBidirectionalShortestPath("A", "C").hasNext());
+        assertEquals(0.0, network.shortestPathWeight("B", "B"));
+    }
+
+    @Test
+    void testIteratorShortestPathWithoutPath() {
+        for (ShortestPathAlgorithm algorithm : ShortestPathAlgorithm.values()) {
+            Network<String> network = new Network<>();
+            network.addVertex("A");
+            network.addVertex("B");
+            network.addVertex("C");
+            network.addEdge("A", "B", 2.0);
+            network.setShortestPathAlgorithm(algorithm);
+
+            assertFalse(network.iteratorShortestPath("A", "C").hasNext(), algorithm.toString());
+            assertFalse(network.iteratorShortestPath("C", "A", DistanceHeuristic.ZERO).hasNext(), algorithm.toString());
+        }
+    }
+
+    @Test
+    void testWeightsFollowRemovedVertices() {
+        for (VertexRemovalMode mode : VertexRemovalMode.values()) {
+            Network<String> network = new Network<>();
+            network.setVertexRemovalMode(mode);
+            network.addVertex("A");
+            network.addVertex("B");
+            network.addVertex("C");
+            network.addVertex("D");
+            network.addEdge("A", "B", 1.0);
+            network.addEdge("B", "C", 2.0);
+            network.addEdge("C", "D", 3.0);
+            network.addEdge("A", "D", 4.0);
+
+            network.removeVertex("B");
+
+            assertEquals(3.0, network.getEdgeWeight("C", "D"));
+            assertEquals(4.0, network.getEdgeWeight("A", "D"));
+            assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("A", "C"));
+            assertEquals(7.0, network.shortestPathWeight("A", "C"));
+
+            network.addVertex("E");
+            network.addEdge("E", "A", 0.5);
+            assertEquals(Double.POSITIVE_INFINITY, network.getEdgeWeight("E", "C"));
+            assertEquals(7.5, network.shortestPathWeight("E", "C"));
+        }
+    }
+
+    @Test
+    void testSnapshotIsIndependentOfLaterChanges() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 2.0);
+
+        CompactNetwork<String> snapshot = network.snapshot();
+        assertSame(snapshot, network.snapshot());
+
+        network.updateEdgeWeight("A", "B", 5.0);
+        network.addVertex("D");
+        network.addEdge("C", "D", 1.0);
+
+        assertEquals(3, snapshot.size());
+        assertEquals(1.0, snapshot.getEdgeWeight("A", "B"));
+        assertEquals(3.0, snapshot.shortestPathWeight("A", "C"));
+        assertFalse(snapshot.contains("D"));
+
+        CompactNetwork<String> current = network.snapshot();
+        assertEquals(4, current.size());
+        assertEquals(5.0, current.getEdgeWeight("B", "A"));
+        assertEquals(8.0, current.shortestPathWeight("A", "D"));
+    }
+
+    @Test
+    void testSnapshotMatchesNetworkAfterRemovals() {
+        for (VertexRemovalMode mode : VertexRemovalMode.values()) {
+            Network<Integer> network = new Network<>();
+            network.setVertexRemovalMode(mode);
+            for (int i = 0; i < 8; i++) {
+                network.addVertex(i);
+            }
+            for (int i = 0; i < 8; i++) {
+                network.addEdge(i, (i + 1) % 8, i + 1);
+                network.addEdge(i, (i + 3) % 8, 2 * i + 1);
+            }
+            network.removeVertex(2);
+
+            CompactNetwork<Integer> snapshot = network.snapshot();
+            assertEquals(network.size(), snapshot.size());
+            for (int i = 0; i < network.size(); i++) {
+                Integer from = network.getVertex(i);
+                for (int j = 0; j < network.size(); j++) {
+                    Integer to = network.getVertex(j);
+                    assertEquals(network.getEdgeWeight(from, to), snapshot.getEdgeWeight(from, to));
+                }
+                assertEquals(network.shortestPathWeight(0, from), snapshot.shortestPathWeight(0, from));
+            }
+        }
+    }
+
+    private double forestWeight(Network<Integer> forest) {
+        double total = 0;
+        for (int i = 0; i < forest.size(); i++) {
+            for (int j = i + 1; j < forest.size(); j++) {
+                if (forest.isAdjacent(forest.getVertex(i), forest.getVertex(j))) {
+                    total += forest.getWeightMatrixValue(i, j);
+                }
+            }
+        }
+        return total;
+    }
+
+    private int forestEdges(Network<Integer> forest) {
+        int count = 0;
+        for (int i = 0; i < forest.size(); i++) {
+            for (int j = i + 1; j < forest.size(); j++) {
+                if (forest.isAdjacent(forest.getVertex(i), forest.getVertex(j))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private double matrixPrimWeight(Network<Integer> network) {
+        int size = network.size();
+        boolean[] inTree = new boolean[size];
+        double[] best = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            best[i] = Double.POSITIVE_INFINITY;
+        }
+
+        for (int added = 0; added < size; added++) {
+            int next = -1;
+            for (int i = 0; i < size; i++) {
+                if (!inTree[i] && (next == -1 || best[i] < best[next])) {
+                    next = i;
+                }
+            }
+            if (best[next] != Double.POSITIVE_INFINITY) {
+                total += best[next];
+            }
+            inTree[next] = true;
+            for (int i = 0; i < size; i++) {
+                if (!inTree[i]) {
+                    best[i] = Math.min(best[i], network.getWeightMatrixValue(next, i));
+                }
+            }
+        }
+        return total;
+    }
+
+    @Test
+    void testSpanningForestsAreMinimal() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Random random = new Random(seed);
+            Network<Integer> network = new Network<>();
+            for (int i = 0; i < 40; i++) {
+                network.addVertex(i);
+            }
+            for (int e = 0; e < 90; e++) {
+                network.addEdge(random.nextInt(40), random.nextInt(40), random.nextInt(50) - 10);
+            }
+
+            Network<Integer> kruskal = network.kruskalSpanningForest();
+            Network<Integer> prim = network.primSpanningForest();
+            double expected = matrixPrimWeight(network);
+            int expectedEdges = network.size() - network.componentCount();
+
+            assertEquals(network.size(), kruskal.size());
+            assertEquals(expected, forestWeight(kruskal), 1e-9);
+            assertEquals(expected, forestWeight(prim), 1e-9);
+            assertEquals(expectedEdges, forestEdges(kruskal));
+            assertEquals(expectedEdges, forestEdges(prim));
+            assertEquals(network.componentCount(), kruskal.componentCount());
+            assertEquals(network.componentCount(), prim.componentCount());
+        }
+    }
+
+    @Test
+    void testSpanningTreeOfSmallNetwork() throws EmptyCollectionException {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addVertex("D");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 2.0);
+        network.addEdge("A", "C", 3.0);
+        network.addEdge("C", "C", 0.5);
+
+        for (Network<String> tree : new Network[]{network.kruskalSpanningForest(), network.primSpanningForest()}) {
+            assertTrue(tree.isAdjacent("A", "B"));
+            assertTrue(tree.isAdjacent("C", "B"));
+            assertFalse(tree.isAdjacent("A", "C"));
+            assertFalse(tree.isAdjacent("C", "C"));
+            assertEquals(2.0, tree.getEdgeWeight("B", "C"));
+            assertTrue(tree.contains("D"));
+            assertFalse(tree.isConnected());
+        }
+        assertTrue(new Network<String>().kruskalSpanningForest().isEmpty());
+        assertTrue(new Network<String>().primSpanningForest().isEmpty());
+    }
 }
@@ -0,0 +1,123 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelBreadthFirstSearchTest {
+
+    private Graph<Integer> createRandomGraph(int size, int edges, long seed) {
+        NetworkBuilder<Integer> builder = new NetworkBuilder<>(size, edges);
+        Random random = new Random(seed);
+
+        for (int i = 0; i < size; i++) {
+            builder.addVertex(i);
+        }
+        for (int e = 0; e < edges; e++) {
+            builder.addEdge(random.nextInt(size), random.nextInt(size));
+        }
+        return builder.buildInto(new Graph<>(size));
+    }
+
+    private int[] sequentialLevels(Graph<Integer> graph, int start) {
+        int[] levels = new int[graph.size()];
+        int[] queue = new int[graph.size()];
+        int head = 0;
+        int tail = 0;
+
+        for (int i = 0; i < levels.length; i++) {
+            levels[i] = -1;
+        }
+        levels[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int k = 0; k < graph.degrees[u]; k++) {
+                int z = graph.adjList[u][k];
+                if (levels[z] == -1) {
+                    levels[z] = levels[u] + 1;
+                    queue[tail++] = z;
+                }
+            }
+        }
+        return levels;
+    }
+
+    private void assertValidSearch(Graph<Integer> graph, ParallelBreadthFirstSearch search, int start) {
+        int[] expected = sequentialLevels(graph, start);
+        int[] levels = search.getLevels();
+        int[] parents = search.getParents();
+        int reached = 0;
+        int deepest = -1;
+
+        assertArrayEquals(expected, levels);
+        assertEquals(-1, parents[start]);
+        for (int v = 0; v < graph.size(); v++) {
+            if (levels[v] == -1) {
+                assertEquals(-1, parents[v]);
+                continue;
+            }
+            reached++;
+            deepest = Math.max(deepest, levels[v]);
+            if (v != start) {
+                assertTrue(graph.hasEdge(parents[v], v));
+                assertEquals(levels[v] - 1, levels[parents[v]]);
+            }
+        }
+        assertEquals(reached, search.getReachedCount());
+        assertEquals(deepest + 1, search.getLevelCount());
+    }
+
+    @Test
+    void testMatchesSequentialSearch() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 4; seed++) {
+                Graph<Integer> graph = createRandomGraph(6000, 9000, seed);
+                assertValidSearch(graph, graph.parallelBreadthFirstSearch(0, pool), 0);
+                assertValidSearch(graph, graph.parallelBreadthFirstSearch(17), 17);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSwitchesDirectionOnDenseGraphs() {
+        Graph<Integer> graph = createRandomGraph(5000, 60000, 7);
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            ParallelBreadthFirstSearch search = graph.parallelBreadthFirstSearch(3, pool);
+
+            assertValidSearch(graph, search, 3);
+            assertTrue(search.getTopDownSteps() > 0);
+            assertTrue(search.getBottomUpSteps() > 0);
+            assertEquals(search.getLevelCount(), search.getTopDownSteps() + search.getBottomUpSteps());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testUnreachableVerticesAndInvalidStart() {
+        Graph<Integer> graph = new Graph<>();
+        for (int i = 0; i < 5; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(3, 4);
+
+        ParallelBreadthFirstSearch search = graph.parallelBreadthFirstSearch(0);
+        assertArrayEquals(new int[]{0, 1, 2, -1, -1}, search.getLevels());
+        assertArrayEquals(new int[]{-1, 0, 1, -1, -1}, search.getParents());
+        assertEquals(3, search.getReachedCount());
+        assertEquals(3, search.getLevelCount());
+
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelBreadthFirstSearch(9));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelBreadthFirstSearch(0, null));
+    }
+}
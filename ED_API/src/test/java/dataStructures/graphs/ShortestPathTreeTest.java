@@ -0,0 +1,177 @@
+package dataStructures.graphs;
+
+import dataStructures.lists.DoubleUnorderedLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShortestPathTreeTest {
+
+    private Network<Integer> createNetwork(int size) {
+        Network<Integer> network = new Network<>();
+
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0 + (i % 7));
+            network.addEdge(i, (i * 13 + 5) % size, 2.0 + (i % 3));
+        }
+        return network;
+    }
+
+    @Test
+    void testSingleSourceTreeMatchesShortestPathWeight() {
+        Network<Integer> network = createNetwork(40);
+
+        for (ShortestPathAlgorithm algorithm : ShortestPathAlgorithm.values()) {
+            network.setShortestPathAlgorithm(algorithm);
+            ShortestPathTree<Integer> tree = network.shortestPathTree(3);
+
+            for (int target = 0; target < 40; target++) {
+                assertEquals(network.shortestPathWeight(3, target), tree.distanceTo(target), 1e-9);
+                assertEquals(3, tree.sourceOf(target));
+
+                Iterator<Integer> path = tree.iteratorPathTo(target);
+                double weight = 0;
+                int previous = path.next();
+                assertEquals(3, previous);
+                while (path.hasNext()) {
+                    int current = path.next();
+                    weight += network.getWeightMatrixValue(previous, current);
+                    previous = current;
+                }
+                assertEquals(target, previous);
+                assertEquals(tree.distanceTo(target), weight, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testMultiSourceTreeReportsClosestSource() {
+        Network<Integer> network = createNetwork(40);
+        DoubleUnorderedLinkedList<Integer> sources = new DoubleUnorderedLinkedList<>();
+        sources.addToRear(0);
+        sources.addToRear(17);
+        sources.addToRear(31);
+
+        for (ShortestPathAlgorithm algorithm : ShortestPathAlgorithm.values()) {
+            network.setShortestPathAlgorithm(algorithm);
+            ShortestPathTree<Integer> tree = network.shortestPathTree(sources);
+
+            for (int target = 0; target < 40; target++) {
+                double best = Math.min(network.shortestPathWeight(0, target),
+                        Math.min(network.shortestPathWeight(17, target), network.shortestPathWeight(31, target)));
+
+                assertEquals(best, tree.distanceTo(target), 1e-9);
+                assertEquals(best, network.shortestPathWeight(tree.sourceOf(target), target), 1e-9);
+                assertEquals(tree.sourceOf(target), tree.iteratorPathTo(target).next());
+            }
+        }
+    }
+
+    @Test
+    void testUnreachableVertices() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 2.0);
+
+        ShortestPathTree<String> tree = network.shortestPathTree("A");
+
+        assertTrue(tree.hasPathTo("B"));
+        assertFalse(tree.hasPathTo("C"));
+        assertEquals(Double.POSITIVE_INFINITY, tree.distanceTo("C"));
+        assertNull(tree.sourceOf("C"));
+        assertFalse(tree.iteratorPathTo("C").hasNext());
+    }
+
+    @Test
+    void testFewestEdgesTree() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addVertex("D");
+        network.addEdge("A", "B", 1.0);
+        network.addEdge("B", "C", 1.0);
+        network.addEdge("A", "C", 10.0);
+        network.addEdge("C", "D", 1.0);
+
+        DoubleUnorderedLinkedList<String> sources = new DoubleUnorderedLinkedList<>();
+        sources.addToRear("A");
+        ShortestPathTree<String> tree = network.fewestEdgesTree(sources);
+
+        assertEquals(2.0, tree.distanceTo("D"));
+        Iterator<String> path = tree.iteratorPathTo("D");
+        assertEquals("A", path.next());
+        assertEquals("C", path.next());
+        assertEquals("D", path.next());
+        assertFalse(path.hasNext());
+
+        sources.addToRear("D");
+        tree = network.fewestEdgesTree(sources);
+        assertEquals(1.0, tree.distanceTo("C"));
+        assertEquals("D", tree.sourceOf("D"));
+        assertEquals("A", tree.sourceOf("B"));
+    }
+
+    @Test
+    void testTreeRejectsQueriesAfterModification() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 2.0);
+
+        ShortestPathTree<String> tree = network.shortestPathTree("A");
+        network.updateEdgeWeight("A", "B", 3.0);
+
+        assertThrows(ConcurrentModificationException.class, () -> tree.distanceTo("B"));
+        assertThrows(IllegalArgumentException.class, () -> network.shortestPathTree((Iterable<String>) null));
+    }
+
+    @Test
+    void testReusedTreeIsRecomputed() {
+        Network<Integer> network = createNetwork(20);
+        ShortestPathTree<Integer> tree = new ShortestPathTree<>();
+
+        assertThrows(IllegalStateException.class, () -> tree.distanceTo(0));
+        assertSame(tree, network.shortestPathTree(0, tree));
+        assertEquals(network.shortestPathWeight(0, 9), tree.distanceTo(9));
+
+        for (int i = 20; i < 60; i++) {
+            network.addVertex(i);
+            network.addEdge(i - 1, i, 1.0);
+        }
+
+        assertSame(tree, network.shortestPathTree(59, tree));
+        for (int target = 0; target < 60; target++) {
+            assertEquals(network.shortestPathWeight(59, target), tree.distanceTo(target), 1e-9);
+        }
+        assertEquals(Integer.valueOf(58), tree.previousVertex(57));
+        assertNull(tree.previousVertex(59));
+
+        assertSame(tree, network.fewestEdgesTree(0, tree));
+        assertEquals(0.0, tree.distanceTo(0));
+        assertEquals(Integer.valueOf(0), tree.sourceOf(59));
+    }
+
+    @Test
+    void testFailedSearchKeepsPreviousResult() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addEdge("A", "B", 2.0);
+
+        ShortestPathTree<String> tree = network.shortestPathTree("A", new ShortestPathTree<>());
+
+        assertThrows(NoSuchElementException.class, () -> network.shortestPathTree("C", tree));
+        assertEquals(2.0, tree.distanceTo("B"));
+        assertEquals("A", tree.previousVertex("B"));
+    }
+}
@@ -0,0 +1,46 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexHandleTest {
+
+    @Test
+    void testIndexFollowsRemovals() {
+        for (VertexRemovalMode mode : VertexRemovalMode.values()) {
+            Graph<Integer> graph = new Graph<>();
+            graph.setVertexRemovalMode(mode);
+            for (int i = 0; i < 20; i++) {
+                graph.addVertex(i);
+            }
+
+            VertexHandle<Integer> handle = graph.handleOf(12);
+            assertEquals(12, handle.getIndex());
+
+            graph.removeVertex(3);
+            graph.removeVertex(19);
+            graph.removeVertex(0);
+
+            assertTrue(handle.isValid());
+            assertEquals(Integer.valueOf(12), graph.getVertex(handle.getIndex()));
+            assertEquals(Integer.valueOf(12), handle.getVertex());
+        }
+    }
+
+    @Test
+    void testRemovedVertex() {
+        Graph<String> graph = new Graph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+
+        VertexHandle<String> handle = graph.handleOf("B");
+        graph.removeVertex("B");
+
+        assertFalse(handle.isValid());
+        assertThrows(NoSuchElementException.class, handle::getIndex);
+        assertThrows(NoSuchElementException.class, () -> graph.handleOf("B"));
+    }
+}
@@ -0,0 +1,43 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VertexIndexMapTest {
+
+    @Test
+    void testPutAndGet() {
+        VertexIndexMap<String> map = new VertexIndexMap<>(2);
+
+        map.put("A", 0);
+        map.put("B", 1);
+        map.put("A", 5);
+
+        assertEquals(2, map.size());
+        assertEquals(5, map.get("A"));
+        assertEquals(1, map.get("B"));
+        assertEquals(-1, map.get("C"));
+        assertEquals(-1, map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 0));
+    }
+
+    @Test
+    void testRemoveKeepsOtherEntriesReachable() {
+        VertexIndexMap<Integer> map = new VertexIndexMap<>(4);
+        int size = 1000;
+
+        for (int i = 0; i < size; i++) {
+            map.put(i * 16, i);
+        }
+        for (int i = 0; i < size; i += 2) {
+            assertEquals(i, map.remove(i * 16));
+        }
+
+        assertEquals(size / 2, map.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i % 2 == 0 ? -1 : i, map.get(i * 16));
+        }
+        assertEquals(-1, map.remove(-1));
+    }
+}
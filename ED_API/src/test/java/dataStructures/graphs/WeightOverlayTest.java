@@ -0,0 +1,116 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightOverlayTest {
+
+    private Network<Integer> createRing(int size) {
+        Network<Integer> network = new Network<>();
+        for (int i = 0; i < size; i++) {
+            network.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            network.addEdge(i, (i + 1) % size, 1.0);
+        }
+        return network;
+    }
+
+    @Test
+    void testChangesStayInTheOverlay() {
+        CompactNetwork<Integer> snapshot = createRing(6).snapshot();
+        WeightOverlay<Integer> first = snapshot.overlay();
+        WeightOverlay<Integer> second = snapshot.overlay();
+
+        first.updateEdgeWeight(0, 1, 10.0);
+
+        assertEquals(10.0, first.getEdgeWeight(0, 1));
+        assertEquals(10.0, first.getEdgeWeight(1, 0));
+        assertEquals(1.0, second.getEdgeWeight(0, 1));
+        assertEquals(1.0, snapshot.getEdgeWeight(0, 1));
+        assertEquals(5.0, first.shortestPathWeight(0, 1));
+        assertEquals(1.0, second.shortestPathWeight(0, 1));
+
+        Iterator<Integer> path = first.iteratorShortestPath(0, 1);
+        assertEquals(Integer.valueOf(0), path.next());
+        assertEquals(Integer.valueOf(5), path.next());
+    }
+
+    @Test
+    void testOnlyChangedBlocksAreCopied() {
+        CompactNetwork<Integer> snapshot = createRing(1000).snapshot();
+        WeightOverlay<Integer> overlay = snapshot.overlay();
+
+        assertEquals(0, overlay.getCopiedBlockCount());
+        overlay.updateEdgeWeight(0, 1, 2.0);
+        assertEquals(1, overlay.getCopiedBlockCount());
+        overlay.updateEdgeWeight(1, 2, 2.0);
+        assertEquals(1, overlay.getCopiedBlockCount());
+        overlay.updateEdgeWeight(998, 999, 2.0);
+        assertEquals(2, overlay.getCopiedBlockCount());
+        assertEquals(4.0, overlay.shortestPathWeight(0, 2));
+
+        overlay.reset();
+        assertEquals(0, overlay.getCopiedBlockCount());
+        assertEquals(1.0, overlay.getEdgeWeight(0, 1));
+        assertEquals(2.0, overlay.shortestPathWeight(0, 2));
+    }
+
+    @Test
+    void testOverlayOfOverlayCopiesOnWrite() {
+        WeightOverlay<Integer> parent = createRing(6).snapshot().overlay();
+        parent.updateEdgeWeight(0, 1, 3.0);
+
+        WeightOverlay<Integer> child = parent.overlay();
+        assertEquals(3.0, child.getEdgeWeight(0, 1));
+        assertEquals(0, child.getCopiedBlockCount());
+
+        child.updateEdgeWeight(0, 1, 4.0);
+        parent.updateEdgeWeight(1, 2, 5.0);
+
+        assertEquals(4.0, child.getEdgeWeight(0, 1));
+        assertEquals(1.0, child.getEdgeWeight(1, 2));
+        assertEquals(3.0, parent.getEdgeWeight(0, 1));
+        assertEquals(5.0, parent.getEdgeWeight(2, 1));
+    }
+
+    @Test
+    void testConcurrentReadersSeeTheirOwnWeights() throws InterruptedException {
+        CompactNetwork<Integer> snapshot = createRing(200).snapshot();
+        Thread[] threads = new Thread[4];
+        double[] results = new double[threads.length];
+
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                WeightOverlay<Integer> overlay = snapshot.overlay();
+                for (int round = 0; round < 50; round++) {
+                    overlay.updateEdgeWeight(0, 1, id + 1.0);
+                    results[id] = overlay.shortestPathWeight(0, 2);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int t = 0; t < threads.length; t++) {
+            assertEquals(t + 2.0, results[t]);
+        }
+        assertEquals(2.0, snapshot.shortestPathWeight(0, 2));
+    }
+
+    @Test
+    void testInvalidEdges() {
+        WeightOverlay<Integer> overlay = createRing(6).snapshot().overlay();
+
+        assertThrows(IllegalArgumentException.class, () -> overlay.updateEdgeWeight(0, 3, 1.0));
+        assertThrows(NoSuchElementException.class, () -> overlay.updateEdgeWeight(0, 9, 1.0));
+        assertThrows(UnsupportedOperationException.class, () -> overlay.addEdge(0, 3, 1.0));
+    }
+}
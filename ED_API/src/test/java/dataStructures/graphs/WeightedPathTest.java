@@ -0,0 +1,60 @@
+package dataStructures.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedPathTest {
+
+    private Network<String> createNetwork() {
+        Network<String> network = new Network<>();
+        network.addVertex("A");
+        network.addVertex("B");
+        network.addVertex("C");
+        network.addEdge("A", "B", 1.5);
+        network.addEdge("B", "C", 2.5);
+        return network;
+    }
+
+    @Test
+    void testIteratesVerticesInOrder() {
+        Network<String> network = createNetwork();
+        WeightedPath<String> path = new WeightedPath<>(network, new int[]{0, 1, 2}, 4.0, 0);
+
+        Iterator<String> iterator = path.iterator();
+        assertEquals("A", iterator.next());
+        assertEquals("B", iterator.next());
+        assertEquals("C", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(3, path.size());
+        assertEquals(4.0, path.getWeight());
+    }
+
+    @Test
+    void testComparesByWeightAndVertices() {
+        Network<String> network = createNetwork();
+        WeightedPath<String> light = new WeightedPath<>(network, new int[]{0, 1}, 1.5, 0);
+        WeightedPath<String> heavy = new WeightedPath<>(network, new int[]{0, 1, 2}, 4.0, 0);
+
+        assertTrue(light.compareTo(heavy) < 0);
+        assertTrue(heavy.compareTo(light) > 0);
+        assertTrue(light.sameVertices(new WeightedPath<>(network, new int[]{0, 1}, 1.5, 1)));
+        assertFalse(light.sameVertices(heavy));
+    }
+
+    @Test
+    void testInvalidPositionAndChangedNetwork() {
+        Network<String> network = createNetwork();
+        WeightedPath<String> path = new WeightedPath<>(network, new int[]{0, 1}, 1.5, 0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> path.getVertex(2));
+        network.addVertex("D");
+        assertThrows(ConcurrentModificationException.class, () -> path.getVertex(0));
+        assertThrows(ConcurrentModificationException.class, path::iterator);
+    }
+}
@@ -104,4 +104,55 @@ class ArrayHeapTest {
             assertEquals(15, heap.findMin());
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRemoveMinAfterGrowing() throws EmptyCollectionException {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (int i = 0; i < 100; i++) {
+            heap.addElement((i * 37) % 100);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void testRemoveMinAtEveryFillLevel() throws EmptyCollectionException {
+        for (int size = 1; size <= 64; size++) {
+            ArrayHeap<Integer> heap = new ArrayHeap<>();
+            for (int i = size; i > 0; i--) {
+                heap.addElement(i);
+            }
+
+            for (int i = 1; i <= size; i++) {
+                assertEquals(i, heap.removeMin());
+            }
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    @Test
+    void testInterleavedAddAndRemoveMin() throws EmptyCollectionException {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        int[] counts = new int[50];
+        int removed = 0;
+
+        for (int i = 0; i < 500; i++) {
+            int value = (i * 31) % 50;
+            heap.addElement(value);
+            counts[value]++;
+
+            if (i % 3 == 2) {
+                int min = heap.removeMin();
+                counts[min]--;
+                for (int smaller = 0; smaller < min; smaller++) {
+                    assertEquals(0, counts[smaller]);
+                }
+                removed++;
+            }
+        }
+        assertEquals(500 - removed, heap.size());
+    }
+}
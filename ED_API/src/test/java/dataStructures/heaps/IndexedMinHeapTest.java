@@ -0,0 +1,101 @@
+package dataStructures.heaps;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedMinHeapTest {
+
+    @Test
+    void testAddElementAndRemoveMin() {
+        IndexedMinHeap heap = new IndexedMinHeap(5);
+
+        heap.addElement(0, 10.0);
+        heap.addElement(1, 5.0);
+        heap.addElement(2, 15.0);
+        heap.addElement(3, 2.0);
+
+        assertEquals(4, heap.size());
+        assertEquals(3, heap.findMin());
+        assertEquals(3, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::removeMin);
+    }
+
+    @Test
+    void testDecreaseKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+
+        heap.addElement(0, 10.0);
+        heap.addElement(1, 20.0);
+        heap.addElement(2, 30.0);
+
+        heap.decreaseKey(2, 1.0);
+        assertEquals(1.0, heap.getKey(2));
+        assertEquals(2, heap.removeMin());
+
+        assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(1, 50.0));
+        assertThrows(NoSuchElementException.class, () -> heap.decreaseKey(2, 0.0));
+    }
+
+    @Test
+    void testUpdateKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+
+        heap.addElement(0, 1.0);
+        heap.addElement(1, 2.0);
+        heap.addElement(2, 3.0);
+        heap.addElement(3, 4.0);
+
+        heap.updateKey(0, 10.0);
+        heap.updateKey(3, 0.5);
+        assertEquals(3, heap.removeMin());
+        assertEquals(1, heap.removeMin());
+        assertEquals(2, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+        assertThrows(NoSuchElementException.class, () -> heap.updateKey(0, 1.0));
+    }
+
+    @Test
+    void testAddOrDecreaseKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(2);
+
+        assertTrue(heap.addOrDecreaseKey(0, 5.0));
+        assertFalse(heap.addOrDecreaseKey(0, 7.0));
+        assertTrue(heap.addOrDecreaseKey(0, 3.0));
+        assertEquals(3.0, heap.getKey(0));
+        assertEquals(1, heap.size());
+    }
+
+    @Test
+    void testContainsAndClear() {
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+
+        heap.addElement(1, 1.0);
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(0));
+        assertThrows(IllegalArgumentException.class, () -> heap.addElement(1, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> heap.addElement(3, 2.0));
+
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(1));
+    }
+
+    @Test
+    void testEnsureCapacity() {
+        IndexedMinHeap heap = new IndexedMinHeap(1);
+
+        heap.addElement(0, 4.0);
+        heap.ensureCapacity(10);
+        heap.addElement(9, 1.0);
+
+        assertEquals(9, heap.removeMin());
+        assertEquals(0, heap.removeMin());
+    }
+}
@@ -222,6 +222,32 @@ class PriorityQueueTest {
         assertTrue(queue.isEmpty(), "Queue should be empty after removing all elements");
     }
 
+    /**
+     * Test that a queue drained after growing keeps its order when it is filled again.
+     */
+    @Test
+    void testRefillAfterDraining() throws EmptyCollectionException {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+
+        for (int i = 30; i > 0; i--) {
+            queue.addElement(i, i);
+        }
+        for (int i = 1; i <= 30; i++) {
+            assertEquals(i, queue.removeNext(), "Should remove element " + i + " with priority " + i);
+        }
+
+        queue.addElement(7, 7);
+        queue.addElement(2, 2);
+        queue.addElement(9, 9);
+        queue.addElement(4, 4);
+
+        assertEquals(2, queue.removeNext(), "Should remove element 2 with priority 2");
+        assertEquals(4, queue.removeNext(), "Should remove element 4 with priority 4");
+        assertEquals(7, queue.removeNext(), "Should remove element 7 with priority 7");
+        assertEquals(9, queue.removeNext(), "Should remove element 9 with priority 9");
+        assertTrue(queue.isEmpty(), "Queue should be empty after all removals");
+    }
+
     /**
      * Test that the highest priority element is always removed first.
      */
@@ -0,0 +1,94 @@
+package dataStructures.queues;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayQueueTest {
+
+    @Test
+    void testEnqueueAndDequeue() {
+        IntArrayQueue queue = new IntArrayQueue(2);
+
+        assertTrue(queue.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue(i);
+        }
+        assertEquals(5, queue.size());
+        assertEquals(0, queue.first());
+        assertEquals(0, queue.dequeue());
+        assertEquals(1, queue.dequeue());
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void testWrapsAroundAndGrows() {
+        IntArrayQueue queue = new IntArrayQueue(4);
+
+        for (int i = 0; i < 3; i++) {
+            queue.enqueue(i);
+        }
+        queue.dequeue();
+        queue.dequeue();
+        for (int i = 3; i < 10; i++) {
+            queue.enqueue(i);
+        }
+
+        for (int i = 2; i < 10; i++) {
+            assertEquals(i, queue.dequeue());
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals("IntArrayQueue{queue=[], size=0}", queue.toString());
+    }
+
+    @Test
+    void testEmptyQueue() {
+        IntArrayQueue queue = new IntArrayQueue();
+        queue.enqueue(7);
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::dequeue);
+        assertThrows(NoSuchElementException.class, queue::first);
+    }
+
+    @Test
+    void testAllocatesLessThanLinkedQueue() throws EmptyCollectionException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        int operations = 200_000;
+        long threadId = Thread.currentThread().getId();
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        LinkedQueue<Integer> linkedQueue = new LinkedQueue<>();
+        long linkedSum = 0;
+        for (int i = 0; i < operations; i++) {
+            linkedQueue.enqueue(1000 + i);
+            if (i % 2 == 1) {
+                linkedSum += linkedQueue.dequeue();
+            }
+        }
+        long linkedBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        IntArrayQueue intQueue = new IntArrayQueue();
+        long intSum = 0;
+        for (int i = 0; i < operations; i++) {
+            intQueue.enqueue(1000 + i);
+            if (i % 2 == 1) {
+                intSum += intQueue.dequeue();
+            }
+        }
+        long intBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(linkedSum, intSum);
+        assertTrue(intBytes * 5 < linkedBytes, "IntArrayQueue allocated " + intBytes
+                + " bytes, LinkedQueue allocated " + linkedBytes + " bytes");
+    }
+}
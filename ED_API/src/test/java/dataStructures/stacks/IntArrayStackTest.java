@@ -0,0 +1,76 @@
+package dataStructures.stacks;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayStackTest {
+
+    @Test
+    void testPushPopAndGrow() {
+        IntArrayStack stack = new IntArrayStack(1);
+
+        assertTrue(stack.isEmpty());
+        for (int i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        assertEquals(10, stack.size());
+        assertEquals(9, stack.peek());
+        for (int i = 9; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    void testEmptyStack() {
+        IntArrayStack stack = new IntArrayStack();
+        stack.push(1);
+        stack.push(2);
+        assertEquals("IntArrayStack{stack=[1, 2], size=2}", stack.toString());
+        stack.clear();
+
+        assertThrows(NoSuchElementException.class, stack::pop);
+        assertThrows(NoSuchElementException.class, stack::peek);
+    }
+
+    @Test
+    void testAllocatesLessThanLinkedStack() throws EmptyCollectionException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        int operations = 200_000;
+        long threadId = Thread.currentThread().getId();
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        LinkedStack<Integer> linkedStack = new LinkedStack<>();
+        long linkedSum = 0;
+        for (int i = 0; i < operations; i++) {
+            linkedStack.push(1000 + i);
+            if (i % 2 == 1) {
+                linkedSum += linkedStack.pop();
+            }
+        }
+        long linkedBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        IntArrayStack intStack = new IntArrayStack();
+        long intSum = 0;
+        for (int i = 0; i < operations; i++) {
+            intStack.push(1000 + i);
+            if (i % 2 == 1) {
+                intSum += intStack.pop();
+            }
+        }
+        long intBytes = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(linkedSum, intSum);
+        assertTrue(intBytes * 5 < linkedBytes, "IntArrayStack allocated " + intBytes
+                + " bytes, LinkedStack allocated " + linkedBytes + " bytes");
+    }
+}
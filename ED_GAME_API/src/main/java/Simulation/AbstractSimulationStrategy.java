@@ -4,6 +4,10 @@ import models.mission.MissionVersion;
 import utils.controlers.CombatController;
 import utils.controlers.EnemyController;
 import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.exceptions.NegativeCycleException;
+import dataStructures.graphs.DynamicShortestPathTree;
+import dataStructures.graphs.ShortestPathTree;
+import dataStructures.lists.DoubleUnorderedLinkedList;
 import models.entities.Player;
 import models.world.GameNetwork;
 import models.world.Room;
@@ -26,25 +30,39 @@ public abstract class AbstractSimulationStrategy implements SimulationStrategy {
     /** Controller for managing enemy interactions during the simulation. */
     protected EnemyController enemyManager;
 
+    /** Whether the player has already been told that the weighted routes are unavailable. */
+    private boolean negativeCycleReported;
+
+    /** Shortest path tree recomputed by every route search, so that turns do not allocate. */
+    private final ShortestPathTree<Room> pathTree;
+
+    /** Shortest path tree rooted at the current destination, repaired as edge weights change. */
+    private DynamicShortestPathTree<Room> routeTree;
+
+    /** The building the route tree belongs to. */
+    private GameNetwork routeBuilding;
+
     /**
      * Initializes the combat and enemy controllers used in simulations.
      */
     public AbstractSimulationStrategy() {
         this.combatController = new CombatController();
         this.enemyManager = new EnemyController();
+        this.pathTree = new ShortestPathTree<>();
     }
 
     /**
      * Finds the best entry point for the player based on the shortest path to the target room.
      *
      * The best entry point is the room with the lowest path weight to the target room,
-     * among all rooms marked as entry points in the game network.
+     * among all rooms marked as entry points in the game network. A single search started
+     * from every entry point at once tells which of them reaches the target first.
      *
      * @param player  The player attempting the mission.
      * @param mission The mission details, including the building layout.
      * @return The best entry room for the player to start.
      * @throws EmptyCollectionException If an operation on an empty collection fails.
-     * @throws IllegalStateException If no entry point is found in the mission.
+     * @throws IllegalStateException If no entry point is found or none can reach the target room.
      */
     protected Room findBestEntryPoint(Player player, MissionVersion mission) throws EmptyCollectionException {
         GameNetwork building = mission.getBuilding();
@@ -52,19 +70,15 @@ public abstract class AbstractSimulationStrategy implements SimulationStrategy {
 
         building.updateAllEdgeWeights(player);
 
-        double minPathWeight = Double.POSITIVE_INFINITY;
-        Room bestEntryRoom = null;
-
+        DoubleUnorderedLinkedList<Room> entryRooms = new DoubleUnorderedLinkedList<>();
         for (Room room : building.getVertices()) {
             if (room.isExistEntry()) {
-                double pathWeight = building.shortestPathWeight(room, targetRoom);
-                if (pathWeight < minPathWeight) {
-                    minPathWeight = pathWeight;
-                    bestEntryRoom = room;
-                }
+                entryRooms.addToRear(room);
             }
         }
 
+        Room bestEntryRoom = findPathTree(entryRooms, building).sourceOf(targetRoom);
+
         if (bestEntryRoom == null) {
             throw new IllegalStateException("No entry point found in the mission!");
         }
@@ -113,8 +127,9 @@ public abstract class AbstractSimulationStrategy implements SimulationStrategy {
     /**
      * Determines the next room for the player based on the shortest path and updated edge weights.
      *
-     * The method calculates the shortest path from the player's current room to the target room,
-     * considering the updated weights in the game network. It returns the next room in the path.
+     * The paths from the target room are kept in a tree that is repaired around the edges
+     * whose weights changed, and the room before the current one on its path from the
+     * target is the next room towards it.
      *
      * @param currentRoom The player's current room.
      * @param targetRoom  The target room the player is navigating toward.
@@ -129,16 +144,118 @@ public abstract class AbstractSimulationStrategy implements SimulationStrategy {
             building.updateEdgeWeight(currentRoom, neighbor, player);
         }
 
-        Iterator<Room> pathIterator = building.iteratorShortestPath(currentRoom, targetRoom);
+        Room nextRoom;
+        try {
+            nextRoom = findRouteTree(targetRoom, building).previousVertex(currentRoom);
+        } catch (NegativeCycleException e) {
+            reportNegativeCycle(e);
+            nextRoom = building.fewestEdgesTree(targetRoom, pathTree).previousVertex(currentRoom);
+        }
+
+        if (nextRoom == null) {
+            throw new IllegalStateException("No valid next room found in the path.");
+        }
+
+        return nextRoom;
+    }
+
+    /**
+     * Finds the best path between two rooms for a route hint shown to the player.
+     *
+     * Hints come from the contraction hierarchy of the building, which is only customised
+     * again when the edge weights change.
+     *
+     * @param from     The room where the path starts.
+     * @param to       The room where the path ends.
+     * @param building The game network representing the building layout.
+     * @return An iterator over the rooms of the path, starting at {@code from}, empty if {@code to} is unreachable.
+     * @throws EmptyCollectionException If an operation on an empty collection fails.
+     */
+    protected Iterator<Room> findRouteHint(Room from, Room to, GameNetwork building) throws EmptyCollectionException {
+        try {
+            return building.contractionHierarchy().shortestPath(from, to).iterator();
+        } catch (NegativeCycleException e) {
+            reportNegativeCycle(e);
+            return building.iteratorFewestEdgesPath(from, to);
+        }
+    }
+
+    /**
+     * Calculates the cost of the best path between two rooms according to the current edge weights.
+     *
+     * Costs come from the all-pairs shortest paths of the building, which are reused until
+     * an edge weight changes.
+     *
+     * @param from     The room where the path starts.
+     * @param to       The room where the path ends.
+     * @param building The game network representing the building layout.
+     * @return The cost of the path, or {@code Double.POSITIVE_INFINITY} if {@code to} is unreachable.
+     * @throws EmptyCollectionException If an operation on an empty collection fails.
+     */
+    protected double findPathCost(Room from, Room to, GameNetwork building) throws EmptyCollectionException {
+        try {
+            return building.allPairsShortestPaths().distance(from, to);
+        } catch (NegativeCycleException e) {
+            reportNegativeCycle(e);
+
+            Iterator<Room> pathIterator = building.iteratorFewestEdgesPath(from, to);
+            int rooms = 0;
+            while (pathIterator.hasNext()) {
+                pathIterator.next();
+                rooms++;
+            }
+            return rooms == 0 ? Double.POSITIVE_INFINITY : rooms - 1;
+        }
+    }
 
-        if (pathIterator.hasNext()) {
-            pathIterator.next();
+    /**
+     * Finds the best paths from the closest of several rooms to every room of the building.
+     *
+     * The returned tree is reused by the next route search of this strategy.
+     *
+     * @param sources  The rooms where the paths may start.
+     * @param building The game network representing the building layout.
+     * @return The tree of paths from the sources.
+     */
+    protected ShortestPathTree<Room> findPathTree(DoubleUnorderedLinkedList<Room> sources, GameNetwork building) {
+        try {
+            return building.shortestPathTree(sources, pathTree);
+        } catch (NegativeCycleException e) {
+            reportNegativeCycle(e);
+            return building.fewestEdgesTree(sources, pathTree);
         }
+    }
 
-        if (pathIterator.hasNext()) {
-            return pathIterator.next();
+    /**
+     * Returns the shortest path tree rooted at the given destination, which stays attached
+     * to the building and is repaired as edge weights change. The same tree is reused for as
+     * long as the destination and the building stay the same.
+     *
+     * @param destination The room the routes lead to.
+     * @param building    The game network representing the building layout.
+     * @return The tree of best paths from the destination.
+     */
+    protected DynamicShortestPathTree<Room> findRouteTree(Room destination, GameNetwork building) {
+        if (routeTree == null || routeBuilding != building || !routeTree.getRoot().equals(destination)) {
+            if (routeTree != null) {
+                routeTree.detach();
+            }
+            routeTree = building.dynamicShortestPathTree(destination);
+            routeBuilding = building;
         }
+        return routeTree;
+    }
 
-        throw new IllegalStateException("No valid next room found in the path.");
+    /**
+     * Tells the player, once per simulation, that routes ignore the edge weights because
+     * the building has a negative one, and fall back to the fewest rooms.
+     *
+     * @param e The negative cycle reported by the building.
+     */
+    private void reportNegativeCycle(NegativeCycleException e) {
+        if (!negativeCycleReported) {
+            System.out.println("Warning: " + e.getMessage() + ". Routes will use the fewest rooms instead.");
+            negativeCycleReported = true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -231,7 +231,7 @@ public class ManualSimulationStrategy extends AbstractSimulationStrategy {
      */
     private void displayBestPath(String label, Room currentRoom, Room targetRoom, Player player, GameNetwork building) throws EmptyCollectionException {
         building.updateAllEdgeWeights(player);
-        Iterator<Room> pathIterator = building.iteratorShortestPath(currentRoom, targetRoom);
+        Iterator<Room> pathIterator = findRouteHint(currentRoom, targetRoom, building);
         System.out.print(label + ": ");
         while (pathIterator.hasNext()) {
             System.out.print(pathIterator.next().getName());
@@ -258,7 +258,7 @@ public class ManualSimulationStrategy extends AbstractSimulationStrategy {
 
         for (Room room : building.getVertices()) {
             if (room.hasMedKit()) {
-                double distance = building.shortestPathWeight(startRoom, room);
+                double distance = findPathCost(startRoom, room, building);
                 if (distance < shortestDistance) {
                     closestRoom = room;
                     shortestDistance = distance;
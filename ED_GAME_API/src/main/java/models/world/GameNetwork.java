@@ -2,6 +2,7 @@ package models.world;
 
 import dataStructures.exceptions.EmptyCollectionException;
 import dataStructures.graphs.Network;
+import dataStructures.graphs.WeightOverlay;
 import models.entities.Enemy;
 import models.entities.Player;
 import models.items.MedKit;
@@ -14,6 +15,11 @@ import models.items.MedKit;
  */
 public class GameNetwork extends Network<Room> implements GameNetworkInterface {
 
+    /**
+     * Creates an empty game network for the given number of rooms.
+     *
+     * @param num the initial number of rooms
+     */
     public GameNetwork(int num) {
         super(num);
     }
@@ -29,9 +35,74 @@ public class GameNetwork extends Network<Room> implements GameNetworkInterface {
      */
     @Override
     public void updateEdgeWeight(Room from, Room to, Player player) throws EmptyCollectionException {
+        super.updateEdgeWeight(from, to, edgeWeight(from, to, player));
+    }
+
+    /**
+     * Updates the weights of all edges in the network based on the current state of the player.
+     *
+     * @param player the player whose attributes influence all edge weights
+     * @throws EmptyCollectionException if an operation on an empty collection fails
+     */
+    @Override
+    public void updateAllEdgeWeights(Player player) throws EmptyCollectionException {
+        for (Room room : getVertices()) {
+            for (Room neighbor : getAdjacentVertices(room)) {
+                updateEdgeWeight(room, neighbor, player);
+            }
+        }
+    }
+
+    /**
+     * Returns a weight overlay of a snapshot of this network with the edge weights the
+     * given player would see, without writing them into this network.
+     *
+     * @param player the player whose attributes influence the edge weights
+     * @return an overlay with the weights of the player
+     * @throws EmptyCollectionException if an operation on an empty collection fails
+     */
+    @Override
+    public WeightOverlay<Room> weightOverlay(Player player) throws EmptyCollectionException {
+        WeightOverlay<Room> overlay = snapshot().overlay();
+
+        for (Room room : overlay.getVertices()) {
+            for (Room neighbor : overlay.getAdjacentVertices(room)) {
+                overlay.updateEdgeWeight(room, neighbor, edgeWeight(room, neighbor, player));
+            }
+        }
+        return overlay;
+    }
+
+    /**
+     * Computes the weight of the corridor between two rooms: one move plus half the cost of
+     * each room. A path then pays the full cost of every room it passes through, whichever
+     * way the corridor is used, and no weight is ever negative, since no room costs one
+     * move or less.
+     *
+     * @param room1  one end of the corridor
+     * @param room2  the other end of the corridor
+     * @param player the player whose attributes influence the edge weight
+     * @return the weight of the corridor
+     * @throws EmptyCollectionException if an operation on an empty collection fails
+     */
+    private double edgeWeight(Room room1, Room room2, Player player) throws EmptyCollectionException {
+        return 1 + (roomCost(room1, player) + roomCost(room2, player)) / 2.0;
+    }
+
+    /**
+     * Computes the cost of a room: the damage the player would take from its enemies minus
+     * the healing of the next medkit and the kevlar in the room. A room that gives more than
+     * it takes has a cost between minus one and zero, closer to minus one the more it gives.
+     *
+     * @param room   the room
+     * @param player the player whose attributes influence the cost
+     * @return the cost of the room
+     * @throws EmptyCollectionException if an operation on an empty collection fails
+     */
+    private double roomCost(Room room, Player player) throws EmptyCollectionException {
         int totalDamageCost = 0;
 
-        for (Enemy enemy : to.getEnemies()) {
+        for (Enemy enemy : room.getEnemies()) {
             if (player.getFirePower() >= enemy.getFirePower()) {
                 continue;
             } else {
@@ -47,25 +118,9 @@ public class GameNetwork extends Network<Room> implements GameNetworkInterface {
             healingBenefit = Math.min(100 - player.getHealth(), medKit.getRecoveryPoints());
         }
 
-        int kevlarBenefit = to.getTotalKevlarPoints();
-
-        double newWeight = totalDamageCost - healingBenefit - kevlarBenefit;
-
-        super.updateEdgeWeight(from, to, newWeight);
-    }
+        int kevlarBenefit = room.getTotalKevlarPoints();
 
-    /**
-     * Updates the weights of all edges in the network based on the current state of the player.
-     *
-     * @param player the player whose attributes influence all edge weights
-     * @throws EmptyCollectionException if an operation on an empty collection fails
-     */
-    @Override
-    public void updateAllEdgeWeights(Player player) throws EmptyCollectionException {
-        for (Room room : getVertices()) {
-            for (Room neighbor : getAdjacentVertices(room)) {
-                updateEdgeWeight(room, neighbor, player);
-            }
-        }
+        int cost = totalDamageCost - healingBenefit - kevlarBenefit;
+        return cost >= 0 ? cost : (double) cost / (1 - cost);
     }
 }
@@ -1,6 +1,7 @@
 package models.world;
 
 import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.graphs.WeightOverlay;
 import models.entities.Player;
 
 public interface GameNetworkInterface {
@@ -8,4 +9,6 @@ public interface GameNetworkInterface {
     void updateEdgeWeight(Room from, Room to, Player player) throws EmptyCollectionException;
 
     void updateAllEdgeWeights(Player player) throws EmptyCollectionException;
+
+    WeightOverlay<Room> weightOverlay(Player player) throws EmptyCollectionException;
 }
\ No newline at end of file
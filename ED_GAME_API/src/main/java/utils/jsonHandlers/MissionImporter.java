@@ -1,7 +1,8 @@
 package utils.jsonHandlers;
 
+import dataStructures.graphs.NetworkBuilder;
+import dataStructures.graphs.VertexIndexMap;
 import dataStructures.lists.DoubleOrderedLinkedList;
-import dataStructures.lists.DoubleUnorderedLinkedList;
 import models.mission.Mission;
 import models.mission.MissionVersion;
 import models.mission.SimulationResult;
@@ -27,23 +28,41 @@ import java.io.FileReader;
 public class MissionImporter {
 
     /**
-     * A helper class to map room names to their corresponding objects.
+     * A helper class to find rooms by name in constant time, using the order in
+     * which they were added to the network builder as their index.
      */
-    private static class RoomMapping {
-        private String name;
-        private Room room;
+    private static class RoomIndex {
+        private final VertexIndexMap<String> indexByName;
+        private final NetworkBuilder<Room> builder;
 
-        public RoomMapping(String name, Room room) {
-            this.name = name;
-            this.room = room;
+        public RoomIndex(NetworkBuilder<Room> builder, int expectedRooms) {
+            this.indexByName = new VertexIndexMap<>(expectedRooms);
+            this.builder = builder;
         }
 
-        public String getName() {
-            return name;
+        /**
+         * Adds a room to the network builder and registers it under its name. When two
+         * rooms share a name, lookups find the first one.
+         *
+         * @param name the name of the room
+         * @param room the room
+         */
+        public void add(String name, Room room) {
+            builder.addVertex(room);
+            if (indexByName.get(name) == -1) {
+                indexByName.put(name, builder.vertexCount() - 1);
+            }
         }
 
-        public Room getRoom() {
-            return room;
+        /**
+         * Finds a room by its name.
+         *
+         * @param name the name of the room
+         * @return the room, or {@code null} if there is none with that name
+         */
+        public Room find(String name) {
+            int index = indexByName.get(name);
+            return index == -1 ? null : builder.getVertex(index);
         }
     }
 
@@ -67,14 +86,15 @@ public class MissionImporter {
             int versionNumber = ((Long) missionJson.get("versao")).intValue();
 
             JSONArray edificioArray = (JSONArray) missionJson.get("edificio");
+            JSONArray ligacoesArray = (JSONArray) missionJson.get("ligacoes");
             int numRooms = edificioArray.size();
-            GameNetwork gameNetwork = new GameNetwork(numRooms);
+            NetworkBuilder<Room> builder = new NetworkBuilder<>(numRooms, ligacoesArray.size());
 
-            DoubleUnorderedLinkedList<RoomMapping> roomMappings = new DoubleUnorderedLinkedList<>();
-            parseGameNetwork(edificioArray, roomMappings, gameNetwork);
+            RoomIndex roomMappings = new RoomIndex(builder, numRooms);
+            parseGameNetwork(edificioArray, roomMappings);
+            setupConnections(builder, ligacoesArray, roomMappings);
 
-            JSONArray ligacoesArray = (JSONArray) missionJson.get("ligacoes");
-            setupConnections(gameNetwork, ligacoesArray, roomMappings);
+            GameNetwork gameNetwork = builder.buildInto(new GameNetwork(Math.max(1, numRooms)));
 
             JSONArray enemiesArray = (JSONArray) missionJson.get("inimigos");
             assignEnemiesToRooms(roomMappings, enemiesArray);
@@ -89,6 +109,7 @@ public class MissionImporter {
             markTargetRoom(roomMappings, alvoJson);
 
             String targetRoomName = (String) alvoJson.get("divisao");
+            validateTargetReachable(gameNetwork, roomMappings, entradasSaidasArray, targetRoomName);
             mission.setTarget(targetRoomName);
 
             MissionVersion missionVersion = new MissionVersion(versionNumber, gameNetwork);
@@ -107,30 +128,28 @@ public class MissionImporter {
     }
 
     /**
-     * Parses the game network and initializes room mappings.
+     * Parses the rooms of the game network and indexes them by name.
      *
      * @param edificioArray the JSON array containing room names
-     * @param roomMappings  the list of room mappings to populate
-     * @param gameNetwork   the game network to populate with vertices
+     * @param roomMappings  the room index to populate, which adds the rooms to its builder
      */
-    private static void parseGameNetwork(JSONArray edificioArray, DoubleUnorderedLinkedList<RoomMapping> roomMappings, GameNetwork gameNetwork) {
+    private static void parseGameNetwork(JSONArray edificioArray, RoomIndex roomMappings) {
         for (Object obj : edificioArray) {
             String roomName = (String) obj;
             Room room = new Room(roomName);
-            gameNetwork.addVertex(room);
 
-            roomMappings.addToRear(new RoomMapping(roomName, room));
+            roomMappings.add(roomName, room);
         }
     }
 
     /**
      * Sets up connections between rooms in the game network based on JSON data.
      *
-     * @param gameNetwork   the game network to populate with edges
+     * @param builder       the network builder to populate with edges
      * @param ligacoesArray the JSON array containing room connections
-     * @param roomMappings  the list of room mappings to reference
+     * @param roomMappings  the room index to reference
      */
-    private static void setupConnections(GameNetwork gameNetwork, JSONArray ligacoesArray, DoubleUnorderedLinkedList<RoomMapping> roomMappings) {
+    private static void setupConnections(NetworkBuilder<Room> builder, JSONArray ligacoesArray, RoomIndex roomMappings) {
         for (Object obj : ligacoesArray) {
             JSONArray connection = (JSONArray) obj;
             String room1Name = (String) connection.get(0);
@@ -140,7 +159,7 @@ public class MissionImporter {
             Room room2 = findRoomByName(room2Name, roomMappings);
 
             if (room1 != null && room2 != null) {
-                gameNetwork.addEdge(room1, room2, 1.0);
+                builder.addEdge(room1, room2, 1.0);
             }
         }
     }
@@ -148,10 +167,10 @@ public class MissionImporter {
     /**
      * Assigns enemies to rooms based on JSON data.
      *
-     * @param roomMappings the list of room mappings to reference
+     * @param roomMappings the room index to reference
      * @param enemiesArray the JSON array containing enemy data
      */
-    private static void assignEnemiesToRooms(DoubleUnorderedLinkedList<RoomMapping> roomMappings, JSONArray enemiesArray) {
+    private static void assignEnemiesToRooms(RoomIndex roomMappings, JSONArray enemiesArray) {
         for (Object obj : enemiesArray) {
             JSONObject enemyJson = (JSONObject) obj;
 
@@ -170,10 +189,10 @@ public class MissionImporter {
     /**
      * Assigns items to rooms based on JSON data.
      *
-     * @param roomMappings the list of room mappings to reference
+     * @param roomMappings the room index to reference
      * @param itemsArray   the JSON array containing item data
      */
-    private static void assignItemsToRooms(DoubleUnorderedLinkedList<RoomMapping> roomMappings, JSONArray itemsArray) {
+    private static void assignItemsToRooms(RoomIndex roomMappings, JSONArray itemsArray) {
         for (Object obj : itemsArray) {
             JSONObject itemJson = (JSONObject) obj;
 
@@ -200,10 +219,10 @@ public class MissionImporter {
     /**
      * Marks rooms as entrances or exits based on JSON data.
      *
-     * @param roomMappings        the list of room mappings to reference
+     * @param roomMappings        the room index to reference
      * @param entradasSaidasArray the JSON array containing entrance/exit room names
      */
-    private static void markEntrancesExits(DoubleUnorderedLinkedList<RoomMapping> roomMappings, JSONArray entradasSaidasArray) {
+    private static void markEntrancesExits(RoomIndex roomMappings, JSONArray entradasSaidasArray) {
         for (Object obj : entradasSaidasArray) {
             String roomName = (String) obj;
             Room room = findRoomByName(roomName, roomMappings);
@@ -216,10 +235,10 @@ public class MissionImporter {
     /**
      * Marks the target room for the mission based on JSON data.
      *
-     * @param roomMappings the list of room mappings to reference
+     * @param roomMappings the room index to reference
      * @param alvoJson     the JSON object containing the target room name
      */
-    private static void markTargetRoom(DoubleUnorderedLinkedList<RoomMapping> roomMappings, JSONObject alvoJson) {
+    private static void markTargetRoom(RoomIndex roomMappings, JSONObject alvoJson) {
         String roomName = (String) alvoJson.get("divisao");
         Room room = findRoomByName(roomName, roomMappings);
         if (room != null) {
@@ -228,18 +247,43 @@ public class MissionImporter {
     }
 
     /**
-     * Finds a {@link Room} object by its name using room mappings.
+     * Makes sure the target room can be reached from at least one entrance, using the
+     * connected components of the game network so the check takes constant time per entrance.
      *
-     * @param name         the name of the room to find
-     * @param roomMappings the list of room mappings to search
-     * @return the matching {@code Room} object, or {@code null} if not found
+     * @param gameNetwork         the game network of the mission
+     * @param roomMappings        the room index to reference
+     * @param entradasSaidasArray the JSON array containing entrance/exit room names
+     * @param targetRoomName      the name of the target room
+     * @throws IllegalArgumentException if the target room does not exist, if there are no
+     *                                  entrances or if the target cannot be reached from any of them
      */
-    private static Room findRoomByName(String name, DoubleUnorderedLinkedList<RoomMapping> roomMappings) {
-        for (RoomMapping mapping : roomMappings) {
-            if (mapping.getName().equals(name)) {
-                return mapping.getRoom();
+    private static void validateTargetReachable(GameNetwork gameNetwork, RoomIndex roomMappings,
+                                                JSONArray entradasSaidasArray, String targetRoomName) {
+        Room target = findRoomByName(targetRoomName, roomMappings);
+        if (target == null) {
+            throw new IllegalArgumentException("Target room not found: " + targetRoomName);
+        }
+        if (entradasSaidasArray.isEmpty()) {
+            throw new IllegalArgumentException("Mission has no entrances");
+        }
+
+        for (Object obj : entradasSaidasArray) {
+            Room entry = findRoomByName((String) obj, roomMappings);
+            if (entry != null && gameNetwork.isConnected(entry, target)) {
+                return;
             }
         }
-        return null;
+        throw new IllegalArgumentException("Target room cannot be reached from any entrance: " + targetRoomName);
+    }
+
+    /**
+     * Finds a {@link Room} object by its name using the room index.
+     *
+     * @param name         the name of the room to find
+     * @param roomMappings the room index to search
+     * @return the matching {@code Room} object, or {@code null} if not found
+     */
+    private static Room findRoomByName(String name, RoomIndex roomMappings) {
+        return roomMappings.find(name);
     }
 }
@@ -0,0 +1,83 @@
+package utils.jsonHandlers;
+
+import dataStructures.graphs.MappedNetwork;
+import dataStructures.graphs.NetworkBuilder;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * A utility class for converting the building of a mission JSON file into a mapped network file.
+ *
+ * The rooms and connections of the mission are written in the binary format of {@link MappedNetwork},
+ * which opens without parsing the JSON again. The conversion itself reads the whole mission into
+ * memory. Rooms are identified by their names and every connection weighs 1, as in
+ * {@link MissionImporter}. Enemies, items and the rest of the mission are not part of the map.
+ */
+public class MissionMapConverter {
+
+    /**
+     * Converts the mission JSON files given on the command line.
+     *
+     * @param args the path of the mission JSON file and the path of the map file to write
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: MissionMapConverter <mission.json> <output map file>");
+            return;
+        }
+
+        try {
+            convert(args[0], args[1]);
+        } catch (IOException | ParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads the building of a mission JSON file and writes it as a mapped network file.
+     *
+     * When two rooms share a name, only the first one is kept, and connections to rooms that
+     * do not exist are skipped, as the importer does.
+     *
+     * @param jsonPath   the path of the mission JSON file
+     * @param outputPath the path of the map file to write, replaced if it exists
+     * @throws IOException    if a file cannot be read or written
+     * @throws ParseException if the mission file is not valid JSON
+     */
+    public static void convert(String jsonPath, String outputPath) throws IOException, ParseException {
+        JSONParser parser = new JSONParser();
+        JSONObject missionJson;
+
+        try (FileReader reader = new FileReader(jsonPath)) {
+            missionJson = (JSONObject) parser.parse(reader);
+        }
+
+        JSONArray edificioArray = (JSONArray) missionJson.get("edificio");
+        JSONArray ligacoesArray = (JSONArray) missionJson.get("ligacoes");
+        NetworkBuilder<String> builder = new NetworkBuilder<>(edificioArray.size(), ligacoesArray.size());
+
+        for (Object obj : edificioArray) {
+            String roomName = (String) obj;
+            if (!builder.contains(roomName)) {
+                builder.addVertex(roomName);
+            }
+        }
+
+        for (Object obj : ligacoesArray) {
+            JSONArray connection = (JSONArray) obj;
+            String room1Name = (String) connection.get(0);
+            String room2Name = (String) connection.get(1);
+
+            if (builder.contains(room1Name) && builder.contains(room2Name)) {
+                builder.addEdge(room1Name, room2Name, 1.0);
+            }
+        }
+
+        MappedNetwork.write(builder.freeze(), outputPath, true);
+    }
+}
@@ -0,0 +1,121 @@
+package Simulation;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.graphs.DynamicShortestPathTree;
+import models.entities.Enemy;
+import models.entities.Player;
+import models.mission.Mission;
+import models.mission.MissionVersion;
+import models.world.GameNetwork;
+import models.world.Room;
+import org.junit.jupiter.api.Test;
+import utils.jsonHandlers.MissionImporter;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AbstractSimulationStrategyTest {
+
+    private static final String MISSION_PATH = "../IMF/Mission_Fogo_Oculto_v1.json";
+
+    @Test
+    void testNextRoomComesFromRepairedRouteTree() throws EmptyCollectionException {
+        MissionVersion version = importVersion();
+        GameNetwork building = version.getBuilding();
+        AutomaticSimulationStrategy strategy = new AutomaticSimulationStrategy();
+        Player player = new Player("Cruz", 10, 100, 3);
+
+        Room target = strategy.findTargetRoom(version);
+        Room currentRoom = strategy.findBestEntryPoint(player, version);
+        Room nextRoom = strategy.determineNextRoom(currentRoom, target, building, player);
+        DynamicShortestPathTree<Room> routeTree = strategy.findRouteTree(target, building);
+        assertEquals(building.size(), routeTree.getLastRepairSize());
+
+        currentRoom = nextRoom;
+        Room ahead = building.shortestPathTree(target).previousVertex(currentRoom);
+        ahead.addEnemy(new Enemy("reinforcement", 40, ahead));
+        nextRoom = strategy.determineNextRoom(currentRoom, target, building, player);
+
+        assertSame(routeTree, strategy.findRouteTree(target, building));
+        assertTrue(routeTree.getLastRepairSize() < building.size());
+        assertEquals(building.shortestPathTree(target).previousVertex(currentRoom), nextRoom);
+        assertEquals(building.shortestPathWeight(currentRoom, target), routeTree.distanceTo(currentRoom), 1e-9);
+    }
+
+    @Test
+    void testRouteHintFollowsWeightedRoute() throws EmptyCollectionException {
+        GameNetwork building = importVersion().getBuilding();
+        AutomaticSimulationStrategy strategy = new AutomaticSimulationStrategy();
+        building.updateAllEdgeWeights(new Player("Cruz", 10, 100, 3));
+
+        Room from = findRoom(building, "Escada 2");
+        Room guardedCorridor = findRoom(building, "Corredor 1");
+        Room emergencyStairs = findEmergencyStairs(building);
+        assertTrue(contains(building.iteratorFewestEdgesPath(from, emergencyStairs), guardedCorridor));
+
+        Iterator<Room> hint = strategy.findRouteHint(from, emergencyStairs, building);
+        Iterator<Room> expected = building.iteratorShortestPath(from, emergencyStairs);
+        int rooms = 0;
+        while (expected.hasNext()) {
+            Room room = hint.next();
+            assertSame(expected.next(), room);
+            assertNotSame(guardedCorridor, room);
+            rooms++;
+        }
+        assertFalse(hint.hasNext());
+        assertEquals(5, rooms);
+    }
+
+    @Test
+    void testPathCostComesFromAllPairs() throws EmptyCollectionException {
+        GameNetwork building = importVersion().getBuilding();
+        AutomaticSimulationStrategy strategy = new AutomaticSimulationStrategy();
+        building.updateAllEdgeWeights(new Player("Cruz", 10, 100, 3));
+
+        Room from = findRoom(building, "Escada 2");
+        Room emergencyStairs = findEmergencyStairs(building);
+
+        // the kevlar in Escada 2 takes 25 / 26 off the cost of the path, half on its corridor
+        assertEquals(4.0 - 12.5 / 26, strategy.findPathCost(from, emergencyStairs, building), 1e-9);
+        assertEquals(building.shortestPathWeight(from, emergencyStairs), strategy.findPathCost(from, emergencyStairs, building));
+        assertSame(building.allPairsShortestPaths(), building.allPairsShortestPaths());
+
+        building.updateEdgeWeight(findRoom(building, "Porteiro"), findRoom(building, "Escada 1"), 20.0);
+        assertEquals(building.shortestPathWeight(from, emergencyStairs), strategy.findPathCost(from, emergencyStairs, building));
+        assertEquals(18.0 - 12.5 / 26, strategy.findPathCost(from, emergencyStairs, building), 1e-9);
+    }
+
+    private static Room findEmergencyStairs(GameNetwork building) throws EmptyCollectionException {
+        for (Room neighbor : building.getAdjacentVertices(findRoom(building, "Garagem"))) {
+            if (!neighbor.getName().equals("Escada 1")) {
+                return neighbor;
+            }
+        }
+        throw new AssertionError("Emergency stairs not found");
+    }
+
+    private static boolean contains(Iterator<Room> path, Room room) {
+        while (path.hasNext()) {
+            if (path.next() == room) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Room findRoom(GameNetwork building, String name) {
+        for (Room room : building.getVertices()) {
+            if (room.getName().equals(name)) {
+                return room;
+            }
+        }
+        throw new AssertionError("Room not found: " + name);
+    }
+
+    private static MissionVersion importVersion() {
+        Mission mission = MissionImporter.importMission(MISSION_PATH);
+        assertNotNull(mission);
+        return mission.selectGameVersion(1);
+    }
+}
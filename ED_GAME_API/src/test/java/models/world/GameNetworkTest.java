@@ -0,0 +1,102 @@
+package models.world;
+
+import dataStructures.exceptions.EmptyCollectionException;
+import dataStructures.graphs.ShortestPathTree;
+import dataStructures.lists.DoubleUnorderedLinkedList;
+import models.entities.Player;
+import models.items.MedKit;
+import models.mission.Mission;
+import org.junit.jupiter.api.Test;
+import utils.jsonHandlers.MissionImporter;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameNetworkTest {
+
+    private static final String MISSION_PATH = "../IMF/Mission_Fogo_Oculto_v1.json";
+
+    @Test
+    void testWeightsAreNeverNegative() throws EmptyCollectionException {
+        GameNetwork building = importBuilding();
+        Player player = new Player("Cruz", 10, 40, 3);
+        player.pickUpMedKit(new MedKit("kit de vida", 50));
+
+        building.updateAllEdgeWeights(player);
+
+        for (Room room : building.getVertices()) {
+            for (Room neighbor : building.getAdjacentVertices(room)) {
+                assertTrue(building.getEdgeWeight(room, neighbor) > 0);
+                assertEquals(building.getEdgeWeight(room, neighbor), building.getEdgeWeight(neighbor, room));
+            }
+        }
+        Room target = findTarget(building);
+        assertTrue(building.shortestPathWeight(findRoom(building, "Heliporto"), target) < Double.POSITIVE_INFINITY);
+        assertTrue(building.dynamicShortestPathTree(target).hasPathTo(findRoom(building, "Porteiro")));
+    }
+
+    @Test
+    void testKevlarMakesCorridorCheaper() throws EmptyCollectionException {
+        GameNetwork building = importBuilding();
+        building.updateAllEdgeWeights(new Player("Cruz", 10, 100, 3));
+
+        double kevlarCorridor = building.getEdgeWeight(findRoom(building, "Escada 2"), findRoom(building, "Porteiro"));
+        assertTrue(kevlarCorridor > 0);
+        assertTrue(kevlarCorridor < 1);
+        assertEquals(1.0, building.getEdgeWeight(findRoom(building, "Escada 1"), findRoom(building, "Garagem")));
+    }
+
+    @Test
+    void testRouteAvoidsHighDamageRoom() throws EmptyCollectionException {
+        GameNetwork building = importBuilding();
+        Player player = new Player("Cruz", 10, 100, 3);
+        Room target = findTarget(building);
+        Room camaratas = findRoom(building, "Camaratas");
+
+        DoubleUnorderedLinkedList<Room> entrances = new DoubleUnorderedLinkedList<>();
+        for (Room room : building.getVertices()) {
+            if (room.isExistEntry()) {
+                entrances.addToRear(room);
+            }
+        }
+        assertEquals("Heliporto", building.fewestEdgesTree(entrances).sourceOf(target).getName());
+
+        building.updateAllEdgeWeights(player);
+        ShortestPathTree<Room> tree = building.shortestPathTree(entrances);
+        Room entry = tree.sourceOf(target);
+
+        assertNotEquals("Heliporto", entry.getName());
+        Iterator<Room> path = building.iteratorShortestPath(entry, target);
+        int rooms = 0;
+        while (path.hasNext()) {
+            assertNotSame(camaratas, path.next());
+            rooms++;
+        }
+        assertEquals(11, rooms);
+    }
+
+    private static GameNetwork importBuilding() {
+        Mission mission = MissionImporter.importMission(MISSION_PATH);
+        assertNotNull(mission);
+        return mission.selectGameVersion(1).getBuilding();
+    }
+
+    private static Room findTarget(GameNetwork building) {
+        for (Room room : building.getVertices()) {
+            if (room.isTarget()) {
+                return room;
+            }
+        }
+        throw new AssertionError("Target room not found");
+    }
+
+    private static Room findRoom(GameNetwork building, String name) {
+        for (Room room : building.getVertices()) {
+            if (room.getName().equals(name)) {
+                return room;
+            }
+        }
+        throw new AssertionError("Room not found: " + name);
+    }
+}
@@ -0,0 +1,52 @@
+package utils.jsonHandlers;
+
+import models.mission.Mission;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissionImporterTest {
+
+    private static final String ROOMS = "\"edificio\": [\"Entrada\", \"Corredor\", \"Cofre\", \"Arrecadacao\"], "
+            + "\"ligacoes\": [[\"Entrada\", \"Corredor\"], [\"Corredor\", \"Cofre\"]], "
+            + "\"inimigos\": [], \"itens\": [], ";
+
+    @Test
+    void testImportsReachableTarget() throws IOException {
+        Mission mission = importMission("[\"Entrada\"]", "Cofre");
+
+        assertNotNull(mission);
+        assertEquals("Cofre", mission.getTarget());
+    }
+
+    @Test
+    void testMissingTargetIsRejected() throws IOException {
+        assertNull(importMission("[\"Entrada\"]", "Laboratorio"));
+    }
+
+    @Test
+    void testMissionWithoutEntrancesIsRejected() throws IOException {
+        assertNull(importMission("[]", "Cofre"));
+    }
+
+    @Test
+    void testUnreachableTargetIsRejected() throws IOException {
+        assertNull(importMission("[\"Entrada\"]", "Arrecadacao"));
+    }
+
+    private static Mission importMission(String entrances, String target) throws IOException {
+        Path file = Files.createTempFile("mission", ".json");
+        try {
+            Files.writeString(file, "{\"cod-missao\": \"teste\", \"versao\": 1, " + ROOMS
+                    + "\"entradas-saidas\": " + entrances + ", "
+                    + "\"alvo\": {\"divisao\": \"" + target + "\", \"tipo\": \"quimico\"}}");
+            return MissionImporter.importMission(file.toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}